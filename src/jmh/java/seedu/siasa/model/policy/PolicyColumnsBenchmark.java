@@ -0,0 +1,111 @@
+package seedu.siasa.model.policy;
+
+import static seedu.siasa.model.policy.PolicyComparator.POLICY_SORT_BY_COMMISSION_DSC;
+import static seedu.siasa.model.policy.PolicyComparator.POLICY_TIE_BREAK;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.siasa.model.contact.Address;
+import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.contact.Email;
+import seedu.siasa.model.contact.Name;
+import seedu.siasa.model.contact.Phone;
+import seedu.siasa.model.util.KeyedSort;
+
+/**
+ * Compares sorting policies and summing their commission through the {@code Policy} objects with doing so
+ * through the {@code PolicyColumns} of a {@code UniquePolicyList}. Run with {@code gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolicyColumnsBenchmark {
+
+    private static final Comparator<Policy> ORDER = POLICY_SORT_BY_COMMISSION_DSC.thenComparing(POLICY_TIE_BREAK);
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private final UniquePolicyList policies = new UniquePolicyList();
+    private List<Policy> policyList;
+    private int[] rows;
+
+    /**
+     * Fills the list with {@code size} policies of random payments and commissions, spread over 1000 owners.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(2103);
+        List<Contact> owners = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            owners.add(new Contact(new Name("Contact " + i), new Phone("91234567"), new Email("contact@example.com"),
+                    new Address("Block " + i), Collections.emptySet()));
+        }
+        List<Policy> generated = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            PaymentStructure payment = new PaymentStructure(random.nextInt(100000) + 1, 12, 120);
+            Commission commission = new Commission(random.nextInt(50) + 1, 12);
+            CoverageExpiryDate expiryDate = new CoverageExpiryDate(LocalDate.of(2030, 1, 1)
+                    .plusDays(random.nextInt(3650)));
+            generated.add(new Policy(new Title("Policy " + i), payment, expiryDate, commission,
+                    owners.get(i % owners.size()), Collections.emptySet()));
+        }
+        policies.setPolicies(generated);
+        policyList = policies.asUnmodifiableObservableList();
+        rows = new int[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = i;
+        }
+    }
+
+    @Benchmark
+    public Policy[] sortByComparator() {
+        Policy[] sorted = policyList.toArray(new Policy[0]);
+        Arrays.sort(sorted, ORDER);
+        return sorted;
+    }
+
+    @Benchmark
+    public Policy[] sortByColumn() {
+        Policy[] sorted = policyList.toArray(new Policy[0]);
+        long[] keys = policies.getSortKeys((PolicyComparator.KeyOrder) ORDER, rows).get();
+        KeyedSort.sort(sorted, keys, ORDER, false);
+        return sorted;
+    }
+
+    @Benchmark
+    public double sumCommissionOfPolicies() {
+        double total = 0;
+        for (Policy policy : policyList) {
+            total += policy.getTotalCommission();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double sumCommissionColumn() {
+        return policies.getTotalCommission();
+    }
+}
@@ -56,7 +56,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        SiasaStorage siasaStorage = new JsonSiasaStorage(userPrefs.getSiasaFilePath());
+        SiasaStorage siasaStorage =
+                new JsonSiasaStorage(userPrefs.getSiasaFilePath(), userPrefs.getJournalCompactionThreshold());
         storage = new StorageManager(siasaStorage, userPrefsStorage);
 
         initLogging(config);
@@ -174,6 +175,12 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping SIASA ] =============================");
+        logger.info(logic.getSaveStatistics().toString());
+        try {
+            logic.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save SIASA " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
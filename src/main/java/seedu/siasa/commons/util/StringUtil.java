@@ -113,6 +113,35 @@ public class StringUtil {
         return countEdits == 1;
     }
 
+    /**
+     * Returns the edit (Levenshtein) distance between {@code a} and {@code b}, i.e. the minimum number of
+     * single character insertions, deletions and substitutions needed to transform {@code a} to {@code b}.
+     * @throws NullPointerException if {@code a} or {@code b} is null.
+     */
+    public static int getEditDistance(String a, String b) {
+        requireAllNonNull(a, b);
+
+        int[] previousRow = new int[b.length() + 1];
+        int[] currentRow = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previousRow[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitutionCost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+
+        return previousRow[b.length()];
+    }
+
     /**
      * Returns true if two strings are similar, defined as the strings
      * having an edit distance of zero or one (case insensitive).
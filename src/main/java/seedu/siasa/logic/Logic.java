@@ -1,6 +1,8 @@
 package seedu.siasa.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.siasa.commons.core.GuiSettings;
@@ -24,6 +26,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler to notify of the error message of each failed save of the SIASA.
+     * Saves run in the background, so the handler is called on the saving thread, not the one executing commands.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Returns how many saves of the SIASA each kind of command caused or avoided, by changing nothing.
+     */
+    SaveStatistics getSaveStatistics();
+
+    /**
+     * Waits until the changes made by the commands executed so far have been saved.
+     * @throws IOException If the last save failed.
+     */
+    void flush() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
@@ -2,6 +2,8 @@ package seedu.siasa.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -15,8 +17,10 @@ import seedu.siasa.logic.parser.exceptions.ParseException;
 import seedu.siasa.model.Model;
 import seedu.siasa.model.ReadOnlySiasa;
 import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.history.Change;
 import seedu.siasa.model.policy.Policy;
 import seedu.siasa.storage.Storage;
+import seedu.siasa.storage.WriteBehindSiasaSaver;
 
 /**
  * The main LogicManager of the app.
@@ -26,16 +30,28 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final WriteBehindSiasaSaver saver;
     private final SiasaParser siasaParser;
+    private final SaveStatistics saveStatistics = new SaveStatistics();
+    // The version of the SIASA last handed to the saver, or as it was loaded.
+    private long savedVersion;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the SIASA
+     * in the background after each command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new WriteBehindSiasaSaver(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model}, which saves the SIASA with {@code saver}.
+     */
+    public LogicManager(Model model, WriteBehindSiasaSaver saver) {
         this.model = model;
-        this.storage = storage;
+        this.saver = saver;
         siasaParser = new SiasaParser();
+        savedVersion = model.getSiasaVersion();
     }
 
     @Override
@@ -44,17 +60,44 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = siasaParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
         try {
-            storage.saveSiasa(model.getSiasa());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            commandResult = command.execute(model);
+        } finally {
+            // Whatever the command changed, even if it then failed, can be undone as one step.
+            model.commitChanges();
+        }
+
+        // A command that failed after making changes leaves the version changed, so they are saved after the
+        // next command, whatever it is.
+        long version = model.getSiasaVersion();
+        List<Change> changes = model.takeAppliedChanges();
+        boolean isChanged = version != savedVersion;
+        if (isChanged) {
+            // The snapshot is cheap to take, and keeps the SIASA as it is now while it is written in the background.
+            saver.requestSave(model.getSiasaSnapshot(), changes);
+            savedVersion = version;
         }
+        saveStatistics.record(command.getClass().getSimpleName(), isChanged);
+        logger.fine(saveStatistics.toString());
 
         return commandResult;
     }
 
+    @Override
+    public SaveStatistics getSaveStatistics() {
+        return saveStatistics;
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        saver.setFailureHandler(ioe -> handler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    @Override
+    public void flush() throws IOException {
+        saver.flush();
+    }
+
     @Override
     public ReadOnlySiasa getAddressBook() {
         return model.getSiasa();
@@ -0,0 +1,64 @@
+package seedu.siasa.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Counts, for each kind of command, how many times it was executed and how many of those executions changed
+ * nothing, so that saving the SIASA was avoided.
+ */
+public class SaveStatistics {
+
+    private final Map<String, Counts> countsPerCommand = new TreeMap<>();
+
+    /**
+     * Records an execution of the command named {@code commandName}, which caused a save if {@code isSaved}.
+     */
+    public void record(String commandName, boolean isSaved) {
+        requireNonNull(commandName);
+        Counts counts = countsPerCommand.computeIfAbsent(commandName, name -> new Counts());
+        counts.executions++;
+        if (!isSaved) {
+            counts.savesAvoided++;
+        }
+    }
+
+    /**
+     * Returns the number of times the command named {@code commandName} was executed.
+     */
+    public int getExecutions(String commandName) {
+        Counts counts = countsPerCommand.get(commandName);
+        return counts == null ? 0 : counts.executions;
+    }
+
+    /**
+     * Returns the number of executions of the command named {@code commandName} that did not cause a save.
+     */
+    public int getSavesAvoided(String commandName) {
+        Counts counts = countsPerCommand.get(commandName);
+        return counts == null ? 0 : counts.savesAvoided;
+    }
+
+    /**
+     * Returns the number of executions of all commands that did not cause a save.
+     */
+    public int getTotalSavesAvoided() {
+        return countsPerCommand.values().stream().mapToInt(counts -> counts.savesAvoided).sum();
+    }
+
+    @Override
+    public String toString() {
+        return countsPerCommand.entrySet().stream()
+                .map(entry -> entry.getKey() + ": " + entry.getValue().savesAvoided + " of "
+                        + entry.getValue().executions + " saves avoided")
+                .collect(Collectors.joining("; ", "Saves avoided: " + getTotalSavesAvoided() + " [", "]"));
+    }
+
+    private static class Counts {
+        private int executions;
+        private int savesAvoided;
+    }
+}
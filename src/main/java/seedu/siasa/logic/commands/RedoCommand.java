@@ -0,0 +1,26 @@
+package seedu.siasa.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.siasa.logic.commands.exceptions.CommandException;
+import seedu.siasa.model.Model;
+
+/**
+ * Makes the most recently undone command's changes to the SIASA again.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canRedo()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+        model.redo();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,26 @@
+package seedu.siasa.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.siasa.logic.commands.exceptions.CommandException;
+import seedu.siasa.model.Model;
+
+/**
+ * Reverts the most recent command that changed the SIASA.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.canUndo()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+        model.undo();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
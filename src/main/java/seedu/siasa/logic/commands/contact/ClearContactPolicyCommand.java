@@ -11,8 +11,6 @@ import seedu.siasa.logic.commands.CommandResult;
 import seedu.siasa.logic.commands.exceptions.CommandException;
 import seedu.siasa.model.Model;
 import seedu.siasa.model.contact.Contact;
-import seedu.siasa.model.policy.Policy;
-import seedu.siasa.model.policy.PolicyIsOwnedByPredicate;
 
 /**
  * Deletes a contact's policies identified using it's displayed index from the contact list.
@@ -46,9 +44,7 @@ public class ClearContactPolicyCommand extends Command {
         }
 
         Contact owner = lastShownList.get(targetIndex.getZeroBased());
-        model.updateFilteredPolicyList(new PolicyIsOwnedByPredicate(owner));
-        List<Policy> policyList = model.getFilteredPolicyList();
-        int deletedPolicies = policyList.size();
+        int deletedPolicies = model.getPoliciesBelongingTo(owner).size();
 
         model.removePoliciesBelongingTo(owner);
 
@@ -8,14 +8,12 @@ import static seedu.siasa.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.siasa.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.siasa.model.Model.PREDICATE_SHOW_ALL_CONTACTS;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-import javafx.util.Pair;
 import seedu.siasa.commons.core.Messages;
 import seedu.siasa.commons.core.index.Index;
 import seedu.siasa.commons.util.CollectionUtil;
@@ -28,7 +26,6 @@ import seedu.siasa.model.contact.Contact;
 import seedu.siasa.model.contact.Email;
 import seedu.siasa.model.contact.Name;
 import seedu.siasa.model.contact.Phone;
-import seedu.siasa.model.policy.Policy;
 import seedu.siasa.model.tag.Tag;
 
 /**
@@ -86,33 +83,12 @@ public class EditContactCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_CONTACT);
         }
 
-        ArrayList<Pair<Policy, Policy>> policiesToBeUpdated = new ArrayList<>();
-        List<Policy> contactPolicies = model.getPoliciesBelongingTo(contactToEdit);
-
-        for (Policy p : contactPolicies) {
-            policiesToBeUpdated.add(new Pair<>(p, newPolicyWithNewOwner(p, editedContact)));
-        }
-
-        for (Pair<Policy, Policy> pair : policiesToBeUpdated) {
-            model.setPolicy(pair.getKey(), pair.getValue());
-        }
-
+        // The policies of the contact refer to it by id, so they need not be updated.
         model.setContact(contactToEdit, editedContact);
         model.updateFilteredContactList(PREDICATE_SHOW_ALL_CONTACTS);
         return new CommandResult(String.format(MESSAGE_EDIT_CONTACT_SUCCESS, editedContact));
     }
 
-    private static Policy newPolicyWithNewOwner(Policy policy, Contact owner) {
-        return new Policy(
-                policy.getTitle(),
-                policy.getPaymentStructure(),
-                policy.getCoverageExpiryDate().orElse(null),
-                policy.getCommission(),
-                owner,
-                policy.getTags()
-        );
-    }
-
     /**
      * Creates and returns a {@code Contact} with the details of {@code contactToEdit}
      * edited with {@code editContactDescriptor}.
@@ -126,7 +102,8 @@ public class EditContactCommand extends Command {
         Address updatedAddress = editContactDescriptor.getAddress().orElse(contactToEdit.getAddress());
         Set<Tag> updatedTags = editContactDescriptor.getTags().orElse(contactToEdit.getTags());
 
-        return new Contact(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags);
+        return new Contact(contactToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress,
+                updatedTags);
     }
 
     @Override
@@ -4,9 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.siasa.commons.core.Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW;
 import static seedu.siasa.commons.core.Messages.MESSAGE_CONTACTS_LIST_EMPTY;
 
+import java.util.Set;
+
 import seedu.siasa.logic.commands.Command;
 import seedu.siasa.logic.commands.CommandResult;
 import seedu.siasa.model.Model;
+import seedu.siasa.model.contact.Contact;
 import seedu.siasa.model.contact.NameContainsKeywordsPredicate;
 
 /**
@@ -31,7 +34,9 @@ public class FindContactCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredContactList(predicate);
+        // Resolves the keywords through the name index rather than testing the predicate on every contact.
+        Set<Contact> matches = model.getContactsWithNameContainingAny(predicate.getKeywords());
+        model.updateFilteredContactList(matches::contains);
 
         if (model.getFilteredContactList().size() > 0) {
             return new CommandResult(
@@ -0,0 +1,68 @@
+package seedu.siasa.logic.commands.contact;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.siasa.commons.core.Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW;
+import static seedu.siasa.commons.core.Messages.MESSAGE_CONTACTS_LIST_EMPTY;
+import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.siasa.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.siasa.logic.parser.CliSyntax.PREFIX_TAG_MATCH;
+
+import java.util.Set;
+
+import seedu.siasa.logic.commands.Command;
+import seedu.siasa.logic.commands.CommandResult;
+import seedu.siasa.model.Model;
+import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.tag.Tag;
+import seedu.siasa.model.tag.TagMatchMode;
+
+/**
+ * Finds and lists all contacts in SIASA that have any (or all) of the given tags.
+ * Tag matching is case insensitive.
+ */
+public class FindContactTagCommand extends Command {
+
+    public static final String COMMAND_WORD = "findcontacttag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all contacts that have any of the specified "
+            + "tags (or all of them, with " + PREFIX_TAG_MATCH + "all) and displays them as a list with index numbers. "
+            + "Tags are matched case-insensitively.\n"
+            + "Parameters: " + PREFIX_TAG + "TAG [" + PREFIX_TAG + "MORE_TAGS]... [" + PREFIX_TAG_MATCH + "any|all]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "friends "
+            + PREFIX_TAG + "colleagues " + PREFIX_TAG_MATCH + "all";
+
+    private final Set<Tag> tags;
+    private final TagMatchMode mode;
+
+    /**
+     * Creates a FindContactTagCommand to find the contacts having any or all (depending on {@code mode})
+     * of the {@code tags}.
+     */
+    public FindContactTagCommand(Set<Tag> tags, TagMatchMode mode) {
+        requireAllNonNull(tags, mode);
+        this.tags = tags;
+        this.mode = mode;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Contact> matches = model.getContactsWithTags(tags, mode);
+        model.updateFilteredContactList(matches::contains);
+
+        if (model.getFilteredContactList().size() > 0) {
+            return new CommandResult(
+                    String.format(MESSAGE_CONTACTS_LISTED_OVERVIEW, model.getFilteredContactList().size()));
+        } else {
+            return new CommandResult(MESSAGE_CONTACTS_LIST_EMPTY);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindContactTagCommand // instanceof handles nulls
+                && tags.equals(((FindContactTagCommand) other).tags)
+                && mode == ((FindContactTagCommand) other).mode); // state check
+    }
+}
@@ -3,7 +3,9 @@ package seedu.siasa.logic.commands.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.siasa.commons.core.Messages.MESSAGE_POLICIES_LIST_EMPTY;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import seedu.siasa.commons.core.Messages;
 import seedu.siasa.commons.core.index.Index;
@@ -12,7 +14,7 @@ import seedu.siasa.logic.commands.CommandResult;
 import seedu.siasa.logic.commands.exceptions.CommandException;
 import seedu.siasa.model.Model;
 import seedu.siasa.model.contact.Contact;
-import seedu.siasa.model.policy.PolicyIsOwnedByPredicate;
+import seedu.siasa.model.policy.Policy;
 
 /**
  * Finds and lists all contacts in SIASA whose name contains any of the argument keywords.
@@ -46,13 +48,16 @@ public class ListContactPolicyCommand extends Command {
         }
 
         Contact contact = lastShownList.get(contactId.getZeroBased());
-        model.updateFilteredPolicyList(new PolicyIsOwnedByPredicate(contact));
+        // Only the policies of the contact are looked up, instead of testing the owner of every policy.
+        Set<Policy> contactPolicies = new HashSet<>(model.getPoliciesBelongingTo(contact));
+        int numberOfPolicies = contactPolicies.size();
+        model.updateFilteredPolicyList(contactPolicies::contains);
 
-        if (model.getFilteredPolicyList().size() > 0) {
+        if (numberOfPolicies > 0) {
             return new CommandResult(
                     String.format(
                             MESSAGE_LIST_CONTACT_POLICY_SUCCESS,
-                            model.getFilteredPolicyList().size(),
+                            numberOfPolicies,
                             contactId.getOneBased()));
         } else {
             return new CommandResult(MESSAGE_POLICIES_LIST_EMPTY);
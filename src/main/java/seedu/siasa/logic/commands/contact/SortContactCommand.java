@@ -2,8 +2,11 @@ package seedu.siasa.logic.commands.contact;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.siasa.commons.core.Messages.MESSAGE_CONTACTS_LIST_EMPTY;
+import static seedu.siasa.logic.parser.CliSyntax.PREFIX_TOP;
 
 import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
 
 import seedu.siasa.logic.commands.Command;
 import seedu.siasa.logic.commands.CommandResult;
@@ -11,7 +14,7 @@ import seedu.siasa.model.Model;
 import seedu.siasa.model.contact.Contact;
 
 /**
- * Sorts the contact list.
+ * Sorts the contact list, optionally only showing the first few contacts.
  */
 public class SortContactCommand extends Command {
 
@@ -19,36 +22,58 @@ public class SortContactCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Sorts the contact list alphabetically by the order specified.\n"
-            + "Parameters: ORDER (asc, dsc)\n"
-            + "Example: " + COMMAND_WORD + " dsc";
+            + "Parameters: ORDER (asc, dsc) [" + PREFIX_TOP + "NUMBER_TO_SHOW]\n"
+            + "Example: " + COMMAND_WORD + " dsc " + PREFIX_TOP + "20";
 
     public static final String MESSAGE_SUCCESS = "Sorted contacts";
 
+    public static final String MESSAGE_SUCCESS_TOP = "Sorted contacts, showing the first %1$d";
+
     public static final String MESSAGE_NO_SUCH_COMPARATOR = "No such sorting order";
 
     private final Comparator<Contact> comparator;
+    private final Optional<Integer> limit;
 
     public SortContactCommand() {
         this.comparator = null;
+        this.limit = Optional.empty();
     }
 
     public SortContactCommand(Comparator<Contact> comparator) {
+        this(comparator, Optional.empty());
+    }
+
+    /**
+     * Creates a SortContactCommand to sort the contact list by {@code comparator}, and to only show the first
+     * {@code limit} contacts if present.
+     */
+    public SortContactCommand(Comparator<Contact> comparator, Optional<Integer> limit) {
+        requireNonNull(comparator);
+        requireNonNull(limit);
         this.comparator = comparator;
+        this.limit = limit;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        if (comparator != null) {
+        if (comparator == null) {
+            return new CommandResult(MESSAGE_NO_SUCH_COMPARATOR);
+        }
+
+        if (limit.isPresent()) {
+            model.updateFilteredContactList(comparator, limit.get());
+        } else {
             model.updateFilteredContactList(comparator);
+        }
 
-            if (model.getFilteredContactList().size() > 0) {
-                return new CommandResult(MESSAGE_SUCCESS);
-            } else {
-                return new CommandResult(MESSAGE_CONTACTS_LIST_EMPTY);
-            }
+        int shown = model.getFilteredContactList().size();
+        if (shown == 0) {
+            return new CommandResult(MESSAGE_CONTACTS_LIST_EMPTY);
+        } else if (limit.isPresent()) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS_TOP, shown));
         } else {
-            return new CommandResult(MESSAGE_NO_SUCH_COMPARATOR);
+            return new CommandResult(MESSAGE_SUCCESS);
         }
     }
 
@@ -56,6 +81,7 @@ public class SortContactCommand extends Command {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof SortContactCommand
-                && comparator.equals(((SortContactCommand) other).comparator));
+                && Objects.equals(comparator, ((SortContactCommand) other).comparator)
+                && limit.equals(((SortContactCommand) other).limit));
     }
 }
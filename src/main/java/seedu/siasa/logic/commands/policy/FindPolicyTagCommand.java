@@ -0,0 +1,68 @@
+package seedu.siasa.logic.commands.policy;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.siasa.commons.core.Messages.MESSAGE_POLICIES_LISTED_OVERVIEW;
+import static seedu.siasa.commons.core.Messages.MESSAGE_POLICIES_LIST_EMPTY;
+import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.siasa.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.siasa.logic.parser.CliSyntax.PREFIX_TAG_MATCH;
+
+import java.util.Set;
+
+import seedu.siasa.logic.commands.Command;
+import seedu.siasa.logic.commands.CommandResult;
+import seedu.siasa.model.Model;
+import seedu.siasa.model.policy.Policy;
+import seedu.siasa.model.tag.Tag;
+import seedu.siasa.model.tag.TagMatchMode;
+
+/**
+ * Finds and lists all policies in SIASA that have any (or all) of the given tags.
+ * Tag matching is case insensitive.
+ */
+public class FindPolicyTagCommand extends Command {
+
+    public static final String COMMAND_WORD = "findpolicytag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all policies that have any of the specified "
+            + "tags (or all of them, with " + PREFIX_TAG_MATCH + "all) and displays them as a list with index numbers. "
+            + "Tags are matched case-insensitively.\n"
+            + "Parameters: " + PREFIX_TAG + "TAG [" + PREFIX_TAG + "MORE_TAGS]... [" + PREFIX_TAG_MATCH + "any|all]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "AIA "
+            + PREFIX_TAG + "life " + PREFIX_TAG_MATCH + "all";
+
+    private final Set<Tag> tags;
+    private final TagMatchMode mode;
+
+    /**
+     * Creates a FindPolicyTagCommand to find the policies having any or all (depending on {@code mode})
+     * of the {@code tags}.
+     */
+    public FindPolicyTagCommand(Set<Tag> tags, TagMatchMode mode) {
+        requireAllNonNull(tags, mode);
+        this.tags = tags;
+        this.mode = mode;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Set<Policy> matches = model.getPoliciesWithTags(tags, mode);
+        model.updateFilteredPolicyList(matches::contains);
+
+        if (model.getFilteredPolicyList().size() > 0) {
+            return new CommandResult(
+                    String.format(MESSAGE_POLICIES_LISTED_OVERVIEW, model.getFilteredPolicyList().size()));
+        } else {
+            return new CommandResult(MESSAGE_POLICIES_LIST_EMPTY);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindPolicyTagCommand // instanceof handles nulls
+                && tags.equals(((FindPolicyTagCommand) other).tags)
+                && mode == ((FindPolicyTagCommand) other).mode); // state check
+    }
+}
@@ -1,45 +1,76 @@
 package seedu.siasa.logic.commands.policy;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Clock;
 import java.time.LocalDate;
-import java.util.function.Predicate;
+import java.util.HashSet;
+import java.util.Set;
 
 import seedu.siasa.logic.commands.Command;
 import seedu.siasa.logic.commands.CommandResult;
 import seedu.siasa.model.Model;
 import seedu.siasa.model.policy.Policy;
+import seedu.siasa.model.policy.ExpiryWindow;
 
 /**
- * Filters the list of policies to only those expiring in a month to the user.
+ * Filters the list of policies to only those expired or expiring within a window (a month by default) to the user.
  */
 public class ShowExpiringPolicyCommand extends Command {
 
     public static final String COMMAND_WORD = "expiringpolicy";
 
-    public static final int NUM_MONTHS_CUT_OFF = 1;
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the policies that have expired or will expire within the given window "
+            + "(" + ExpiryWindow.DEFAULT_WINDOW + " if not given).\n"
+            + "Parameters: [WINDOW] (a number of days or months, e.g. 14d or 3m)\n"
+            + "Example: " + COMMAND_WORD + " 14d";
 
-    public static final LocalDate CUT_OFF_DATE = LocalDate.now().plusMonths(NUM_MONTHS_CUT_OFF).plusDays(1);
+    public static final String MESSAGE_SUCCESS = "Showing policies that have expired or will be expiring in %1$s";
 
-    public static final String MESSAGE_SUCCESS = "Showing policies that have expired or will be expiring "
-            + NUM_MONTHS_CUT_OFF + " month";
+    public static final String MESSAGE_NO_POLICIES = "There are no policies expired or expiring in %1$s";
 
-    public static final String MESSAGE_NO_POLICIES = "There are no policies expired or expiring in "
-            + NUM_MONTHS_CUT_OFF + " month";
+    private final ExpiryWindow window;
+    private final Clock clock;
 
+    public ShowExpiringPolicyCommand() {
+        this(ExpiryWindow.DEFAULT_WINDOW);
+    }
 
+    public ShowExpiringPolicyCommand(ExpiryWindow window) {
+        this(window, Clock.systemDefaultZone());
+    }
 
-    public static final Predicate<Policy> EXPIRING_POLICIES_MONTH = (p) -> p.isExpiringBefore(CUT_OFF_DATE);
+    /**
+     * Creates a ShowExpiringPolicyCommand that looks {@code window} ahead of the current date of {@code clock}.
+     */
+    public ShowExpiringPolicyCommand(ExpiryWindow window, Clock clock) {
+        requireAllNonNull(window, clock);
+        this.window = window;
+        this.clock = clock;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPolicyList(EXPIRING_POLICIES_MONTH);
+        LocalDate cutOff = window.getCutOffDate(LocalDate.now(clock));
+        // The expiring policies are a range of the expiry date index, instead of testing every policy.
+        Set<Policy> expiringPolicies = new HashSet<>(model.getPoliciesExpiringBefore(cutOff));
+        model.updateFilteredPolicyList(expiringPolicies::contains);
 
         if (model.getFilteredPolicyList().size() > 0) {
-            return new CommandResult(MESSAGE_SUCCESS);
+            return new CommandResult(String.format(MESSAGE_SUCCESS, window));
         } else {
-            return new CommandResult(MESSAGE_NO_POLICIES);
+            return new CommandResult(String.format(MESSAGE_NO_POLICIES, window));
         }
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ShowExpiringPolicyCommand // instanceof handles nulls
+                && window.equals(((ShowExpiringPolicyCommand) other).window)
+                && clock.equals(((ShowExpiringPolicyCommand) other).clock)); // state check
+    }
 }
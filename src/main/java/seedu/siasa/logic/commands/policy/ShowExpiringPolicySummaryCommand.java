@@ -1,24 +1,33 @@
 package seedu.siasa.logic.commands.policy;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.text.ChoiceFormat;
 import java.text.Format;
 import java.text.MessageFormat;
+import java.time.Clock;
+import java.time.LocalDate;
 
 import seedu.siasa.logic.commands.Command;
 import seedu.siasa.logic.commands.CommandResult;
 import seedu.siasa.model.Model;
-import seedu.siasa.model.policy.Policy;
+import seedu.siasa.model.policy.ExpiryWindow;
 
 /**
- * Lists a summary of policies that will be expiring in a month to the user.
+ * Lists a summary of policies that will be expiring within a window (a month by default) to the user.
  */
 public class ShowExpiringPolicySummaryCommand extends Command {
 
     public static final String COMMAND_WORD = "expiringpolicysummary";
 
-    private static final String pattern = "There {0} expired or expiring\nUse the "
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of policies that have expired or will expire within the given window "
+            + "(" + ExpiryWindow.DEFAULT_WINDOW + " if not given).\n"
+            + "Parameters: [WINDOW] (a number of days or months, e.g. 14d or 3m)\n"
+            + "Example: " + COMMAND_WORD + " 3m";
+
+    private static final String pattern = "There {0} expired or expiring in {2}\nUse the "
             + ShowExpiringPolicyCommand.COMMAND_WORD + " command to see more";
     private static final double[] policyLimits = {0, 1, 2};
     private static final String[] policyStrings = {
@@ -27,22 +36,48 @@ public class ShowExpiringPolicySummaryCommand extends Command {
         "are {1} policies that are"
     };
     private static final ChoiceFormat choiceForm = new ChoiceFormat(policyLimits, policyStrings);
-    private static final Format[] formats = {choiceForm, null};
+    private static final Format[] formats = {choiceForm, null, null};
     public static final MessageFormat MESSAGE_FORM = new MessageFormat(pattern);
 
+    private final ExpiryWindow window;
+    private final Clock clock;
+
+    public ShowExpiringPolicySummaryCommand() {
+        this(ExpiryWindow.DEFAULT_WINDOW);
+    }
+
+    public ShowExpiringPolicySummaryCommand(ExpiryWindow window) {
+        this(window, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a ShowExpiringPolicySummaryCommand that looks {@code window} ahead of the current date of
+     * {@code clock}.
+     */
+    public ShowExpiringPolicySummaryCommand(ExpiryWindow window, Clock clock) {
+        requireAllNonNull(window, clock);
+        this.window = window;
+        this.clock = clock;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
         MESSAGE_FORM.setFormats(formats);
 
-        int noOfExpiringPolicies = 0;
-        for (Policy p : model.getFilteredPolicyList()) {
-            if (p.isExpiringBefore(ShowExpiringPolicyCommand.CUT_OFF_DATE)) {
-                noOfExpiringPolicies++;
-            }
-        }
+        LocalDate cutOff = window.getCutOffDate(LocalDate.now(clock));
+        int noOfExpiringPolicies = model.getPoliciesExpiringBefore(cutOff).size();
 
-        return new CommandResult(MESSAGE_FORM.format(new Object[]{noOfExpiringPolicies, noOfExpiringPolicies}));
+        return new CommandResult(MESSAGE_FORM.format(
+                new Object[]{noOfExpiringPolicies, noOfExpiringPolicies, window.toString()}));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ShowExpiringPolicySummaryCommand // instanceof handles nulls
+                && window.equals(((ShowExpiringPolicySummaryCommand) other).window)
+                && clock.equals(((ShowExpiringPolicySummaryCommand) other).clock)); // state check
     }
 }
@@ -2,8 +2,12 @@ package seedu.siasa.logic.commands.policy;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.siasa.commons.core.Messages.MESSAGE_POLICIES_LIST_EMPTY;
+import static seedu.siasa.logic.parser.CliSyntax.PREFIX_TOP;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
 
 import seedu.siasa.logic.commands.Command;
 import seedu.siasa.logic.commands.CommandResult;
@@ -11,45 +15,69 @@ import seedu.siasa.model.Model;
 import seedu.siasa.model.policy.Policy;
 
 /**
- * Lists all policies in the SIASA to the user.
+ * Sorts the policy list, optionally only showing the first few policies.
  */
 public class SortPolicyCommand extends Command {
 
     public static final String COMMAND_WORD = "sortpolicy";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Sorts the policy list alphabetically by the order specified.\n"
-            + "Parameters: SORTING_METHOD (titleasc, titledsc, paymentasc, paymentasc, commasc,"
-            + "commdsc, expiryasc, expirydsc)\n"
-            + "Example: " + COMMAND_WORD + " expirydsc";
+            + ": Sorts the policy list by the order specified. Policies equal in the first order are sorted "
+            + "by the next order, if any.\n"
+            + "Parameters: SORTING_METHOD [MORE_SORTING_METHODS]... [" + PREFIX_TOP + "NUMBER_TO_SHOW]\n"
+            + "Sorting methods: titleasc, titledsc, paymentasc, paymentdsc, commasc, commdsc, expiryasc, expirydsc\n"
+            + "Example: " + COMMAND_WORD + " expiryasc commdsc " + PREFIX_TOP + "50";
 
     public static final String MESSAGE_SUCCESS = "Sorted policies";
 
+    public static final String MESSAGE_SUCCESS_TOP = "Sorted policies, showing the first %1$d";
+
     public static final String MESSAGE_NO_SUCH_COMPARATOR = "No such sorting order";
 
-    private final Comparator<Policy> comparator;
+    private final List<Comparator<Policy>> comparators;
+    private final Optional<Integer> limit;
 
     public SortPolicyCommand() {
-        this.comparator = null;
+        this.comparators = Collections.emptyList();
+        this.limit = Optional.empty();
     }
 
     public SortPolicyCommand(Comparator<Policy> comparator) {
-        this.comparator = comparator;
+        this(List.of(comparator), Optional.empty());
+    }
+
+    /**
+     * Creates a SortPolicyCommand to sort the policy list by {@code comparators}, each ordering the policies
+     * that are equal in the orders before it, and to only show the first {@code limit} policies if present.
+     */
+    public SortPolicyCommand(List<Comparator<Policy>> comparators, Optional<Integer> limit) {
+        requireNonNull(comparators);
+        requireNonNull(limit);
+        this.comparators = List.copyOf(comparators);
+        this.limit = limit;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        if (comparator != null) {
+        if (comparators.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_SUCH_COMPARATOR);
+        }
+
+        Comparator<Policy> comparator = comparators.stream().reduce(Comparator::thenComparing).get();
+        if (limit.isPresent()) {
+            model.updateFilteredPolicyList(comparator, limit.get());
+        } else {
             model.updateFilteredPolicyList(comparator);
+        }
 
-            if (model.getFilteredPolicyList().size() > 0) {
-                return new CommandResult(MESSAGE_SUCCESS);
-            } else {
-                return new CommandResult(MESSAGE_POLICIES_LIST_EMPTY);
-            }
+        int shown = model.getFilteredPolicyList().size();
+        if (shown == 0) {
+            return new CommandResult(MESSAGE_POLICIES_LIST_EMPTY);
+        } else if (limit.isPresent()) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS_TOP, shown));
         } else {
-            return new CommandResult(MESSAGE_NO_SUCH_COMPARATOR);
+            return new CommandResult(MESSAGE_SUCCESS);
         }
     }
 
@@ -57,6 +85,7 @@ public class SortPolicyCommand extends Command {
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof SortPolicyCommand
-                && comparator.equals(((SortPolicyCommand) other).comparator));
+                && comparators.equals(((SortPolicyCommand) other).comparators)
+                && limit.equals(((SortPolicyCommand) other).limit));
     }
 }
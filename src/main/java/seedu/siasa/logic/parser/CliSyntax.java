@@ -11,10 +11,13 @@ public class CliSyntax {
     public static final Prefix PREFIX_EMAIL = new Prefix("e/");
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
+    public static final Prefix PREFIX_TAG_MATCH = new Prefix("m/");
 
     public static final Prefix PREFIX_TITLE = new Prefix("n/");
     public static final Prefix PREFIX_EXPIRY = new Prefix("e/");
     public static final Prefix PREFIX_PAYMENT = new Prefix("p/");
     public static final Prefix PREFIX_COMMISSION = new Prefix("c/");
     public static final Prefix PREFIX_CONTACT_INDEX = new Prefix("cl/");
+
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
 }
@@ -6,6 +6,7 @@ import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 import seedu.siasa.commons.core.index.Index;
@@ -17,9 +18,11 @@ import seedu.siasa.model.contact.Name;
 import seedu.siasa.model.contact.Phone;
 import seedu.siasa.model.policy.Commission;
 import seedu.siasa.model.policy.CoverageExpiryDate;
+import seedu.siasa.model.policy.ExpiryWindow;
 import seedu.siasa.model.policy.PaymentStructure;
 import seedu.siasa.model.policy.Title;
 import seedu.siasa.model.tag.Tag;
+import seedu.siasa.model.tag.TagMatchMode;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -27,6 +30,8 @@ import seedu.siasa.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_LIMIT =
+            "The number of results to show is not a non-zero unsigned integer.";
     public static final String MESSAGE_INVALID_PAYMENT_STRUCTURE =
             "Payment structure expects numerical inputs of payment amount, payment freq (optional) "
                     + "and num of payments (optional).";
@@ -47,6 +52,20 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code limit} into the number of results to show and returns it. Leading and trailing whitespaces will
+     * be trimmed.
+     * @throws ParseException if the specified limit is invalid (not non-zero unsigned integer).
+     */
+    public static int parseLimit(String limit) throws ParseException {
+        requireNonNull(limit);
+        String trimmedLimit = limit.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedLimit)) {
+            throw new ParseException(MESSAGE_INVALID_LIMIT);
+        }
+        return Integer.parseInt(trimmedLimit);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -119,7 +138,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -134,6 +153,21 @@ public class ParserUtil {
         return tagSet;
     }
 
+    /**
+     * Parses a {@code String mode} into a {@code TagMatchMode}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code mode} is invalid.
+     */
+    public static TagMatchMode parseTagMatchMode(String mode) throws ParseException {
+        requireNonNull(mode);
+        String trimmedMode = mode.trim();
+        if (!TagMatchMode.isValidTagMatchMode(trimmedMode)) {
+            throw new ParseException(TagMatchMode.MESSAGE_CONSTRAINTS);
+        }
+        return TagMatchMode.valueOf(trimmedMode.toUpperCase(Locale.ROOT));
+    }
+
     /**
      * Parses a {@code String title} into a {@code Title}.
      * Leading and trailing whitespaces will be trimmed.
@@ -146,7 +180,22 @@ public class ParserUtil {
         if (!Title.isValidTitle(trimmedTitle)) {
             throw new ParseException(Title.MESSAGE_CONSTRAINTS);
         }
-        return new Title(trimmedTitle);
+        return Title.of(trimmedTitle);
+    }
+
+    /**
+     * Parses a {@code String window} into an {@code ExpiryWindow}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code window} is invalid.
+     */
+    public static ExpiryWindow parseExpiryWindow(String window) throws ParseException {
+        requireNonNull(window);
+        String trimmedWindow = window.trim();
+        if (!ExpiryWindow.isValidExpiryWindow(trimmedWindow)) {
+            throw new ParseException(ExpiryWindow.MESSAGE_CONSTRAINTS);
+        }
+        return new ExpiryWindow(trimmedWindow);
     }
 
     /**
@@ -196,7 +245,7 @@ public class ParserUtil {
                 throw new ParseException(PaymentStructure.MESSAGE_CONSTRAINTS);
             }
 
-            return new PaymentStructure(paymentAmount, paymentFrequency, numberOfPayments);
+            return PaymentStructure.of(paymentAmount, paymentFrequency, numberOfPayments);
         } catch (NumberFormatException e) {
             throw new ParseException(PaymentStructure.MESSAGE_CONSTRAINTS);
         }
@@ -222,7 +271,7 @@ public class ParserUtil {
             if (!Commission.isValidCommission(commissionPercentage, numberOfPaymentsCommission, paymentStructure)) {
                 throw new ParseException(Commission.MESSAGE_CONSTRAINTS);
             }
-            return new Commission(commissionPercentage, numberOfPaymentsCommission);
+            return Commission.of(commissionPercentage, numberOfPaymentsCommission);
         } catch (NumberFormatException e) {
             throw new ParseException(Commission.MESSAGE_CONSTRAINTS);
         }
@@ -247,7 +296,7 @@ public class ParserUtil {
             if (!Commission.isValidCommission(commissionPercentage, numberOfPaymentsCommission)) {
                 throw new ParseException(Commission.MESSAGE_CONSTRAINTS);
             }
-            return new Commission(commissionPercentage, numberOfPaymentsCommission);
+            return Commission.of(commissionPercentage, numberOfPaymentsCommission);
         } catch (NumberFormatException e) {
             throw new ParseException(Commission.MESSAGE_CONSTRAINTS);
         }
@@ -11,17 +11,21 @@ import seedu.siasa.logic.commands.Command;
 import seedu.siasa.logic.commands.DownloadCommand;
 import seedu.siasa.logic.commands.ExitCommand;
 import seedu.siasa.logic.commands.HelpCommand;
+import seedu.siasa.logic.commands.RedoCommand;
+import seedu.siasa.logic.commands.UndoCommand;
 import seedu.siasa.logic.commands.contact.AddContactCommand;
 import seedu.siasa.logic.commands.contact.ClearContactPolicyCommand;
 import seedu.siasa.logic.commands.contact.DeleteContactCommand;
 import seedu.siasa.logic.commands.contact.EditContactCommand;
 import seedu.siasa.logic.commands.contact.FindContactCommand;
+import seedu.siasa.logic.commands.contact.FindContactTagCommand;
 import seedu.siasa.logic.commands.contact.ListContactCommand;
 import seedu.siasa.logic.commands.contact.ListContactPolicyCommand;
 import seedu.siasa.logic.commands.contact.SortContactCommand;
 import seedu.siasa.logic.commands.policy.AddPolicyCommand;
 import seedu.siasa.logic.commands.policy.DeletePolicyCommand;
 import seedu.siasa.logic.commands.policy.EditPolicyCommand;
+import seedu.siasa.logic.commands.policy.FindPolicyTagCommand;
 import seedu.siasa.logic.commands.policy.ListPolicyCommand;
 import seedu.siasa.logic.commands.policy.ShowExpiringPolicyCommand;
 import seedu.siasa.logic.commands.policy.ShowExpiringPolicySummaryCommand;
@@ -31,12 +35,16 @@ import seedu.siasa.logic.parser.contact.ClearContactPolicyCommandParser;
 import seedu.siasa.logic.parser.contact.DeleteContactCommandParser;
 import seedu.siasa.logic.parser.contact.EditContactCommandParser;
 import seedu.siasa.logic.parser.contact.FindCommandParser;
+import seedu.siasa.logic.parser.contact.FindContactTagCommandParser;
 import seedu.siasa.logic.parser.contact.ListContactPolicyCommandParser;
 import seedu.siasa.logic.parser.contact.SortContactCommandParser;
 import seedu.siasa.logic.parser.exceptions.ParseException;
 import seedu.siasa.logic.parser.policy.AddPolicyCommandParser;
 import seedu.siasa.logic.parser.policy.DeletePolicyCommandParser;
 import seedu.siasa.logic.parser.policy.EditPolicyCommandParser;
+import seedu.siasa.logic.parser.policy.FindPolicyTagCommandParser;
+import seedu.siasa.logic.parser.policy.ShowExpiringPolicyCommandParser;
+import seedu.siasa.logic.parser.policy.ShowExpiringPolicySummaryCommandParser;
 import seedu.siasa.logic.parser.policy.SortPolicyCommandParser;
 
 /**
@@ -99,6 +107,12 @@ public class SiasaParser {
         case FindContactCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case FindContactTagCommand.COMMAND_WORD:
+            return new FindContactTagCommandParser().parse(arguments);
+
+        case FindPolicyTagCommand.COMMAND_WORD:
+            return new FindPolicyTagCommandParser().parse(arguments);
+
         case ListContactPolicyCommand.COMMAND_WORD:
             return new ListContactPolicyCommandParser().parse(arguments);
 
@@ -108,6 +122,12 @@ public class SiasaParser {
         case ListPolicyCommand.COMMAND_WORD:
             return new ListPolicyCommand();
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -118,10 +138,10 @@ public class SiasaParser {
             return new DownloadCommand();
 
         case ShowExpiringPolicySummaryCommand.COMMAND_WORD:
-            return new ShowExpiringPolicySummaryCommand();
+            return new ShowExpiringPolicySummaryCommandParser().parse(arguments);
 
         case ShowExpiringPolicyCommand.COMMAND_WORD:
-            return new ShowExpiringPolicyCommand();
+            return new ShowExpiringPolicyCommandParser().parse(arguments);
 
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -1,12 +1,20 @@
 package seedu.siasa.logic.parser.contact;
 
 import static seedu.siasa.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.siasa.logic.parser.CliSyntax.PREFIX_TOP;
 import static seedu.siasa.model.contact.PersonComparator.CONTACT_SORT_BY_ALPHA_ASC;
 import static seedu.siasa.model.contact.PersonComparator.CONTACT_SORT_BY_ALPHA_DESC;
 
+import java.util.Comparator;
+import java.util.Optional;
+
 import seedu.siasa.logic.commands.contact.SortContactCommand;
+import seedu.siasa.logic.parser.ArgumentMultimap;
+import seedu.siasa.logic.parser.ArgumentTokenizer;
 import seedu.siasa.logic.parser.Parser;
+import seedu.siasa.logic.parser.ParserUtil;
 import seedu.siasa.logic.parser.exceptions.ParseException;
+import seedu.siasa.model.contact.Contact;
 
 /**
  * Parses input arguments and creates a new SortContactCommand object
@@ -19,18 +27,24 @@ public class SortContactCommandParser implements Parser<SortContactCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public SortContactCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TOP);
+        String order = argMultimap.getPreamble();
+        if (order.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortContactCommand.MESSAGE_USAGE));
         }
 
-        if ("asc".equals(trimmedArgs)) {
-            return new SortContactCommand(CONTACT_SORT_BY_ALPHA_ASC);
-        } else if ("dsc".equals(trimmedArgs)) {
-            return new SortContactCommand(CONTACT_SORT_BY_ALPHA_DESC);
+        Comparator<Contact> comparator;
+        if ("asc".equals(order)) {
+            comparator = CONTACT_SORT_BY_ALPHA_ASC;
+        } else if ("dsc".equals(order)) {
+            comparator = CONTACT_SORT_BY_ALPHA_DESC;
         } else {
             return new SortContactCommand();
         }
+
+        Optional<String> limit = argMultimap.getValue(PREFIX_TOP);
+        return new SortContactCommand(comparator,
+                limit.isPresent() ? Optional.of(ParserUtil.parseLimit(limit.get())) : Optional.empty());
     }
 }
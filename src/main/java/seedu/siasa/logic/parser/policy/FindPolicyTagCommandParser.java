@@ -0,0 +1,44 @@
+package seedu.siasa.logic.parser.policy;
+
+import static seedu.siasa.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.siasa.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.siasa.logic.parser.CliSyntax.PREFIX_TAG_MATCH;
+
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.siasa.logic.commands.policy.FindPolicyTagCommand;
+import seedu.siasa.logic.parser.ArgumentMultimap;
+import seedu.siasa.logic.parser.ArgumentTokenizer;
+import seedu.siasa.logic.parser.Parser;
+import seedu.siasa.logic.parser.ParserUtil;
+import seedu.siasa.logic.parser.exceptions.ParseException;
+import seedu.siasa.model.tag.Tag;
+import seedu.siasa.model.tag.TagMatchMode;
+
+/**
+ * Parses input arguments and creates a new FindPolicyTagCommand object
+ */
+public class FindPolicyTagCommandParser implements Parser<FindPolicyTagCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindPolicyTagCommand
+     * and returns a FindPolicyTagCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindPolicyTagCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_TAG_MATCH);
+
+        if (argMultimap.getAllValues(PREFIX_TAG).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindPolicyTagCommand.MESSAGE_USAGE));
+        }
+
+        Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
+        Optional<String> mode = argMultimap.getValue(PREFIX_TAG_MATCH);
+        TagMatchMode tagMatchMode = mode.isPresent() ? ParserUtil.parseTagMatchMode(mode.get()) : TagMatchMode.ANY;
+
+        return new FindPolicyTagCommand(tags, tagMatchMode);
+    }
+
+}
@@ -0,0 +1,33 @@
+package seedu.siasa.logic.parser.policy;
+
+import static seedu.siasa.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.siasa.logic.commands.policy.ShowExpiringPolicyCommand;
+import seedu.siasa.logic.parser.Parser;
+import seedu.siasa.logic.parser.ParserUtil;
+import seedu.siasa.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ShowExpiringPolicyCommand object
+ */
+public class ShowExpiringPolicyCommandParser implements Parser<ShowExpiringPolicyCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ShowExpiringPolicyCommand
+     * and returns a ShowExpiringPolicyCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ShowExpiringPolicyCommand parse(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            return new ShowExpiringPolicyCommand();
+        }
+
+        try {
+            return new ShowExpiringPolicyCommand(ParserUtil.parseExpiryWindow(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowExpiringPolicyCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
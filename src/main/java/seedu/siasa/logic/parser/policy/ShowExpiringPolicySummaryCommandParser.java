@@ -0,0 +1,33 @@
+package seedu.siasa.logic.parser.policy;
+
+import static seedu.siasa.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.siasa.logic.commands.policy.ShowExpiringPolicySummaryCommand;
+import seedu.siasa.logic.parser.Parser;
+import seedu.siasa.logic.parser.ParserUtil;
+import seedu.siasa.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ShowExpiringPolicySummaryCommand object
+ */
+public class ShowExpiringPolicySummaryCommandParser implements Parser<ShowExpiringPolicySummaryCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ShowExpiringPolicySummaryCommand
+     * and returns a ShowExpiringPolicySummaryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ShowExpiringPolicySummaryCommand parse(String args) throws ParseException {
+        if (args.trim().isEmpty()) {
+            return new ShowExpiringPolicySummaryCommand();
+        }
+
+        try {
+            return new ShowExpiringPolicySummaryCommand(ParserUtil.parseExpiryWindow(args));
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowExpiringPolicySummaryCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package seedu.siasa.logic.parser.policy;
 
 import static seedu.siasa.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.siasa.logic.parser.CliSyntax.PREFIX_TOP;
 import static seedu.siasa.model.policy.PolicyComparator.POLICY_SORT_BY_ALPHA_ASC;
 import static seedu.siasa.model.policy.PolicyComparator.POLICY_SORT_BY_ALPHA_DSC;
 import static seedu.siasa.model.policy.PolicyComparator.POLICY_SORT_BY_COMMISSION_ASC;
@@ -10,9 +11,18 @@ import static seedu.siasa.model.policy.PolicyComparator.POLICY_SORT_BY_EXPIRY_DS
 import static seedu.siasa.model.policy.PolicyComparator.POLICY_SORT_BY_PAYMENT_ASC;
 import static seedu.siasa.model.policy.PolicyComparator.POLICY_SORT_BY_PAYMENT_DSC;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
 import seedu.siasa.logic.commands.policy.SortPolicyCommand;
+import seedu.siasa.logic.parser.ArgumentMultimap;
+import seedu.siasa.logic.parser.ArgumentTokenizer;
 import seedu.siasa.logic.parser.Parser;
+import seedu.siasa.logic.parser.ParserUtil;
 import seedu.siasa.logic.parser.exceptions.ParseException;
+import seedu.siasa.model.policy.Policy;
 
 /**
  * Parses input arguments and creates a new SortPolicyCommand object
@@ -25,40 +35,56 @@ public class SortPolicyCommandParser implements Parser<SortPolicyCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public SortPolicyCommand parse(String args) throws ParseException {
-        String trimmedArgs = args.trim();
-        if (trimmedArgs.isEmpty()) {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TOP);
+        String sortingMethods = argMultimap.getPreamble();
+        if (sortingMethods.isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortPolicyCommand.MESSAGE_USAGE));
         }
 
-        switch (trimmedArgs) {
+        List<Comparator<Policy>> comparators = new ArrayList<>();
+        for (String sortingMethod : sortingMethods.split("\\s+")) {
+            Optional<Comparator<Policy>> comparator = parseSortingMethod(sortingMethod);
+            if (comparator.isEmpty()) {
+                return new SortPolicyCommand();
+            }
+            comparators.add(comparator.get());
+        }
+
+        Optional<String> limit = argMultimap.getValue(PREFIX_TOP);
+        return new SortPolicyCommand(comparators,
+                limit.isPresent() ? Optional.of(ParserUtil.parseLimit(limit.get())) : Optional.empty());
+    }
+
+    private static Optional<Comparator<Policy>> parseSortingMethod(String sortingMethod) {
+        switch (sortingMethod) {
 
         case "titleasc":
-            return new SortPolicyCommand(POLICY_SORT_BY_ALPHA_ASC);
+            return Optional.of(POLICY_SORT_BY_ALPHA_ASC);
 
         case "titledsc":
-            return new SortPolicyCommand(POLICY_SORT_BY_ALPHA_DSC);
+            return Optional.of(POLICY_SORT_BY_ALPHA_DSC);
 
         case "paymentasc":
-            return new SortPolicyCommand(POLICY_SORT_BY_PAYMENT_ASC);
+            return Optional.of(POLICY_SORT_BY_PAYMENT_ASC);
 
         case "paymentdsc":
-            return new SortPolicyCommand(POLICY_SORT_BY_PAYMENT_DSC);
+            return Optional.of(POLICY_SORT_BY_PAYMENT_DSC);
 
         case "commasc":
-            return new SortPolicyCommand(POLICY_SORT_BY_COMMISSION_ASC);
+            return Optional.of(POLICY_SORT_BY_COMMISSION_ASC);
 
         case "commdsc":
-            return new SortPolicyCommand(POLICY_SORT_BY_COMMISSION_DSC);
+            return Optional.of(POLICY_SORT_BY_COMMISSION_DSC);
 
         case "expiryasc":
-            return new SortPolicyCommand(POLICY_SORT_BY_EXPIRY_ASC);
+            return Optional.of(POLICY_SORT_BY_EXPIRY_ASC);
 
         case "expirydsc":
-            return new SortPolicyCommand(POLICY_SORT_BY_EXPIRY_DSC);
+            return Optional.of(POLICY_SORT_BY_EXPIRY_DSC);
 
         default:
-            return new SortPolicyCommand();
+            return Optional.empty();
         }
     }
 }
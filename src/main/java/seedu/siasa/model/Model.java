@@ -1,15 +1,22 @@
 package seedu.siasa.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.siasa.commons.core.GuiSettings;
 import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.history.Change;
 import seedu.siasa.model.policy.Policy;
+import seedu.siasa.model.tag.Tag;
+import seedu.siasa.model.tag.TagMatchMode;
 
 /**
  * The API of the Model component.
@@ -57,6 +64,59 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlySiasa getSiasa();
 
+    /**
+     * Returns an immutable, point-in-time view of the SIASA, which is not affected by later changes to the SIASA
+     * and can be read from any thread.
+     */
+    ReadOnlySiasa getSiasaSnapshot();
+
+    /**
+     * Returns a number that changes whenever the SIASA changes.
+     *
+     * @see Siasa#getVersion()
+     */
+    long getSiasaVersion();
+
+    /**
+     * Applies the changes made through this model by {@code changes} as one batch: the contact and policy
+     * lists each notify their observers of at most one change, once {@code changes} completes.
+     * If {@code changes} throws, none of its changes to the SIASA are kept.
+     */
+    void applyBatch(Runnable changes);
+
+    /**
+     * Records the changes made to the SIASA since the last time this method was called as one step, which can be
+     * undone with {@link #undo()}.
+     */
+    void commitChanges();
+
+    /**
+     * Returns the changes made to the SIASA by the steps committed, undone or redone since the last time this
+     * method was called, in the order they were made, e.g. so that they can be written to a journal.
+     */
+    List<Change> takeAppliedChanges();
+
+    /**
+     * Returns true if there is a step of changes that can be undone.
+     */
+    boolean canUndo();
+
+    /**
+     * Returns true if there is an undone step of changes that can be redone.
+     */
+    boolean canRedo();
+
+    /**
+     * Reverts the most recent step of changes to the SIASA that has not been undone.
+     * Changes not yet committed are committed first.
+     */
+    void undo();
+
+    /**
+     * Makes the most recently undone step of changes to the SIASA again.
+     */
+    void redo();
+
     /**
      * Returns true if a contact with the same identity as {@code contact} exists in the SIASA.
      */
@@ -69,6 +129,17 @@ public interface Model {
      */
     Optional<Contact> getSimilarContact(Contact contact);
 
+    /**
+     * Returns the contacts whose names contain any of the {@code keywords} as a whole word (case insensitive).
+     */
+    Set<Contact> getContactsWithNameContainingAny(Collection<String> keywords);
+
+    /**
+     * Returns the contacts having any or all (depending on {@code mode}) of the {@code tags}.
+     * Tags are matched case insensitively.
+     */
+    Set<Contact> getContactsWithTags(Collection<Tag> tags, TagMatchMode mode);
+
     /**
      * Deletes the given contact.
      * The contact must exist in the SIASA.
@@ -98,11 +169,21 @@ public interface Model {
     void updateFilteredContactList(Predicate<Contact> predicate);
 
     /**
-     * Updates the comparator of the contact list to sort by the given {@code comparator}.
+     * Updates the comparator of the contact list to sort by the given {@code comparator}, and shows all the
+     * contacts passing the filter again if the list was limited.
+     * Contacts the comparator considers equal are ordered by name, so the order is deterministic.
      * @throws NullPointerException if {@code comparator} is null.
      */
     void updateFilteredContactList(Comparator<Contact> comparator);
 
+    /**
+     * Sorts the contact list like {@link #updateFilteredContactList(Comparator)}, but only shows the contacts
+     * passing the filter that come at or before the {@code limit}-th of them.
+     * @throws NullPointerException if {@code comparator} is null.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    void updateFilteredContactList(Comparator<Contact> comparator, int limit);
+
     /**
      * Returns a map of contacts and the number of policies each of them has.
      */
@@ -158,7 +239,29 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered policy list */
     ObservableList<Policy> getFilteredPolicyList();
 
-    ObservableList<Policy> getPoliciesBelongingTo(Contact target);
+    /**
+     * Returns an unmodifiable list of the policies belonging to the given person {@code target}.
+     */
+    List<Policy> getPoliciesBelongingTo(Contact target);
+
+    /**
+     * Returns an unmodifiable list of the policies expiring before {@code cutOff},
+     * including those that have already expired, in order of expiry date.
+     */
+    List<Policy> getPoliciesExpiringBefore(LocalDate cutOff);
+
+    /**
+     * Returns an unmodifiable list of the policies expiring on or after {@code start} and before {@code end},
+     * in order of expiry date.
+     */
+    List<Policy> getPoliciesExpiringBetween(LocalDate start, LocalDate end);
+
+    /**
+     * Returns the policies having any or all (depending on {@code mode}) of the {@code tags}.
+     * Tags are matched case insensitively.
+     */
+    Set<Policy> getPoliciesWithTags(Collection<Tag> tags, TagMatchMode mode);
+
     /**
      * Updates the filter of the policy list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -166,8 +269,18 @@ public interface Model {
     void updateFilteredPolicyList(Predicate<Policy> predicate);
 
     /**
-     * Updates the comparator of the policy list to sort by the given {@code comparator}.
+     * Updates the comparator of the policy list to sort by the given {@code comparator}, and shows all the
+     * policies passing the filter again if the list was limited.
+     * Policies the comparator considers equal are ordered by title and owner, so the order is deterministic.
+     * @throws NullPointerException if {@code comparator} is null.
+     */
+    void updateFilteredPolicyList(Comparator<Policy> comparator);
+
+    /**
+     * Sorts the policy list like {@link #updateFilteredPolicyList(Comparator)}, but only shows the policies
+     * passing the filter that come at or before the {@code limit}-th of them.
      * @throws NullPointerException if {@code comparator} is null.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
      */
-    void updateFilteredPolicyList(Comparator<Policy> predicate);
+    void updateFilteredPolicyList(Comparator<Policy> comparator, int limit);
 }
@@ -1,24 +1,42 @@
 package seedu.siasa.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.siasa.commons.util.AppUtil.checkArgument;
 import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.siasa.model.contact.PersonComparator.CONTACT_SORT_BY_ALPHA_ASC;
+import static seedu.siasa.model.contact.PersonComparator.CONTACT_TIE_BREAK;
 import static seedu.siasa.model.policy.PolicyComparator.POLICY_SORT_BY_ALPHA_ASC;
+import static seedu.siasa.model.policy.PolicyComparator.POLICY_TIE_BREAK;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.siasa.commons.core.GuiSettings;
 import seedu.siasa.commons.core.LogsCenter;
 import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.history.Change;
+import seedu.siasa.model.history.ChangeHistory;
 import seedu.siasa.model.policy.Policy;
+import seedu.siasa.model.policy.PolicyComparator;
+import seedu.siasa.model.tag.Tag;
+import seedu.siasa.model.tag.TagMatchMode;
+import seedu.siasa.model.util.BackgroundSortedList;
+import seedu.siasa.model.util.TopK;
 
 /**
  * Represents the in-memory model of the SIASA data.
@@ -28,10 +46,19 @@ public class ModelManager implements Model {
 
     private final Siasa siasa;
     private final UserPrefs userPrefs;
+    // The lists are filtered before they are sorted, so that sorting only orders the contacts and policies shown.
     private final FilteredList<Contact> filteredContacts;
     private final FilteredList<Policy> filteredPolicies;
     private final SortedList<Contact> sortedContacts;
-    private final SortedList<Policy> sortedPolicies;
+    private final BackgroundSortedList<Policy> sortedPolicies;
+    private Predicate<Contact> contactPredicate = PREDICATE_SHOW_ALL_CONTACTS;
+    private Predicate<Policy> policyPredicate = PREDICATE_SHOW_ALL_POLICIES;
+    private boolean isContactListLimited = false;
+    private boolean isPolicyListLimited = false;
+    private final ChangeHistory history;
+    private final List<Change> uncommittedChanges = new ArrayList<>();
+    // The changes committed, undone or redone, until they are taken.
+    private final List<Change> appliedChanges = new ArrayList<>();
 
     /**
      * Initializes a ModelManager with the given SIASA and userPrefs.
@@ -44,10 +71,14 @@ public class ModelManager implements Model {
 
         this.siasa = new Siasa(siasa);
         this.userPrefs = new UserPrefs(userPrefs);
-        sortedContacts = new SortedList<>(this.siasa.getContactList(), CONTACT_SORT_BY_ALPHA_ASC);
-        sortedPolicies = new SortedList<>(this.siasa.getPolicyList(), POLICY_SORT_BY_ALPHA_ASC);
-        filteredContacts = new FilteredList<>(sortedContacts);
-        filteredPolicies = new FilteredList<>(sortedPolicies);
+        filteredContacts = new FilteredList<>(this.siasa.getContactList(), contactPredicate);
+        filteredPolicies = new FilteredList<>(this.siasa.getPolicyList(), policyPredicate);
+        sortedContacts = new SortedList<>(filteredContacts, CONTACT_SORT_BY_ALPHA_ASC.thenComparing(CONTACT_TIE_BREAK));
+        // There may be many more policies than contacts, so large policy lists are sorted off the UI thread.
+        sortedPolicies = new BackgroundSortedList<Policy>(filteredPolicies,
+                POLICY_SORT_BY_ALPHA_ASC.thenComparing(POLICY_TIE_BREAK), getParallelSortThreshold(),
+                ForkJoinPool.commonPool(), Platform::runLater, this::getPolicySortKeys);
+        history = new ChangeHistory(userPrefs.getUndoHistorySize());
     }
 
     public ModelManager() {
@@ -60,6 +91,11 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        sortedPolicies.setParallelThreshold(getParallelSortThreshold());
+    }
+
+    private int getParallelSortThreshold() {
+        return Math.max(userPrefs.getParallelSortThreshold(), 1);
     }
 
     @Override
@@ -93,7 +129,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setSiasa(ReadOnlySiasa siasa) {
+        ReadOnlySiasa before = this.siasa.getSnapshot();
         this.siasa.resetData(siasa);
+        uncommittedChanges.add(Change.siasaReset(before, this.siasa.getSnapshot()));
     }
 
     @Override
@@ -101,6 +139,69 @@ public class ModelManager implements Model {
         return siasa;
     }
 
+    @Override
+    public ReadOnlySiasa getSiasaSnapshot() {
+        return siasa.getSnapshot();
+    }
+
+    @Override
+    public long getSiasaVersion() {
+        return siasa.getVersion();
+    }
+
+    @Override
+    public void applyBatch(Runnable changes) {
+        requireNonNull(changes);
+        int changeCount = uncommittedChanges.size();
+        boolean isCompleted = false;
+        try {
+            siasa.applyBatch(changes);
+            isCompleted = true;
+        } finally {
+            if (!isCompleted) {
+                // The SIASA discarded the changes of the batch, so they must be neither undone nor saved.
+                uncommittedChanges.subList(changeCount, uncommittedChanges.size()).clear();
+            }
+        }
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public void commitChanges() {
+        appliedChanges.addAll(uncommittedChanges);
+        history.record(uncommittedChanges);
+        uncommittedChanges.clear();
+    }
+
+    @Override
+    public List<Change> takeAppliedChanges() {
+        List<Change> taken = new ArrayList<>(appliedChanges);
+        appliedChanges.clear();
+        return taken;
+    }
+
+    @Override
+    public boolean canUndo() {
+        return history.canUndo() || !uncommittedChanges.isEmpty();
+    }
+
+    @Override
+    public boolean canRedo() {
+        return uncommittedChanges.isEmpty() && history.canRedo();
+    }
+
+    @Override
+    public void undo() {
+        commitChanges();
+        appliedChanges.addAll(history.undo(siasa));
+    }
+
+    @Override
+    public void redo() {
+        appliedChanges.addAll(history.redo(siasa));
+    }
+
     //=========== Person CRUD ================================================================================
 
     @Override
@@ -115,14 +216,31 @@ public class ModelManager implements Model {
         return siasa.getSimilarContact(contact);
     }
 
+    @Override
+    public Set<Contact> getContactsWithNameContainingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return siasa.getContactsWithNameContainingAny(keywords);
+    }
+
+    @Override
+    public Set<Contact> getContactsWithTags(Collection<Tag> tags, TagMatchMode mode) {
+        requireAllNonNull(tags, mode);
+        return siasa.getContactsWithTags(tags, mode);
+    }
+
     @Override
     public void deleteContact(Contact target) {
-        siasa.removeContactAndAssociatedPolicies(target);
+        List<Change> policyRemovals = toRemovals(siasa.getPoliciesBelongingTo(target));
+        int index = siasa.indexOfContact(target);
+        Contact removed = siasa.removeContactAndAssociatedPolicies(target);
+        // The policies go first, so that undoing restores the contact before its policies.
+        uncommittedChanges.addAll(policyRemovals);
+        uncommittedChanges.add(Change.contactRemoved(removed, index));
     }
 
     @Override
     public void addContact(Contact contact) {
-        siasa.addContact(contact);
+        uncommittedChanges.add(Change.contactAdded(siasa.addContact(contact)));
         removeAllFilters();
     }
 
@@ -130,7 +248,10 @@ public class ModelManager implements Model {
     public void setContact(Contact target, Contact editedContact) {
         requireAllNonNull(target, editedContact);
 
-        siasa.setContact(target, editedContact);
+        Contact after = siasa.setContact(target, editedContact);
+        // target has the same fields as the contact it replaced, but not necessarily the same id.
+        Contact before = target.getId().equals(after.getId()) ? target : target.withId(after.getId());
+        uncommittedChanges.add(Change.contactReplaced(before, after));
     }
 
     @Override
@@ -159,12 +280,13 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePolicy(Policy target) {
-        siasa.removePolicy(target);
+        int index = siasa.indexOfPolicy(target);
+        uncommittedChanges.add(Change.policyRemoved(siasa.removePolicy(target), index));
     }
 
     @Override
     public void addPolicy(Policy person) {
-        siasa.addPolicy(person);
+        uncommittedChanges.add(Change.policyAdded(siasa.addPolicy(person)));
         removeAllFilters();
     }
 
@@ -172,19 +294,50 @@ public class ModelManager implements Model {
     public void setPolicy(Policy target, Policy editedPolicy) {
         requireAllNonNull(target, editedPolicy);
 
-        siasa.setPolicy(target, editedPolicy);
+        uncommittedChanges.add(Change.policyReplaced(target, siasa.setPolicy(target, editedPolicy)));
     }
 
     @Override
     public void removePoliciesBelongingTo(Contact target) {
+        List<Change> policyRemovals = toRemovals(siasa.getPoliciesBelongingTo(target));
         siasa.removePoliciesBelongingTo(target);
+        uncommittedChanges.addAll(policyRemovals);
+    }
+
+    /**
+     * Returns the changes of removing {@code policies}, which must be in the SIASA, one by one from the back of
+     * the policy list, so that undoing them inserts each policy back at its position.
+     */
+    private List<Change> toRemovals(List<Policy> policies) {
+        Map<Integer, Policy> policiesByIndex = new TreeMap<>(Comparator.reverseOrder());
+        policies.forEach(policy -> policiesByIndex.put(siasa.indexOfPolicy(policy), policy));
+
+        List<Change> removals = new ArrayList<>();
+        policiesByIndex.forEach((index, policy) -> removals.add(Change.policyRemoved(policy, index)));
+        return removals;
     }
 
     @Override
-    public ObservableList<Policy> getPoliciesBelongingTo(Contact target) {
+    public List<Policy> getPoliciesBelongingTo(Contact target) {
         return siasa.getPoliciesBelongingTo(target);
     }
 
+    @Override
+    public List<Policy> getPoliciesExpiringBefore(LocalDate cutOff) {
+        return siasa.getPoliciesExpiringBefore(cutOff);
+    }
+
+    @Override
+    public List<Policy> getPoliciesExpiringBetween(LocalDate start, LocalDate end) {
+        return siasa.getPoliciesExpiringBetween(start, end);
+    }
+
+    @Override
+    public Set<Policy> getPoliciesWithTags(Collection<Tag> tags, TagMatchMode mode) {
+        requireAllNonNull(tags, mode);
+        return siasa.getPoliciesWithTags(tags, mode);
+    }
+
     @Override
     public double getTotalCommission() {
         return siasa.getTotalCommission();
@@ -198,19 +351,42 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Contact> getFilteredContactList() {
-        return filteredContacts;
+        return sortedContacts;
     }
 
     @Override
     public void updateFilteredContactList(Predicate<Contact> predicate) {
         requireNonNull(predicate);
+        contactPredicate = predicate;
+        isContactListLimited = false;
         filteredContacts.setPredicate(predicate);
     }
 
     @Override
     public void updateFilteredContactList(Comparator<Contact> comparator) {
         requireNonNull(comparator);
-        sortedContacts.setComparator(comparator);
+        // Sort the contacts shown before showing the rest of them, if any, so that they are only sorted once.
+        sortedContacts.setComparator(comparator.thenComparing(CONTACT_TIE_BREAK));
+        if (isContactListLimited) {
+            isContactListLimited = false;
+            filteredContacts.setPredicate(contactPredicate);
+        }
+    }
+
+    @Override
+    public void updateFilteredContactList(Comparator<Contact> comparator, int limit) {
+        requireNonNull(comparator);
+        checkArgument(limit > 0, "The limit must be positive");
+        Comparator<Contact> order = comparator.thenComparing(CONTACT_TIE_BREAK);
+        List<Contact> first = TopK.select(siasa.getContactList(), contactPredicate, order, limit);
+        if (first.size() < limit) {
+            updateFilteredContactList(comparator);
+            return;
+        }
+        // Show fewer contacts before sorting them, so that only the contacts shown are sorted.
+        isContactListLimited = true;
+        filteredContacts.setPredicate(contactPredicate.and(atOrBefore(first.get(limit - 1), order)));
+        sortedContacts.setComparator(order);
     }
 
     //=========== Filtered Policy List Accessors =============================================================
@@ -221,19 +397,65 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Policy> getFilteredPolicyList() {
-        return filteredPolicies;
+        return sortedPolicies.asObservableList();
     }
 
     @Override
     public void updateFilteredPolicyList(Predicate<Policy> predicate) {
         requireNonNull(predicate);
+        policyPredicate = predicate;
+        isPolicyListLimited = false;
         filteredPolicies.setPredicate(predicate);
     }
 
     @Override
     public void updateFilteredPolicyList(Comparator<Policy> comparator) {
         requireNonNull(comparator);
-        sortedPolicies.setComparator(comparator);
+        // Sort the policies shown before showing the rest of them, if any, so that they are only sorted once.
+        sortedPolicies.setComparator(comparator.thenComparing(POLICY_TIE_BREAK));
+        if (isPolicyListLimited) {
+            isPolicyListLimited = false;
+            filteredPolicies.setPredicate(policyPredicate);
+        }
+    }
+
+    @Override
+    public void updateFilteredPolicyList(Comparator<Policy> comparator, int limit) {
+        requireNonNull(comparator);
+        checkArgument(limit > 0, "The limit must be positive");
+        Comparator<Policy> order = comparator.thenComparing(POLICY_TIE_BREAK);
+        List<Policy> first = TopK.select(siasa.getPolicyList(), policyPredicate, order, limit);
+        if (first.size() < limit) {
+            updateFilteredPolicyList(comparator);
+            return;
+        }
+        // Show fewer policies before sorting them, so that only the policies shown are sorted.
+        isPolicyListLimited = true;
+        filteredPolicies.setPredicate(policyPredicate.and(atOrBefore(first.get(limit - 1), order)));
+        sortedPolicies.setComparator(order);
+    }
+
+    /**
+     * Returns a predicate testing if an element comes at or before {@code last} in the given {@code order}.
+     * Unlike a fixed set of elements, the predicate still holds for an element that is edited or added later,
+     * as long as it comes at or before {@code last}.
+     */
+    private static <T> Predicate<T> atOrBefore(T last, Comparator<T> order) {
+        return element -> order.compare(element, last) <= 0;
+    }
+
+    /**
+     * Returns the keys that {@code order} sorts the filtered policies by, if it sorts them by keys the SIASA holds.
+     */
+    private Optional<long[]> getPolicySortKeys(Comparator<? super Policy> order) {
+        if (!(order instanceof PolicyComparator.KeyOrder)) {
+            return Optional.empty();
+        }
+        int[] rows = new int[filteredPolicies.size()];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = filteredPolicies.getSourceIndex(i);
+        }
+        return siasa.getPolicySortKeys((PolicyComparator.KeyOrder) order, rows);
     }
 
     /**
@@ -260,8 +482,8 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return siasa.equals(other.siasa)
                 && userPrefs.equals(other.userPrefs)
-                && filteredContacts.equals(other.filteredContacts)
-                && filteredPolicies.equals(other.filteredPolicies);
+                && sortedContacts.equals(other.sortedContacts)
+                && sortedPolicies.asObservableList().equals(other.sortedPolicies.asObservableList());
     }
 
 }
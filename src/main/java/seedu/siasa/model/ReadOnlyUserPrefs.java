@@ -13,4 +13,20 @@ public interface ReadOnlyUserPrefs {
 
     Path getSiasaFilePath();
 
+    /**
+     * Returns the number of most recent commands that can be undone.
+     */
+    int getUndoHistorySize();
+
+    /**
+     * Returns the number of policies from which the policy list is sorted in the background.
+     */
+    int getParallelSortThreshold();
+
+    /**
+     * Returns the size in bytes the journal of changes to the SIASA file grows to before it is compacted into the
+     * file, or 0 or less if every change rewrites the whole file.
+     */
+    long getJournalCompactionThreshold();
+
 }
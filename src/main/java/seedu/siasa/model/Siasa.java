@@ -1,31 +1,40 @@
 package seedu.siasa.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.siasa.model.contact.Contact;
 import seedu.siasa.model.contact.UniqueContactList;
 import seedu.siasa.model.policy.Policy;
-import seedu.siasa.model.policy.PolicyIsOwnedByPredicate;
+import seedu.siasa.model.policy.PolicyComparator;
 import seedu.siasa.model.policy.UniquePolicyList;
+import seedu.siasa.model.tag.Tag;
+import seedu.siasa.model.tag.TagMatchMode;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSameContact comparison)
+ * Policies whose owner is in the SIASA hold the owner through the reference kept by the contact list,
+ * so editing a contact never requires replacing its policies.
  */
 public class Siasa implements ReadOnlySiasa {
 
     private final UniqueContactList contacts;
     private final UniquePolicyList policies;
+    private int batchDepth;
+    // Incremented on every change, so that whether the data changed between two points is a comparison away.
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -60,6 +69,7 @@ public class Siasa implements ReadOnlySiasa {
 
         setContacts(newData.getContactList());
         setPolicies(newData.getPolicyList());
+        version++;
     }
 
     /**
@@ -68,6 +78,61 @@ public class Siasa implements ReadOnlySiasa {
     public void mergePolicies(ReadOnlySiasa newData) {
         requireNonNull(newData);
         this.setPolicies(newData.getPolicyList());
+        version++;
+    }
+
+    /**
+     * Applies the changes made by {@code changes} as one batch: the contact and policy lists each publish
+     * at most one change, when {@code changes} completes. Batches may be nested, in which case the changes are
+     * published when the outermost batch completes. If {@code changes} throws, all changes made in the
+     * outermost batch are discarded.
+     */
+    public void applyBatch(Runnable changes) {
+        requireNonNull(changes);
+        if (batchDepth > 0) {
+            batchDepth++;
+            try {
+                changes.run();
+            } finally {
+                batchDepth--;
+            }
+            return;
+        }
+
+        contacts.beginBatch();
+        policies.beginBatch();
+        batchDepth = 1;
+        boolean isCompleted = false;
+        try {
+            changes.run();
+            isCompleted = true;
+        } finally {
+            batchDepth = 0;
+            if (isCompleted) {
+                contacts.commitBatch();
+                policies.commitBatch();
+            } else {
+                contacts.abortBatch();
+                policies.abortBatch();
+            }
+        }
+    }
+
+    /**
+     * Returns a number that changes whenever the contacts or policies of this SIASA change, so that two calls
+     * returning the same number mean that nothing changed in between. It may also change when changes were made
+     * and then discarded, e.g. by a batch that threw.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an immutable, point-in-time view of the contacts and policies of this SIASA, in O(1) time.
+     * The snapshot is not affected by later changes to this SIASA, and can be read from any thread.
+     */
+    public SiasaSnapshot getSnapshot() {
+        return new SiasaSnapshot(contacts.getSnapshot(), policies.getSnapshot());
     }
 
     //// contact-level operations
@@ -91,11 +156,47 @@ public class Siasa implements ReadOnlySiasa {
     }
 
     /**
-     * Adds a contact to the SIASA.
+     * Returns the contacts whose names contain any of the {@code keywords} as a whole word (case insensitive).
+     */
+    public Set<Contact> getContactsWithNameContainingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return contacts.getContactsWithNameContainingAny(keywords);
+    }
+
+    /**
+     * Returns the contacts having any or all (depending on {@code mode}) of the {@code tags}.
+     * Tags are matched case insensitively.
+     */
+    public Set<Contact> getContactsWithTags(Collection<Tag> tags, TagMatchMode mode) {
+        requireAllNonNull(tags, mode);
+        return contacts.getContactsWithTags(tags, mode);
+    }
+
+    /**
+     * Adds a contact to the SIASA, and returns the contact as added.
      * The contact must not already exist in the SIASA.
      */
-    public void addContact(Contact p) {
-        contacts.add(p);
+    public Contact addContact(Contact p) {
+        Contact added = contacts.add(p);
+        version++;
+        return added;
+    }
+
+    /**
+     * Inserts a contact into the SIASA at position {@code index} of the contact list, and returns the contact
+     * as added. The contact must not already exist in the SIASA.
+     */
+    public Contact addContact(int index, Contact contact) {
+        Contact added = contacts.add(index, contact);
+        version++;
+        return added;
+    }
+
+    /**
+     * Returns the position of {@code contact} in the contact list, or -1 if it is not in the SIASA.
+     */
+    public int indexOfContact(Contact contact) {
+        return contacts.indexOf(contact);
     }
 
     /**
@@ -103,11 +204,15 @@ public class Siasa implements ReadOnlySiasa {
      * {@code target} must exist in the SIASA.
      * The contact identity of {@code editedContact} must not be the same as another
      * existing contact in the SIASA.
+     * Returns the edited contact as it is in the SIASA.
      */
-    public void setContact(Contact target, Contact editedContact) {
+    public Contact setContact(Contact target, Contact editedContact) {
         requireNonNull(editedContact);
 
-        contacts.setContact(target, editedContact);
+        // The policies of target resolve their owner to editedContact through the reference of target.
+        Contact edited = contacts.setContact(target, editedContact);
+        version++;
+        return edited;
     }
 
     /**
@@ -120,59 +225,48 @@ public class Siasa implements ReadOnlySiasa {
     }
 
     /**
-     * Removes {@code key} from this {@code Siasa} and removes associated policies.
+     * Removes {@code key} from this {@code Siasa} and removes associated policies, as one batch.
      * {@code key} must exist in SIASA.
+     * Returns the contact that was in the SIASA.
      */
-    public void removeContactAndAssociatedPolicies(Contact key) {
-        contacts.remove(key);
-        policies.removeBelongingTo(key);
+    public Contact removeContactAndAssociatedPolicies(Contact key) {
+        Contact[] removed = new Contact[1];
+        applyBatch(() -> {
+            removed[0] = contacts.remove(key);
+            policies.removeBelongingTo(key);
+        });
+        version++;
+        return removed[0];
     }
 
     /**
-     * Removes all policies associated with {@code key}.
+     * Removes all policies associated with {@code key}, as one batch.
      * {@code key} must exist in SIASA.
      */
     public void removePoliciesBelongingTo(Contact key) {
-        policies.removeBelongingTo(key);
+        boolean[] isRemoved = new boolean[1];
+        applyBatch(() -> isRemoved[0] = policies.removeBelongingTo(key));
+        if (isRemoved[0]) {
+            version++;
+        }
     }
 
+    /**
+     * Returns the number of policies of every contact, in descending order of the number of policies.
+     */
     public Map<Contact, Integer> getNumberPoliciesPerContact() {
-        HashMap<Contact, Integer> hashMap = new HashMap<>();
-        contacts.forEach(contact -> {
-            hashMap.put(contact, 0);
-        });
-        policies.forEach(policy -> {
-            Contact owner = policy.getOwner();
-            int currentCount = hashMap.get(owner);
-            hashMap.put(owner, currentCount + 1);
-        });
-        List<Map.Entry<Contact, Integer>> list = new ArrayList<>(hashMap.entrySet());
-        list.sort(Collections.reverseOrder(Map.Entry.comparingByValue()));
-        Map<Contact, Integer> sortedResult = new LinkedHashMap<>();
-        for (Map.Entry<Contact, Integer> entry : list) {
-            sortedResult.put(entry.getKey(), entry.getValue());
-        }
-        return sortedResult;
+        LinkedHashMap<Contact, Integer> result = policies.getPolicyCountPerOwner();
+        contacts.forEach(contact -> result.putIfAbsent(contact, 0));
+        return result;
     }
 
+    /**
+     * Returns the total commission from the policies of every contact, in descending order of commission.
+     */
     public Map<Contact, Double> getCommissionPerContact() {
-        HashMap<Contact, Double> hashMap = new HashMap<>();
-        contacts.forEach(contact -> {
-            double commission = 0.0;
-            for (Policy policy : policies) {
-                if (policy.getOwner().equals(contact)) {
-                    commission = commission + policy.getTotalCommission();
-                }
-            }
-            hashMap.put(contact, commission);
-        });
-        List<Map.Entry<Contact, Double>> list = new ArrayList<>(hashMap.entrySet());
-        list.sort(Collections.reverseOrder(Map.Entry.comparingByValue()));
-        Map<Contact, Double> sortedResult = new LinkedHashMap<>();
-        for (Map.Entry<Contact, Double> entry : list) {
-            sortedResult.put(entry.getKey(), entry.getValue());
-        }
-        return sortedResult;
+        LinkedHashMap<Contact, Double> result = policies.getCommissionPerOwner();
+        contacts.forEach(contact -> result.putIfAbsent(contact, 0.0));
+        return result;
     }
 
     /// policy-level operations
@@ -195,24 +289,59 @@ public class Siasa implements ReadOnlySiasa {
         return policies.getSimilar(policy);
     }
 
-    public void removePolicy(Policy target) {
-        policies.remove(target);
+    /**
+     * Removes the equivalent policy from the SIASA, and returns the policy that was in the SIASA.
+     * The policy must exist in the SIASA.
+     */
+    public Policy removePolicy(Policy target) {
+        Policy removed = policies.remove(target);
+        version++;
+        return removed;
+    }
+
+    /**
+     * Adds a policy to the SIASA, and returns the policy as added.
+     * The policy must not already exist in the SIASA.
+     */
+    public Policy addPolicy(Policy policy) {
+        Policy added = withBoundOwner(policy);
+        policies.add(added);
+        version++;
+        return added;
+    }
+
+    /**
+     * Inserts a policy into the SIASA at position {@code index} of the policy list, and returns the policy
+     * as added. The policy must not already exist in the SIASA.
+     */
+    public Policy addPolicy(int index, Policy policy) {
+        Policy added = withBoundOwner(policy);
+        policies.add(index, added);
+        version++;
+        return added;
     }
 
-    public void addPolicy(Policy policy) {
-        policies.add(policy);
+    /**
+     * Returns the position of {@code policy} in the policy list, or -1 if it is not in the SIASA.
+     */
+    public int indexOfPolicy(Policy policy) {
+        return policies.indexOf(policy);
     }
 
     /**
      * Replaces the given policy {@code target} in the list with {@code editedPolicy}.
      * {@code target} must exist in the SIASA.
      * The policy identity of {@code editedPolicy} must not be the same as another existing policy in the SIASA.
+     * Returns the edited policy as it is in the SIASA.
      */
-    public void setPolicy(Policy target, Policy editedPolicy) {
+    public Policy setPolicy(Policy target, Policy editedPolicy) {
         // Note: Have to be careful that we do not have associated owners not in persons.
         requireNonNull(editedPolicy);
 
-        policies.setPolicy(target, editedPolicy);
+        Policy replacement = withBoundOwner(editedPolicy);
+        policies.setPolicy(target, replacement);
+        version++;
+        return replacement;
     }
 
     /**
@@ -221,15 +350,65 @@ public class Siasa implements ReadOnlySiasa {
      */
     private void setPolicies(List<Policy> policies) {
         // Note: Have to be careful that we do not have associated owners not in persons.
-        this.policies.setPolicies(policies);
+        this.policies.setPolicies(policies.stream().map(this::withBoundOwner).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns {@code policy} holding its owner through the reference kept by the contact list,
+     * or {@code policy} itself if its owner is not in the SIASA.
+     */
+    private Policy withBoundOwner(Policy policy) {
+        return contacts.getReference(policy.getOwnerId())
+                .map(policy::withOwnerReference)
+                .orElse(policy);
     }
 
     public double getTotalCommission() {
         return policies.getTotalCommission();
     }
 
-    public ObservableList<Policy> getPoliciesBelongingTo(Contact target) {
-        return policies.asUnmodifiableObservableList().filtered(new PolicyIsOwnedByPredicate(target));
+    /**
+     * Returns the keys that {@code order} sorts the policies at positions {@code rows} of the policy list by.
+     *
+     * @see UniquePolicyList#getSortKeys(PolicyComparator.KeyOrder, int[])
+     */
+    public Optional<long[]> getPolicySortKeys(PolicyComparator.KeyOrder order, int[] rows) {
+        return policies.getSortKeys(order, rows);
+    }
+
+    /**
+     * Returns an unmodifiable list of the policies belonging to {@code target}.
+     */
+    public List<Policy> getPoliciesBelongingTo(Contact target) {
+        requireNonNull(target);
+        return policies.getPoliciesBelongingTo(target);
+    }
+
+    /**
+     * Returns an unmodifiable list of the policies expiring before {@code cutOff},
+     * including those that have already expired, in order of expiry date.
+     */
+    public List<Policy> getPoliciesExpiringBefore(LocalDate cutOff) {
+        requireNonNull(cutOff);
+        return policies.getPoliciesExpiringBefore(cutOff);
+    }
+
+    /**
+     * Returns an unmodifiable list of the policies expiring on or after {@code start} and before {@code end},
+     * in order of expiry date.
+     */
+    public List<Policy> getPoliciesExpiringBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        return policies.getPoliciesExpiringBetween(start, end);
+    }
+
+    /**
+     * Returns the policies having any or all (depending on {@code mode}) of the {@code tags}.
+     * Tags are matched case insensitively.
+     */
+    public Set<Policy> getPoliciesWithTags(Collection<Tag> tags, TagMatchMode mode) {
+        requireAllNonNull(tags, mode);
+        return policies.getPoliciesWithTags(tags, mode);
     }
     //// util methods
 
@@ -0,0 +1,78 @@
+package seedu.siasa.model;
+
+import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.contact.ContactId;
+import seedu.siasa.model.contact.ContactReference;
+import seedu.siasa.model.policy.Policy;
+import seedu.siasa.model.util.PersistentList;
+
+/**
+ * An immutable, point-in-time view of an SIASA, taken with {@link Siasa#getSnapshot()}.
+ * Since it never changes, it can be read from any thread, e.g. by a long-running report, while the SIASA it was
+ * taken from keeps changing.
+ * <p>
+ * The owners of the policies in the snapshot resolve to the versions of the contacts in the snapshot, even if
+ * the contacts have been edited since.
+ */
+public class SiasaSnapshot implements ReadOnlySiasa {
+
+    private final ObservableList<Contact> contactList;
+    private final PersistentList<Contact> contacts;
+    private final PersistentList<Policy> policies;
+    // Built on first use, so that the thread reading the snapshot pays for it rather than the one taking it.
+    private ObservableList<Policy> policyList;
+
+    SiasaSnapshot(PersistentList<Contact> contacts, PersistentList<Policy> policies) {
+        requireAllNonNull(contacts, policies);
+        this.contacts = contacts;
+        this.policies = policies;
+        this.contactList = FXCollections.unmodifiableObservableList(FXCollections.observableList(contacts));
+    }
+
+    @Override
+    public ObservableList<Contact> getContactList() {
+        return contactList;
+    }
+
+    @Override
+    public synchronized ObservableList<Policy> getPolicyList() {
+        if (policyList == null) {
+            policyList = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(withSnapshotOwners()));
+        }
+        return policyList;
+    }
+
+    /**
+     * Returns the policies of the snapshot, with the owners of those whose owner was edited after the snapshot
+     * was taken bound back to the version of the owner in the snapshot.
+     */
+    private List<Policy> withSnapshotOwners() {
+        Map<ContactId, Contact> contactsById = new HashMap<>();
+        for (Contact contact : contacts) {
+            contactsById.put(contact.getId(), contact);
+        }
+
+        List<Policy> resolved = new ArrayList<>(policies.size());
+        boolean isAnyOwnerEdited = false;
+        for (Policy policy : policies) {
+            Contact owner = contactsById.get(policy.getOwnerId());
+            if (owner == null || owner == policy.getOwner()) {
+                resolved.add(policy);
+            } else {
+                resolved.add(policy.withOwnerReference(ContactReference.to(owner)));
+                isAnyOwnerEdited = true;
+            }
+        }
+        return isAnyOwnerEdited ? resolved : policies;
+    }
+}
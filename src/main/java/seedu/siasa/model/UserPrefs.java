@@ -16,6 +16,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     // TODO: Need to update file name
     private Path siasaFilePath = Paths.get("data" , "siasa.json");
+    private int undoHistorySize = 50;
+    private int parallelSortThreshold = 100_000;
+    private long journalCompactionThreshold = 1024 * 1024;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +40,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setSiasaFilePath(newUserPrefs.getSiasaFilePath());
+        setUndoHistorySize(newUserPrefs.getUndoHistorySize());
+        setParallelSortThreshold(newUserPrefs.getParallelSortThreshold());
+        setJournalCompactionThreshold(newUserPrefs.getJournalCompactionThreshold());
     }
 
     public GuiSettings getGuiSettings() {
@@ -57,6 +63,30 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.siasaFilePath = siasaFilePath;
     }
 
+    public int getUndoHistorySize() {
+        return undoHistorySize;
+    }
+
+    public void setUndoHistorySize(int undoHistorySize) {
+        this.undoHistorySize = undoHistorySize;
+    }
+
+    public int getParallelSortThreshold() {
+        return parallelSortThreshold;
+    }
+
+    public void setParallelSortThreshold(int parallelSortThreshold) {
+        this.parallelSortThreshold = parallelSortThreshold;
+    }
+
+    public long getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(long journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +99,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && siasaFilePath.equals(o.siasaFilePath);
+                && siasaFilePath.equals(o.siasaFilePath)
+                && undoHistorySize == o.undoHistorySize
+                && parallelSortThreshold == o.parallelSortThreshold
+                && journalCompactionThreshold == o.journalCompactionThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, siasaFilePath);
+        return Objects.hash(guiSettings, siasaFilePath, undoHistorySize, parallelSortThreshold,
+                journalCompactionThreshold);
     }
 
     @Override
@@ -82,6 +116,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal siasa data file location : " + siasaFilePath);
+        sb.append("\nUndo history size : " + undoHistorySize);
+        sb.append("\nParallel sort threshold : " + parallelSortThreshold);
+        sb.append("\nJournal compaction threshold : " + journalCompactionThreshold);
         return sb.toString();
     }
 
@@ -12,9 +12,13 @@ import seedu.siasa.model.tag.Tag;
 /**
  * Represents a Contact in SIASA.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * The {@code ContactId} of a contact is kept by all its edited versions, and is not part of its fields,
+ * i.e. it does not take part in equality.
  */
 public class Contact {
 
+    private final ContactId id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -24,16 +28,39 @@ public class Contact {
     private final Address address;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Contacts are immutable and hashed constantly by the indexes holding them, so the hash is computed once.
+    private final int hash;
+
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. The contact is given a newly generated id.
      */
     public Contact(Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
-        requireAllNonNull(name, phone, email, address, tags);
+        this(ContactId.generate(), name, phone, email, address, tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Contact(ContactId id, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+        requireAllNonNull(id, name, phone, email, address, tags);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         this.tags.addAll(tags);
+        this.hash = Objects.hash(name, phone, email, address, this.tags);
+    }
+
+    public ContactId getId() {
+        return id;
+    }
+
+    /**
+     * Returns a copy of this contact with the id {@code newId}.
+     */
+    public Contact withId(ContactId newId) {
+        return new Contact(newId, name, phone, email, address, tags);
     }
 
     public Name getName() {
@@ -97,17 +124,18 @@ public class Contact {
         }
 
         Contact otherContact = (Contact) other;
-        return otherContact.getName().equals(getName())
-                && otherContact.getPhone().equals(getPhone())
-                && otherContact.getEmail().equals(getEmail())
-                && otherContact.getAddress().equals(getAddress())
-                && otherContact.getTags().equals(getTags());
+        // Contacts with different hashes cannot be equal, which rejects most unequal contacts in one comparison.
+        return otherContact.hash == hash
+                && otherContact.name.equals(name)
+                && otherContact.phone.equals(phone)
+                && otherContact.email.equals(email)
+                && otherContact.address.equals(address)
+                && otherContact.tags.equals(tags);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        return hash;
     }
 
     @Override
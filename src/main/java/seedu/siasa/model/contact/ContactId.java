@@ -0,0 +1,65 @@
+package seedu.siasa.model.contact;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.siasa.commons.util.AppUtil.checkArgument;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Represents the identifier of a Contact in the SIASA. Unlike the name, the identifier of a contact never
+ * changes when the contact is edited, so it is what policies refer to their owners by.
+ * Guarantees: immutable; is valid as declared in {@link #isValidContactId(String)}
+ */
+public class ContactId {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Contact ids should be UUIDs, e.g. 123e4567-e89b-12d3-a456-426614174000";
+
+    public static final String VALIDATION_REGEX =
+            "\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{12}";
+
+    public final String value;
+
+    /**
+     * Constructs a {@code ContactId}.
+     *
+     * @param id A valid contact id.
+     */
+    public ContactId(String id) {
+        requireNonNull(id);
+        checkArgument(isValidContactId(id), MESSAGE_CONSTRAINTS);
+        value = id.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns a new identifier that is different from every other identifier generated.
+     */
+    public static ContactId generate() {
+        return new ContactId(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Returns true if a given string is a valid contact id.
+     */
+    public static boolean isValidContactId(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ContactId // instanceof handles nulls
+                && value.equals(((ContactId) other).value)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.siasa.model.contact;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A reference to a contact by its {@code ContactId}, which resolves to the current version of that contact.
+ * <p>
+ * A {@code UniqueContactList} keeps one reference for each of its contacts and repoints it whenever the
+ * contact is edited, so everything holding the reference, e.g. the policies of the contact, sees the edit
+ * without being replaced. A reference created with {@link #to(Contact)} is not kept by any list and always
+ * resolves to the contact it was created with.
+ */
+public class ContactReference {
+
+    private final ContactId id;
+    // Volatile so that threads reading a snapshot of the SIASA see the latest version of the contact.
+    private volatile Contact contact;
+
+    private ContactReference(Contact contact) {
+        this.id = contact.getId();
+        this.contact = contact;
+    }
+
+    /**
+     * Returns a reference that always resolves to {@code contact}.
+     */
+    public static ContactReference to(Contact contact) {
+        requireNonNull(contact);
+        return new ContactReference(contact);
+    }
+
+    public ContactId getId() {
+        return id;
+    }
+
+    /**
+     * Returns the current version of the referenced contact.
+     */
+    public Contact get() {
+        return contact;
+    }
+
+    /**
+     * Repoints this reference to {@code editedContact}, a newer version of the referenced contact.
+     */
+    void set(Contact editedContact) {
+        assert editedContact.getId().equals(id);
+        contact = editedContact;
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.siasa.commons.util.AppUtil.checkArgument;
 
 import seedu.siasa.commons.util.StringUtil;
+import seedu.siasa.model.util.CollationKey;
 
 /**
  * Represents a Contact's name in the SIASA.
@@ -21,6 +22,7 @@ public class Name {
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    private final CollationKey collationKey;
 
     /**
      * Constructs a {@code Name}.
@@ -31,6 +33,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        collationKey = CollationKey.of(name);
     }
 
     /**
@@ -40,6 +43,13 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the key that orders names alphabetically, ignoring case.
+     */
+    public CollationKey getCollationKey() {
+        return collationKey;
+    }
+
     /**
      * Returns true if full names have edit distance of zero or one (case insensitive).
      */
@@ -15,6 +15,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Contact> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Contact contact) {
         return keywords.stream()
@@ -2,10 +2,22 @@ package seedu.siasa.model.contact;
 
 import java.util.Comparator;
 
+/**
+ * Orders in which contacts can be sorted. Names are compared by their precomputed collation keys.
+ */
 public class PersonComparator {
     public static final Comparator<Contact> CONTACT_SORT_BY_ALPHA_ASC = (
-            a, b) -> String.CASE_INSENSITIVE_ORDER.compare(a.getName().toString(), b.getName().toString());
+            a, b) -> a.getName().getCollationKey().compareTo(b.getName().getCollationKey());
 
     public static final Comparator<Contact> CONTACT_SORT_BY_ALPHA_DESC = (
-            a, b) -> -String.CASE_INSENSITIVE_ORDER.compare(a.getName().toString(), b.getName().toString());
+            a, b) -> b.getName().getCollationKey().compareTo(a.getName().getCollationKey());
+
+    /**
+     * Orders contacts that every other comparator considers equal: by name, case-insensitively and then
+     * case-sensitively, and then by id. No two distinct contacts in the SIASA are equal under this order,
+     * so appending it to any comparator makes sorting deterministic.
+     */
+    public static final Comparator<Contact> CONTACT_TIE_BREAK = CONTACT_SORT_BY_ALPHA_ASC
+            .thenComparing(contact -> contact.getName().fullName)
+            .thenComparing(contact -> contact.getId().value);
 }
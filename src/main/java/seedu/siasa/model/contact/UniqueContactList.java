@@ -3,14 +3,30 @@ package seedu.siasa.model.contact;
 import static java.util.Objects.requireNonNull;
 import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.siasa.model.contact.exceptions.ContactNotFoundException;
 import seedu.siasa.model.contact.exceptions.DuplicateContactException;
+import seedu.siasa.model.tag.Tag;
+import seedu.siasa.model.tag.TagMatchMode;
+import seedu.siasa.model.util.InvertedIndex;
+import seedu.siasa.model.util.PersistentList;
+import seedu.siasa.model.util.PositionIndex;
+import seedu.siasa.model.util.SimilarityIndex;
 
 /**
  * A list of contacts that enforces uniqueness between its elements and does not allow nulls.
@@ -20,6 +36,24 @@ import seedu.siasa.model.contact.exceptions.DuplicateContactException;
  * Contact#equals(Object) so as to ensure that the contact with exactly the same fields will be removed.
  * <p>
  * Supports a minimal set of list operations.
+ * <p>
+ * Since contact identity is defined by name, the list also keeps a name-keyed {@code PositionIndex} of the
+ * position of every contact in the backing list, so that identity lookups do not need to scan the whole list
+ * and removing a contact does not renumber the contacts after it,
+ * a {@code SimilarityIndex} of the names, so that looking for similar names does not either, and an
+ * {@code InvertedIndex} from the (case folded) words of the names to the contacts, so that finding contacts
+ * by keywords only visits the contacts having those words. A similar index from tags to contacts serves
+ * filtering by tags.
+ * <p>
+ * The list also keeps a {@code ContactReference} for each contact, keyed by its {@code ContactId}. Replacing a
+ * contact keeps its id and repoints its reference, so whatever refers to the contact sees the edited version.
+ * <p>
+ * Changes can be grouped into a batch with {@link #beginBatch()} and {@link #commitBatch()}. Within a batch, the
+ * changes are made to a working copy of the list, and are published to the observable list as a single change
+ * when the batch is committed.
+ * <p>
+ * Every change is also applied to a {@code PersistentList} of the contacts, which is handed out by
+ * {@link #getSnapshot()} as a point-in-time view of the list that later changes leave untouched.
  *
  * @see Contact#isSameContact(Contact)
  */
@@ -28,13 +62,26 @@ public class UniqueContactList implements Iterable<Contact> {
     private final ObservableList<Contact> internalList = FXCollections.observableArrayList();
     private final ObservableList<Contact> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    // The list that changes are made to: internalList itself, or its working copy during a batch.
+    private List<Contact> workingList = internalList;
+    private PersistentList<Contact> snapshot = PersistentList.empty();
+    private PersistentList<Contact> snapshotBeforeBatch;
+    private final PositionIndex<Name> positionsByName = new PositionIndex<>();
+    private final Map<ContactId, ContactReference> referencesById = new HashMap<>();
+    // The references from before the batch, including those of contacts removed in it.
+    private Map<ContactId, ContactReference> referencesBeforeBatch;
+    private final SimilarityIndex<Contact> similarNames = new SimilarityIndex<>(contact -> contact.getName().fullName);
+    private final InvertedIndex<String, Contact> contactsByNameWord =
+            new InvertedIndex<>(contact -> toNameWords(contact.getName().fullName));
+    private final InvertedIndex<String, Contact> contactsByTag =
+            new InvertedIndex<>(contact -> Tag.toCaseFoldedNames(contact.getTags()));
 
     /**
      * Returns true if the list contains an equivalent contact as the given argument.
      */
     public boolean contains(Contact toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameContact);
+        return positionsByName.contains(toCheck.getName());
     }
 
     /**
@@ -44,55 +91,136 @@ public class UniqueContactList implements Iterable<Contact> {
      */
     public Optional<Contact> getSimilar(Contact toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().filter(toCheck::isSimilarContact).findFirst();
+        return similarNames.search(toCheck.getName().fullName, 1).stream()
+                .filter(toCheck::isSimilarContact)
+                .min(Comparator.comparingInt(contact -> positionsByName.positionOf(contact.getName())));
+    }
+
+    /**
+     * Returns the contacts whose names contain any of the {@code keywords} as a whole word (case insensitive).
+     */
+    public Set<Contact> getContactsWithNameContainingAny(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        return contactsByNameWord.getMatchingAny(foldCase(keywords));
+    }
+
+    /**
+     * Returns the contacts having any or all (depending on {@code mode}) of the {@code tags}.
+     * Tags are matched case insensitively.
+     */
+    public Set<Contact> getContactsWithTags(Collection<Tag> tags, TagMatchMode mode) {
+        requireAllNonNull(tags, mode);
+        Set<String> tagNames = Tag.toCaseFoldedNames(tags);
+        return mode == TagMatchMode.ALL
+                ? contactsByTag.getMatchingAll(tagNames)
+                : contactsByTag.getMatchingAny(tagNames);
+    }
+
+    /**
+     * Returns the reference kept by this list for the contact with the id {@code id}, if there is one.
+     */
+    public Optional<ContactReference> getReference(ContactId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(referencesById.get(id));
+    }
+
+    /**
+     * Adds a contact to the list, and returns the contact as added.
+     * The contact must not already exist in the list. If its id is already taken by another contact,
+     * it is added with a newly generated id instead.
+     */
+    public Contact add(Contact toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateContactException();
+        }
+        Contact added = withUnusedId(toAdd);
+        positionsByName.add(added.getName());
+        referencesById.put(added.getId(), ContactReference.to(added));
+        addToIndexes(added);
+        workingList.add(added);
+        snapshot = snapshot.plus(added);
+        return added;
     }
 
     /**
-     * Adds a contact to the list.
-     * The contact must not already exist in the list.
+     * Inserts a contact into the list at position {@code index}, e.g. to restore a contact where it was removed
+     * from, and returns the contact as added.
+     * The contact must not already exist in the list. If its id is already taken by another contact,
+     * it is added with a newly generated id instead.
      */
-    public void add(Contact toAdd) {
+    public Contact add(int index, Contact toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateContactException();
         }
-        internalList.add(toAdd);
+        Contact added = withUnusedId(toAdd);
+        positionsByName.add(index, added.getName());
+        referencesById.put(added.getId(), ContactReference.to(added));
+        addToIndexes(added);
+        workingList.add(index, added);
+        snapshot = snapshot.plus(index, added);
+        return added;
     }
 
     /**
      * Replaces the contact {@code target} in the list with {@code editedContact}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedContact} must not be the same as another existing contact in the list.
+     * The edited contact keeps the id of {@code target}, so references to {@code target} resolve to it.
+     * Returns the edited contact as it is in the list.
      */
-    public void setContact(Contact target, Contact editedContact) {
+    public Contact setContact(Contact target, Contact editedContact) {
         requireAllNonNull(target, editedContact);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ContactNotFoundException();
         }
 
-        if (!target.isSameContact(editedContact) && contains(editedContact)) {
-            throw new DuplicateContactException();
+        if (!target.isSameContact(editedContact)) {
+            if (contains(editedContact)) {
+                throw new DuplicateContactException();
+            }
+            positionsByName.replace(target.getName(), editedContact.getName());
         }
 
-        internalList.set(index, editedContact);
+        ContactId id = workingList.get(index).getId();
+        Contact replacement = editedContact.getId().equals(id) ? editedContact : editedContact.withId(id);
+        removeFromIndexes(workingList.get(index));
+        addToIndexes(replacement);
+        referencesById.get(id).set(replacement);
+        workingList.set(index, replacement);
+        snapshot = snapshot.with(index, replacement);
+        return replacement;
     }
 
     /**
-     * Removes the equivalent contact from the list.
+     * Removes the equivalent contact from the list, and returns the contact that was in the list.
      * The contact must exist in the list.
      */
-    public void remove(Contact toRemove) {
+    public Contact remove(Contact toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ContactNotFoundException();
         }
+
+        positionsByName.remove(toRemove.getName());
+        Contact removed = workingList.remove(index);
+        referencesById.remove(removed.getId());
+        removeFromIndexes(removed);
+        snapshot = snapshot.minus(index);
+        return removed;
     }
 
+    /**
+     * Replaces the contents of this list with the contacts in {@code replacement}.
+     */
     public void setContacts(UniqueContactList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceContents(replacement.workingList);
+        rebuildIndexes();
     }
 
     /**
@@ -105,7 +233,62 @@ public class UniqueContactList implements Iterable<Contact> {
             throw new DuplicateContactException();
         }
 
-        internalList.setAll(contacts);
+        Set<ContactId> ids = new HashSet<>();
+        replaceContents(contacts.stream()
+                .map(contact -> ids.add(contact.getId()) ? contact : contact.withId(ContactId.generate()))
+                .collect(Collectors.toList()));
+        rebuildIndexes();
+    }
+
+    /**
+     * Starts a batch of changes. Until the batch is committed, changes are made to a working copy of the list,
+     * so the observable list does not show them, while all other methods of this list do.
+     */
+    public void beginBatch() {
+        assert !isInBatch();
+        workingList = new ArrayList<>(internalList);
+        snapshotBeforeBatch = snapshot;
+        referencesBeforeBatch = new HashMap<>(referencesById);
+    }
+
+    /**
+     * Publishes the changes made since {@link #beginBatch()} to the observable list as a single change.
+     */
+    public void commitBatch() {
+        assert isInBatch();
+        List<Contact> changed = workingList;
+        workingList = internalList;
+        referencesBeforeBatch = null;
+        if (!isSameInstances(changed, internalList)) {
+            internalList.setAll(changed);
+        }
+    }
+
+    /**
+     * Discards the changes made since {@link #beginBatch()}. References to the contacts are repointed to
+     * their versions from before the batch, and the references of contacts removed in the batch are kept again,
+     * so whatever held them before the batch stays in sync.
+     */
+    public void abortBatch() {
+        assert isInBatch();
+        workingList = internalList;
+        snapshot = snapshotBeforeBatch;
+        referencesById.clear();
+        referencesById.putAll(referencesBeforeBatch);
+        referencesBeforeBatch = null;
+        rebuildIndexes();
+    }
+
+    private boolean isInBatch() {
+        return workingList != internalList;
+    }
+
+    /**
+     * Returns the contacts currently in the list, in the same order, as an immutable list.
+     * This takes O(1) time, and the returned list is not affected by later changes to this list.
+     */
+    public PersistentList<Contact> getSnapshot() {
+        return snapshot;
     }
 
     /**
@@ -117,30 +300,123 @@ public class UniqueContactList implements Iterable<Contact> {
 
     @Override
     public Iterator<Contact> iterator() {
-        return internalList.iterator();
+        return workingList.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof UniqueContactList // instanceof handles nulls
-            && internalList.equals(((UniqueContactList) other).internalList));
+            && workingList.equals(((UniqueContactList) other).workingList));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return workingList.hashCode();
+    }
+
+    /**
+     * Returns the position of {@code contact} in the list, or -1 if no contact with exactly
+     * the same fields is in the list.
+     */
+    public int indexOf(Contact contact) {
+        requireNonNull(contact);
+        int index = positionsByName.positionOf(contact.getName());
+        if (index == -1 || !workingList.get(index).equals(contact)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Rebuilds all indexes from the contents of the backing list.
+     */
+    private void rebuildIndexes() {
+        Map<ContactId, ContactReference> previousReferences = new HashMap<>(referencesById);
+        referencesById.clear();
+        similarNames.clear();
+        contactsByNameWord.clear();
+        contactsByTag.clear();
+        positionsByName.setAll(workingList.stream().map(Contact::getName).collect(Collectors.toList()));
+        for (Contact contact : workingList) {
+            // Keep the references of contacts that stay, so that whatever holds them stays in sync.
+            ContactReference reference = previousReferences.get(contact.getId());
+            if (reference == null) {
+                reference = ContactReference.to(contact);
+            } else {
+                reference.set(contact);
+            }
+            referencesById.put(contact.getId(), reference);
+        }
+        workingList.forEach(this::addToIndexes);
+    }
+
+    /**
+     * Replaces the contents of the list that changes are made to with {@code contacts}.
+     */
+    private void replaceContents(List<Contact> contacts) {
+        snapshot = PersistentList.copyOf(contacts);
+        if (isInBatch()) {
+            workingList.clear();
+            workingList.addAll(contacts);
+        } else {
+            internalList.setAll(contacts);
+        }
+    }
+
+    private static boolean isSameInstances(List<Contact> contacts, List<Contact> otherContacts) {
+        if (contacts.size() != otherContacts.size()) {
+            return false;
+        }
+        for (int i = 0; i < contacts.size(); i++) {
+            if (contacts.get(i) != otherContacts.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns {@code contact}, or a copy of it with a newly generated id if its id is already taken.
+     */
+    private Contact withUnusedId(Contact contact) {
+        return referencesById.containsKey(contact.getId()) ? contact.withId(ContactId.generate()) : contact;
+    }
+
+    private void addToIndexes(Contact contact) {
+        similarNames.add(contact);
+        contactsByNameWord.add(contact);
+        contactsByTag.add(contact);
+    }
+
+    /**
+     * Removes exactly the instance {@code contact} from the name and tag indexes.
+     */
+    private void removeFromIndexes(Contact contact) {
+        similarNames.remove(contact);
+        contactsByNameWord.remove(contact);
+        contactsByTag.remove(contact);
+    }
+
+    /**
+     * Returns the distinct case folded words of {@code fullName}.
+     */
+    private static Set<String> toNameWords(String fullName) {
+        return foldCase(Arrays.asList(fullName.split("\\s+")));
+    }
+
+    private static Set<String> foldCase(Collection<String> words) {
+        return words.stream().map(word -> word.trim().toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
     }
 
     /**
      * Returns true if {@code contacts} contains only unique contacts.
      */
     private boolean contactsAreUnique(List<Contact> contacts) {
-        for (int i = 0; i < contacts.size() - 1; i++) {
-            for (int j = i + 1; j < contacts.size(); j++) {
-                if (contacts.get(i).isSameContact(contacts.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Contact contact : contacts) {
+            if (!names.add(contact.getName())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,288 @@
+package seedu.siasa.model.history;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.siasa.model.ReadOnlySiasa;
+import seedu.siasa.model.Siasa;
+import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.policy.Policy;
+
+/**
+ * A change made to an SIASA, which only holds the entities it added, removed or replaced, so that it can be
+ * undone and redone, or written to a journal, in time proportional to its own size rather than to the size of
+ * the SIASA.
+ */
+public abstract class Change {
+
+    /**
+     * Returns the change of {@code added} being added to the SIASA.
+     */
+    public static Change contactAdded(Contact added) {
+        return contactAdded(added, -1);
+    }
+
+    /**
+     * Returns the change of {@code added} being inserted at position {@code index} of the contact list, or
+     * appended to it if {@code index} is negative.
+     */
+    public static Change contactAdded(Contact added, int index) {
+        requireNonNull(added);
+        return new ContactChange(null, added, index);
+    }
+
+    /**
+     * Returns the change of {@code removed} being removed from position {@code index} of the contact list.
+     * The removal of its policies are separate changes, which must precede this one.
+     */
+    public static Change contactRemoved(Contact removed, int index) {
+        requireNonNull(removed);
+        return new ContactChange(removed, null, index);
+    }
+
+    /**
+     * Returns the change of {@code before} being replaced by {@code after} in the SIASA.
+     */
+    public static Change contactReplaced(Contact before, Contact after) {
+        requireAllNonNull(before, after);
+        return new ContactChange(before, after, -1);
+    }
+
+    /**
+     * Returns the change of {@code added} being added to the SIASA.
+     */
+    public static Change policyAdded(Policy added) {
+        return policyAdded(added, -1);
+    }
+
+    /**
+     * Returns the change of {@code added} being inserted at position {@code index} of the policy list, or
+     * appended to it if {@code index} is negative.
+     */
+    public static Change policyAdded(Policy added, int index) {
+        requireNonNull(added);
+        return new PolicyChange(null, added, index);
+    }
+
+    /**
+     * Returns the change of {@code removed} being removed from position {@code index} of the policy list.
+     */
+    public static Change policyRemoved(Policy removed, int index) {
+        requireNonNull(removed);
+        return new PolicyChange(removed, null, index);
+    }
+
+    /**
+     * Returns the change of {@code before} being replaced by {@code after} in the SIASA.
+     */
+    public static Change policyReplaced(Policy before, Policy after) {
+        requireAllNonNull(before, after);
+        return new PolicyChange(before, after, -1);
+    }
+
+    /**
+     * Returns the change of all the data of the SIASA being replaced, from {@code before} to {@code after}.
+     * Both must be snapshots that are not affected by later changes to the SIASA.
+     */
+    public static Change siasaReset(ReadOnlySiasa before, ReadOnlySiasa after) {
+        requireAllNonNull(before, after);
+        return new ResetChange(before, after);
+    }
+
+    /**
+     * Makes this change to {@code siasa}, which must be in the state this change was made from.
+     */
+    public abstract void apply(Siasa siasa);
+
+    /**
+     * Reverts this change in {@code siasa}, which must be in the state this change resulted in.
+     */
+    abstract void revert(Siasa siasa);
+
+    /**
+     * Returns the change that reverting this change makes.
+     */
+    abstract Change inverse();
+
+    /**
+     * Returns what {@code visitor} makes of this change.
+     */
+    public abstract <R> R accept(Visitor<R> visitor);
+
+    /**
+     * Tells what a change is, by the method called for it by {@link #accept(Visitor)}.
+     *
+     * @param <R> the type of what is made of the changes.
+     */
+    public interface Visitor<R> {
+        /**
+         * Visits the change of {@code added} being inserted at position {@code index} of the contact list,
+         * or appended to it if {@code index} is negative.
+         */
+        R visitContactAdded(Contact added, int index);
+
+        R visitContactRemoved(Contact removed);
+
+        R visitContactReplaced(Contact before, Contact after);
+
+        /**
+         * Visits the change of {@code added} being inserted at position {@code index} of the policy list,
+         * or appended to it if {@code index} is negative.
+         */
+        R visitPolicyAdded(Policy added, int index);
+
+        R visitPolicyRemoved(Policy removed);
+
+        R visitPolicyReplaced(Policy before, Policy after);
+
+        R visitSiasaReset(ReadOnlySiasa before, ReadOnlySiasa after);
+    }
+
+    private static class ContactChange extends Change {
+        private final Contact before;
+        private final Contact after;
+        // The position of before in the contact list if it was removed, so that it is restored there, or of
+        // after if it was inserted. Negative if the contact was, or is to be restored, at the end of the list.
+        private final int index;
+
+        private ContactChange(Contact before, Contact after, int index) {
+            this.before = before;
+            this.after = after;
+            this.index = index;
+        }
+
+        @Override
+        public void apply(Siasa siasa) {
+            if (before == null) {
+                add(siasa, after);
+            } else if (after == null) {
+                siasa.removeContactAndAssociatedPolicies(before);
+            } else {
+                siasa.setContact(before, after);
+            }
+        }
+
+        @Override
+        void revert(Siasa siasa) {
+            if (before == null) {
+                siasa.removeContactAndAssociatedPolicies(after);
+            } else if (after == null) {
+                add(siasa, before);
+            } else {
+                siasa.setContact(after, before);
+            }
+        }
+
+        private void add(Siasa siasa, Contact contact) {
+            if (index < 0) {
+                siasa.addContact(contact);
+            } else {
+                siasa.addContact(index, contact);
+            }
+        }
+
+        @Override
+        Change inverse() {
+            return new ContactChange(after, before, index);
+        }
+
+        @Override
+        public <R> R accept(Visitor<R> visitor) {
+            if (before == null) {
+                return visitor.visitContactAdded(after, index);
+            } else if (after == null) {
+                return visitor.visitContactRemoved(before);
+            }
+            return visitor.visitContactReplaced(before, after);
+        }
+    }
+
+    private static class PolicyChange extends Change {
+        private final Policy before;
+        private final Policy after;
+        // The position of before in the policy list if it was removed, so that it is restored there, or of
+        // after if it was inserted. Negative if the policy was, or is to be restored, at the end of the list.
+        private final int index;
+
+        private PolicyChange(Policy before, Policy after, int index) {
+            this.before = before;
+            this.after = after;
+            this.index = index;
+        }
+
+        @Override
+        public void apply(Siasa siasa) {
+            if (before == null) {
+                add(siasa, after);
+            } else if (after == null) {
+                siasa.removePolicy(before);
+            } else {
+                siasa.setPolicy(before, after);
+            }
+        }
+
+        @Override
+        void revert(Siasa siasa) {
+            if (before == null) {
+                siasa.removePolicy(after);
+            } else if (after == null) {
+                add(siasa, before);
+            } else {
+                siasa.setPolicy(after, before);
+            }
+        }
+
+        private void add(Siasa siasa, Policy policy) {
+            if (index < 0) {
+                siasa.addPolicy(policy);
+            } else {
+                siasa.addPolicy(index, policy);
+            }
+        }
+
+        @Override
+        Change inverse() {
+            return new PolicyChange(after, before, index);
+        }
+
+        @Override
+        public <R> R accept(Visitor<R> visitor) {
+            if (before == null) {
+                return visitor.visitPolicyAdded(after, index);
+            } else if (after == null) {
+                return visitor.visitPolicyRemoved(before);
+            }
+            return visitor.visitPolicyReplaced(before, after);
+        }
+    }
+
+    private static class ResetChange extends Change {
+        private final ReadOnlySiasa before;
+        private final ReadOnlySiasa after;
+
+        private ResetChange(ReadOnlySiasa before, ReadOnlySiasa after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void apply(Siasa siasa) {
+            siasa.resetData(after);
+        }
+
+        @Override
+        void revert(Siasa siasa) {
+            siasa.resetData(before);
+        }
+
+        @Override
+        Change inverse() {
+            return new ResetChange(after, before);
+        }
+
+        @Override
+        public <R> R accept(Visitor<R> visitor) {
+            return visitor.visitSiasaReset(before, after);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.siasa.model.history;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.siasa.model.Siasa;
+
+/**
+ * The most recent changes made to an SIASA, grouped into steps (typically one per command), that can be undone
+ * and redone.
+ * <p>
+ * The steps are kept in a ring buffer of a fixed capacity: once it is full, recording a step drops the oldest
+ * one, so the history never holds more than {@code capacity} steps. Recording a step also drops the steps that
+ * were undone and not redone, as they can no longer be redone.
+ */
+public class ChangeHistory {
+
+    private final Change[][] steps;
+    // The slot of the step to redo next, which is just after the step to undo next.
+    private int cursor;
+    private int undoableCount;
+    private int redoableCount;
+
+    /**
+     * Creates an empty history that keeps at most {@code capacity} steps. A history with a capacity of zero
+     * or less keeps nothing.
+     */
+    public ChangeHistory(int capacity) {
+        steps = new Change[Math.max(capacity, 0)][];
+    }
+
+    /**
+     * Records {@code changes}, in the order they were made, as one step. Nothing is recorded if there are
+     * no changes.
+     */
+    public void record(List<Change> changes) {
+        requireNonNull(changes);
+        if (changes.isEmpty() || steps.length == 0) {
+            return;
+        }
+
+        for (int i = 0; i < redoableCount; i++) {
+            steps[slot(cursor + i)] = null;
+        }
+        redoableCount = 0;
+        steps[cursor] = changes.toArray(new Change[0]);
+        cursor = slot(cursor + 1);
+        undoableCount = Math.min(undoableCount + 1, steps.length);
+    }
+
+    public boolean canUndo() {
+        return undoableCount > 0;
+    }
+
+    public boolean canRedo() {
+        return redoableCount > 0;
+    }
+
+    /**
+     * Reverts the most recent step that has not been undone in {@code siasa}, as one batch.
+     * Returns the changes this made, in the order they were made.
+     */
+    public List<Change> undo(Siasa siasa) {
+        requireNonNull(siasa);
+        assert canUndo();
+        Change[] step = steps[slot(cursor - 1)];
+        siasa.applyBatch(() -> {
+            for (int i = step.length - 1; i >= 0; i--) {
+                step[i].revert(siasa);
+            }
+        });
+        cursor = slot(cursor - 1);
+        undoableCount--;
+        redoableCount++;
+
+        List<Change> made = new ArrayList<>(step.length);
+        for (int i = step.length - 1; i >= 0; i--) {
+            made.add(step[i].inverse());
+        }
+        return made;
+    }
+
+    /**
+     * Makes the most recently undone step in {@code siasa} again, as one batch.
+     * Returns the changes this made, in the order they were made.
+     */
+    public List<Change> redo(Siasa siasa) {
+        requireNonNull(siasa);
+        assert canRedo();
+        Change[] step = steps[cursor];
+        siasa.applyBatch(() -> {
+            for (Change change : step) {
+                change.apply(siasa);
+            }
+        });
+        cursor = slot(cursor + 1);
+        undoableCount++;
+        redoableCount--;
+        return Arrays.asList(step);
+    }
+
+    private int slot(int position) {
+        return Math.floorMod(position, steps.length);
+    }
+}
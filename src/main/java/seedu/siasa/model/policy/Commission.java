@@ -5,11 +5,16 @@ import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
 
+import seedu.siasa.model.util.Interner;
+
 public class Commission {
     public static final String MESSAGE_CONSTRAINTS =
             "Commission percentage should be a number from 0 to 100 representing the percentage;\n"
                     + "Num of payments with commission should be non-negative and not larger than the "
                     + "num of payments in the payment structure and 2147483647";
+
+    private static final Interner<Commission> INTERNER = new Interner<>();
+
     public final int commissionPercentage;
     // number of payments with commission
     public final int numberOfPayments;
@@ -26,6 +31,13 @@ public class Commission {
         this.numberOfPayments = numberOfPayments;
     }
 
+    /**
+     * Returns the canonical {@code Commission} with the given fields, so that equal commissions share one instance.
+     */
+    public static Commission of(int percentage, int numberOfPayments) {
+        return INTERNER.intern(new Commission(percentage, numberOfPayments));
+    }
+
     /**
      * Returns if {@code percentage} and {@code numberOfPayments} are valid for Commission.
      */
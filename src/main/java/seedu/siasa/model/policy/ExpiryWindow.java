@@ -0,0 +1,79 @@
+package seedu.siasa.model.policy;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.siasa.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+/**
+ * Represents how far ahead to look for expiring policies, e.g. 14 days or 3 months.
+ * Guarantees: immutable; is valid as declared in {@link #isValidExpiryWindow(String)}
+ */
+public class ExpiryWindow {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Expiry windows should be a positive number of days or months, e.g. 14d or 3m. "
+                    + "A number without a unit is taken as months.";
+
+    public static final String VALIDATION_REGEX = "0*[1-9]\\d{0,3}[dDmM]?";
+
+    public static final ExpiryWindow DEFAULT_WINDOW = new ExpiryWindow("1m");
+
+    public final int amount;
+    public final ChronoUnit unit;
+
+    /**
+     * Constructs an {@code ExpiryWindow}.
+     *
+     * @param window A valid expiry window.
+     */
+    public ExpiryWindow(String window) {
+        requireNonNull(window);
+        checkArgument(isValidExpiryWindow(window), MESSAGE_CONSTRAINTS);
+        char lastChar = Character.toLowerCase(window.charAt(window.length() - 1));
+        if (Character.isDigit(lastChar)) {
+            amount = Integer.parseInt(window);
+            unit = ChronoUnit.MONTHS;
+        } else {
+            amount = Integer.parseInt(window.substring(0, window.length() - 1));
+            unit = lastChar == 'd' ? ChronoUnit.DAYS : ChronoUnit.MONTHS;
+        }
+    }
+
+    /**
+     * Returns true if the given string is a valid expiry window.
+     */
+    public static boolean isValidExpiryWindow(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    /**
+     * Returns the first date that is outside this window when looking ahead from {@code today}.
+     * Policies expiring before the returned date are expired or expiring within the window.
+     */
+    public LocalDate getCutOffDate(LocalDate today) {
+        requireNonNull(today);
+        return today.plus(amount, unit).plusDays(1);
+    }
+
+    @Override
+    public String toString() {
+        String unitName = unit == ChronoUnit.DAYS ? "day" : "month";
+        return amount + " " + unitName + (amount == 1 ? "" : "s");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExpiryWindow // instanceof handles nulls
+                && amount == ((ExpiryWindow) other).amount
+                && unit == ((ExpiryWindow) other).unit); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(amount, unit);
+    }
+}
@@ -6,11 +6,16 @@ import static seedu.siasa.commons.util.CurrencyUtil.centsToDollars;
 
 import java.util.Objects;
 
+import seedu.siasa.model.util.Interner;
+
 public class PaymentStructure {
     public static final String MESSAGE_CONSTRAINTS =
         "Payment amount, frequency and count should be a non-negative integer not exceeding 2147483647.";
 
     public static final int INDEFINITE_NUMBER_OF_PAYMENTS = Integer.MAX_VALUE;
+
+    private static final Interner<PaymentStructure> INTERNER = new Interner<>();
+
     // payment amount in cents
     public final int paymentAmount;
     // number of payments in a year
@@ -30,6 +35,14 @@ public class PaymentStructure {
         this.numberOfPayments = numberOfPayments;
     }
 
+    /**
+     * Returns the canonical {@code PaymentStructure} with the given fields, so that equal payment structures
+     * share one instance.
+     */
+    public static PaymentStructure of(int paymentAmount, int paymentFrequency, int numberOfPayments) {
+        return INTERNER.intern(new PaymentStructure(paymentAmount, paymentFrequency, numberOfPayments));
+    }
+
     public static boolean isValidPaymentStructure(int paymentAmount, int paymentFrequency, int numberOfPayments) {
         return paymentAmount >= 0 && paymentFrequency >= 0 && numberOfPayments >= 0;
     }
@@ -10,16 +10,24 @@ import java.util.Optional;
 import java.util.Set;
 
 import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.contact.ContactId;
+import seedu.siasa.model.contact.ContactReference;
 import seedu.siasa.model.tag.Tag;
+import seedu.siasa.model.util.CollationKey;
 
 /**
  * Represents a Policy in SIASA.
  * Guarantees: details and owner are present and not null, field values are validated, immutable.
+ * The owner is held by reference, so a policy whose owner is a contact in a SIASA resolves to the current
+ * version of that contact even after the contact is edited.
  */
 public class Policy {
 
     public static final String MESSAGE_NO_EXPIRY = "No coverage expiry defined.";
 
+    /** The expiry day of policies without an expiry date, so that they sort last. */
+    static final long NO_EXPIRY_EPOCH_DAY = LocalDate.MAX.toEpochDay();
+
     private final Title title;
     private final PaymentStructure paymentStructure;
     private final CoverageExpiryDate coverageExpiryDate;
@@ -27,13 +35,31 @@ public class Policy {
     private final Set<Tag> tags = new HashSet<>();
 
     // Policy should always have an owner
-    private final Contact owner;
+    private final ContactReference owner;
+
+    // Precomputed sort keys, so that comparators compare primitives instead of recomputing them.
+    private final CollationKey titleKey;
+    private final long totalPayment;
+    private final long scaledCommission;
+    private final long expiryEpochDay;
+
+    // Policies are immutable and hashed constantly by the indexes holding them, so the hash is computed once.
+    // The owner is not part of it, as the contact it resolves to may be edited.
+    private final int hash;
 
     /**
      * coverageExpiryDate can be optional and hence null.
      */
     public Policy(Title title, PaymentStructure paymentStructure, CoverageExpiryDate coverageExpiryDate,
                   Commission commission, Contact owner, Set<Tag> tags) {
+        this(title, paymentStructure, coverageExpiryDate, commission, ContactReference.to(owner), tags);
+    }
+
+    /**
+     * coverageExpiryDate can be optional and hence null.
+     */
+    public Policy(Title title, PaymentStructure paymentStructure, CoverageExpiryDate coverageExpiryDate,
+                  Commission commission, ContactReference owner, Set<Tag> tags) {
         requireAllNonNull(title, paymentStructure, commission, owner, tags);
         this.title = title;
         this.paymentStructure = paymentStructure;
@@ -41,6 +67,14 @@ public class Policy {
         this.commission = commission;
         this.owner = owner;
         this.tags.addAll(tags);
+        this.titleKey = title.getCollationKey();
+        this.totalPayment = (long) paymentStructure.paymentFrequency * paymentStructure.paymentAmount;
+        this.scaledCommission = (long) commission.commissionPercentage * paymentStructure.paymentAmount
+                * commission.numberOfPayments;
+        this.expiryEpochDay = coverageExpiryDate == null
+                ? NO_EXPIRY_EPOCH_DAY
+                : coverageExpiryDate.value.toEpochDay();
+        this.hash = Objects.hash(title, paymentStructure, commission, coverageExpiryDate, this.tags);
     }
 
     public Title getTitle() {
@@ -60,9 +94,28 @@ public class Policy {
     }
 
     public Contact getOwner() {
+        return owner.get();
+    }
+
+    public ContactId getOwnerId() {
+        return owner.getId();
+    }
+
+    public ContactReference getOwnerReference() {
         return owner;
     }
 
+    /**
+     * Returns this policy with its owner held by {@code ownerReference}, which must refer to the same contact.
+     */
+    public Policy withOwnerReference(ContactReference ownerReference) {
+        assert ownerReference.getId().equals(getOwnerId());
+        if (ownerReference == owner) {
+            return this;
+        }
+        return new Policy(title, paymentStructure, coverageExpiryDate, commission, ownerReference, tags);
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -72,7 +125,35 @@ public class Policy {
     }
 
     public int compareTotalCommission(Policy other) {
-        return Double.compare(getTotalCommission(), other.getTotalCommission());
+        return Long.compare(scaledCommission, other.scaledCommission);
+    }
+
+    /**
+     * Returns the collation key of the title, held here so that sorting by title reads it from the policy itself.
+     */
+    CollationKey getTitleKey() {
+        return titleKey;
+    }
+
+    /**
+     * Returns the total payment, as compared by {@link PaymentStructure#compareTotalPayment(PaymentStructure)}.
+     */
+    long getTotalPayment() {
+        return totalPayment;
+    }
+
+    /**
+     * Returns the total commission in hundredths of a cent, which is exact, unlike {@link #getTotalCommission()}.
+     */
+    long getScaledCommission() {
+        return scaledCommission;
+    }
+
+    /**
+     * Returns the day the coverage expires as an epoch day, or {@link #NO_EXPIRY_EPOCH_DAY} if it does not expire.
+     */
+    long getExpiryEpochDay() {
+        return expiryEpochDay;
     }
 
     public double getTotalCommission() {
@@ -80,7 +161,7 @@ public class Policy {
                 * (double) commission.numberOfPayments;
     }
     /**
-     *  Returns true if both policies have the same title and owner (by identity).
+     *  Returns true if both policies have the same title and owner (by id).
      *  this defines a weaker notion of equality between two policies.
      */
     public boolean isSamePolicy(Policy otherPolicy) {
@@ -88,19 +169,18 @@ public class Policy {
             return true;
         }
 
-        // Note the use of isSamePerson instead of equals
         return otherPolicy != null
                 && otherPolicy.getTitle().equals(getTitle())
-                && otherPolicy.getOwner().isSameContact(getOwner());
+                && otherPolicy.getOwnerId().equals(getOwnerId());
     }
 
     /**
-     * Returns true if both policies have the same owner (by identity)
+     * Returns true if both policies have the same owner (by id)
      * and the policy titles differ by less than 2 edit distance.
      */
     public boolean isSimilarPolicy(Policy otherPolicy) {
         return otherPolicy != null
-                && otherPolicy.getOwner().isSameContact(getOwner())
+                && otherPolicy.getOwnerId().equals(getOwnerId())
                 && otherPolicy.getTitle().isSimilarTo(getTitle());
     }
 
@@ -119,19 +199,20 @@ public class Policy {
         }
 
         Policy otherPolicy = (Policy) other;
-        // Note the use of isSamePerson instead of equals
-        return otherPolicy.getTitle().equals(getTitle())
-                && otherPolicy.getPaymentStructure().equals(getPaymentStructure())
-                && otherPolicy.getCommission().equals(getCommission())
-                && otherPolicy.getCoverageExpiryDate().equals(getCoverageExpiryDate())
-                && otherPolicy.getOwner().isSameContact(getOwner())
-                && otherPolicy.getTags().equals(getTags());
+        // Policies with different hashes cannot be equal, which rejects most unequal policies in one comparison.
+        // Note the use of isSamePerson instead of equals, unless both policies hold the same reference.
+        return otherPolicy.hash == hash
+                && otherPolicy.title.equals(title)
+                && otherPolicy.paymentStructure.equals(paymentStructure)
+                && otherPolicy.commission.equals(commission)
+                && Objects.equals(otherPolicy.coverageExpiryDate, coverageExpiryDate)
+                && (otherPolicy.owner == owner || otherPolicy.getOwner().isSameContact(getOwner()))
+                && otherPolicy.tags.equals(tags);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(title, paymentStructure, commission, coverageExpiryDate, tags);
+        return hash;
     }
 
     @Override
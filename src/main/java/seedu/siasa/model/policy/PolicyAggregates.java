@@ -0,0 +1,132 @@
+package seedu.siasa.model.policy;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.contact.ContactId;
+import seedu.siasa.model.contact.ContactReference;
+
+/**
+ * Running totals of the commission and the number of policies of each owner, kept up to date as
+ * policies are added and removed so that none of the totals has to be recomputed by scanning the policies.
+ * The owners are also kept ranked by commission and by number of policies. Owners are tracked by id and
+ * reported as the current version of the contact, so editing an owner does not affect the totals.
+ *
+ * Commissions are accumulated exactly as {@code percentage * paymentAmount * numberOfPayments}, i.e. in
+ * hundredths of a cent, so that repeatedly adding and removing policies does not accumulate rounding errors.
+ */
+class PolicyAggregates {
+
+    private static final Comparator<OwnerTotals> BY_COMMISSION_DESCENDING =
+            Comparator.comparingLong((OwnerTotals totals) -> totals.scaledCommission).reversed()
+                    .thenComparingLong(totals -> totals.sequence);
+    private static final Comparator<OwnerTotals> BY_COUNT_DESCENDING =
+            Comparator.comparingInt((OwnerTotals totals) -> totals.count).reversed()
+                    .thenComparingLong(totals -> totals.sequence);
+
+    private final Map<ContactId, OwnerTotals> totalsByOwner = new HashMap<>();
+    private final NavigableSet<OwnerTotals> rankedByCommission = new TreeSet<>(BY_COMMISSION_DESCENDING);
+    private final NavigableSet<OwnerTotals> rankedByCount = new TreeSet<>(BY_COUNT_DESCENDING);
+    private long nextSequence;
+
+    /**
+     * Adds the commission of {@code policy} to the totals of its owner.
+     */
+    void add(Policy policy) {
+        ContactReference owner = policy.getOwnerReference();
+        OwnerTotals current = totalsByOwner.get(owner.getId());
+        long scaledCommission = getScaledCommission(policy);
+        OwnerTotals updated = current == null
+                ? new OwnerTotals(owner, 1, scaledCommission, nextSequence++)
+                : new OwnerTotals(owner, current.count + 1, current.scaledCommission + scaledCommission,
+                        current.sequence);
+        replace(current, updated);
+    }
+
+    /**
+     * Removes the commission of {@code policy} from the totals of its owner.
+     * {@code policy} must have been added before.
+     */
+    void remove(Policy policy) {
+        OwnerTotals current = totalsByOwner.get(policy.getOwnerId());
+        assert current != null;
+        long scaledCommission = getScaledCommission(policy);
+        OwnerTotals updated = current.count == 1
+                ? null
+                : new OwnerTotals(current.owner, current.count - 1, current.scaledCommission - scaledCommission,
+                        current.sequence);
+        replace(current, updated);
+    }
+
+    void clear() {
+        totalsByOwner.clear();
+        rankedByCommission.clear();
+        rankedByCount.clear();
+    }
+
+    /**
+     * Returns the commission of every owner with at least one policy, in descending order of commission.
+     */
+    LinkedHashMap<Contact, Double> getCommissionPerOwner() {
+        LinkedHashMap<Contact, Double> result = new LinkedHashMap<>();
+        for (OwnerTotals totals : rankedByCommission) {
+            result.put(totals.owner.get(), toCents(totals.scaledCommission));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of policies of every owner with at least one policy, in descending order.
+     */
+    LinkedHashMap<Contact, Integer> getPolicyCountPerOwner() {
+        LinkedHashMap<Contact, Integer> result = new LinkedHashMap<>();
+        for (OwnerTotals totals : rankedByCount) {
+            result.put(totals.owner.get(), totals.count);
+        }
+        return result;
+    }
+
+    private void replace(OwnerTotals current, OwnerTotals updated) {
+        if (current != null) {
+            rankedByCommission.remove(current);
+            rankedByCount.remove(current);
+            totalsByOwner.remove(current.owner.getId());
+        }
+        if (updated != null) {
+            rankedByCommission.add(updated);
+            rankedByCount.add(updated);
+            totalsByOwner.put(updated.owner.getId(), updated);
+        }
+    }
+
+    private static long getScaledCommission(Policy policy) {
+        return policy.getScaledCommission();
+    }
+
+    private static double toCents(long scaledCommission) {
+        return scaledCommission / 100.0;
+    }
+
+    /**
+     * The totals of a single owner. Instances are immutable so that they can be kept in sorted sets;
+     * the sequence number orders owners with equal totals by when they were first seen.
+     */
+    private static final class OwnerTotals {
+        private final ContactReference owner;
+        private final int count;
+        private final long scaledCommission;
+        private final long sequence;
+
+        private OwnerTotals(ContactReference owner, int count, long scaledCommission, long sequence) {
+            this.owner = owner;
+            this.count = count;
+            this.scaledCommission = scaledCommission;
+            this.sequence = sequence;
+        }
+    }
+}
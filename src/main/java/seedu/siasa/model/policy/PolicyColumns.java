@@ -0,0 +1,133 @@
+package seedu.siasa.model.policy;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A column-oriented copy of the sort keys of the policies in a {@code UniquePolicyList}, where row {@code i}
+ * holds the keys of the policy at position {@code i} of the list. Keeping the keys in primitive arrays lets
+ * scans and sorts over them run as tight loops without touching the {@code Policy} objects.
+ * The owning list is responsible for mirroring each of its mutations here.
+ */
+class PolicyColumns {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] totalPayment = new long[INITIAL_CAPACITY];
+    private long[] scaledCommission = new long[INITIAL_CAPACITY];
+    private long[] expiryEpochDay = new long[INITIAL_CAPACITY];
+    private int size;
+    // The sum of the commission column, in hundredths of a cent.
+    private long totalScaledCommission;
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Inserts a row for {@code policy} at row {@code row}, shifting the rows from it onwards down by one.
+     */
+    void add(int row, Policy policy) {
+        ensureCapacity(size + 1);
+        int moved = size - row;
+        System.arraycopy(totalPayment, row, totalPayment, row + 1, moved);
+        System.arraycopy(scaledCommission, row, scaledCommission, row + 1, moved);
+        System.arraycopy(expiryEpochDay, row, expiryEpochDay, row + 1, moved);
+        size++;
+        write(row, policy);
+        totalScaledCommission += scaledCommission[row];
+    }
+
+    /**
+     * Overwrites row {@code row} with the keys of {@code policy}.
+     */
+    void set(int row, Policy policy) {
+        totalScaledCommission -= scaledCommission[row];
+        write(row, policy);
+        totalScaledCommission += scaledCommission[row];
+    }
+
+    /**
+     * Removes row {@code row}, shifting the rows after it up by one.
+     */
+    void remove(int row) {
+        totalScaledCommission -= scaledCommission[row];
+        int moved = size - row - 1;
+        System.arraycopy(totalPayment, row + 1, totalPayment, row, moved);
+        System.arraycopy(scaledCommission, row + 1, scaledCommission, row, moved);
+        System.arraycopy(expiryEpochDay, row + 1, expiryEpochDay, row, moved);
+        size--;
+    }
+
+    /**
+     * Replaces all rows with those of {@code policies}.
+     */
+    void setAll(List<Policy> policies) {
+        size = 0;
+        ensureCapacity(policies.size());
+        for (Policy policy : policies) {
+            write(size++, policy);
+        }
+        long total = 0;
+        for (int row = 0; row < size; row++) {
+            total += scaledCommission[row];
+        }
+        totalScaledCommission = total;
+    }
+
+    /**
+     * Returns the total commission of all rows.
+     */
+    double getTotalCommission() {
+        return totalScaledCommission / 100.0;
+    }
+
+    /**
+     * Returns the value of {@code key} for each of {@code rows}, in the order of {@code rows}. The values of a
+     * descending order are complemented, so that the returned keys ascend in the order either way.
+     */
+    long[] getKeys(PolicySortKey key, boolean isDescending, int[] rows) {
+        long[] column = getColumn(key);
+        long[] keys = new long[rows.length];
+        if (isDescending) {
+            for (int i = 0; i < rows.length; i++) {
+                // Bitwise complement reverses the order of all longs, including Long.MIN_VALUE.
+                keys[i] = ~column[rows[i]];
+            }
+        } else {
+            for (int i = 0; i < rows.length; i++) {
+                keys[i] = column[rows[i]];
+            }
+        }
+        return keys;
+    }
+
+    private long[] getColumn(PolicySortKey key) {
+        switch (key) {
+        case TOTAL_PAYMENT:
+            return totalPayment;
+        case COMMISSION:
+            return scaledCommission;
+        case EXPIRY_DATE:
+            return expiryEpochDay;
+        default:
+            throw new AssertionError(key);
+        }
+    }
+
+    private void write(int row, Policy policy) {
+        totalPayment[row] = PolicySortKey.TOTAL_PAYMENT.of(policy);
+        scaledCommission[row] = PolicySortKey.COMMISSION.of(policy);
+        expiryEpochDay[row] = PolicySortKey.EXPIRY_DATE.of(policy);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= totalPayment.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, totalPayment.length * 2);
+        totalPayment = Arrays.copyOf(totalPayment, newCapacity);
+        scaledCommission = Arrays.copyOf(scaledCommission, newCapacity);
+        expiryEpochDay = Arrays.copyOf(expiryEpochDay, newCapacity);
+    }
+}
@@ -1,35 +1,102 @@
 package seedu.siasa.model.policy;
 
-import java.time.LocalDate;
-import java.time.chrono.ChronoLocalDate;
+import static java.util.Objects.requireNonNull;
+
 import java.util.Comparator;
+import java.util.Optional;
 
+/**
+ * Orders in which policies can be sorted. The comparators only compare sort keys precomputed by the policies,
+ * so that sorting neither recomputes them nor follows references out of the policies on every comparison.
+ * The orders by a numeric quantity are {@link KeyOrder}s, so that a list of policies can also be sorted by the
+ * quantity kept in a primitive array, e.g. by {@link UniquePolicyList#getSortKeys(KeyOrder, int[])}, instead of
+ * by comparing the policies.
+ */
 public class PolicyComparator {
     public static final Comparator<Policy> POLICY_SORT_BY_ALPHA_ASC = (
-            a, b) -> String.CASE_INSENSITIVE_ORDER.compare(a.getTitle().toString(), b.getTitle().toString());
+            a, b) -> a.getTitleKey().compareTo(b.getTitleKey());
 
     public static final Comparator<Policy> POLICY_SORT_BY_ALPHA_DSC = (
-            a, b) -> -String.CASE_INSENSITIVE_ORDER.compare(a.getTitle().toString(), b.getTitle().toString());
+            a, b) -> b.getTitleKey().compareTo(a.getTitleKey());
+
+    public static final Comparator<Policy> POLICY_SORT_BY_PAYMENT_ASC =
+            new KeyOrder(PolicySortKey.TOTAL_PAYMENT, false);
+
+    public static final Comparator<Policy> POLICY_SORT_BY_PAYMENT_DSC =
+            new KeyOrder(PolicySortKey.TOTAL_PAYMENT, true);
+
+    public static final Comparator<Policy> POLICY_SORT_BY_COMMISSION_ASC =
+            new KeyOrder(PolicySortKey.COMMISSION, false);
+
+    public static final Comparator<Policy> POLICY_SORT_BY_COMMISSION_DSC =
+            new KeyOrder(PolicySortKey.COMMISSION, true);
+
+    public static final Comparator<Policy> POLICY_SORT_BY_EXPIRY_ASC =
+            new KeyOrder(PolicySortKey.EXPIRY_DATE, false);
+
+    public static final Comparator<Policy> POLICY_SORT_BY_EXPIRY_DSC =
+            new KeyOrder(PolicySortKey.EXPIRY_DATE, true);
+
+    /**
+     * Orders policies that every other comparator considers equal: by title, case-insensitively and then
+     * case-sensitively, and then by owner. No two distinct policies in the SIASA are equal under this order,
+     * so appending it to any comparator makes sorting deterministic.
+     */
+    public static final Comparator<Policy> POLICY_TIE_BREAK = POLICY_SORT_BY_ALPHA_ASC
+            .thenComparing(policy -> policy.getTitle().value)
+            .thenComparing(policy -> policy.getOwnerId().value);
+
+    /**
+     * An order of policies by a {@code PolicySortKey}, ascending or descending, followed by another order
+     * among the policies with the same key, if any.
+     */
+    public static final class KeyOrder implements Comparator<Policy> {
+        private final PolicySortKey key;
+        private final boolean isDescending;
+        private final Optional<Comparator<Policy>> tieBreak;
+
+        private KeyOrder(PolicySortKey key, boolean isDescending) {
+            this(key, isDescending, Optional.empty());
+        }
 
-    public static final Comparator<Policy> POLICY_SORT_BY_PAYMENT_ASC = (
-            a, b) -> a.getPaymentStructure().compareTotalPayment(b.getPaymentStructure());
+        private KeyOrder(PolicySortKey key, boolean isDescending, Optional<Comparator<Policy>> tieBreak) {
+            this.key = key;
+            this.isDescending = isDescending;
+            this.tieBreak = tieBreak;
+        }
 
-    public static final Comparator<Policy> POLICY_SORT_BY_PAYMENT_DSC = (
-            a, b) -> -a.getPaymentStructure().compareTotalPayment(b.getPaymentStructure());
+        public PolicySortKey getKey() {
+            return key;
+        }
 
-    public static final Comparator<Policy> POLICY_SORT_BY_COMMISSION_ASC = (
-            a, b) -> a.compareTotalCommission(b);
+        public boolean isDescending() {
+            return isDescending;
+        }
 
-    public static final Comparator<Policy> POLICY_SORT_BY_COMMISSION_DSC = (
-            a, b) -> -a.compareTotalCommission(b);
+        /**
+         * Returns the order among the policies with the same key, if any.
+         */
+        public Optional<Comparator<Policy>> getTieBreak() {
+            return tieBreak;
+        }
 
-    public static final Comparator<Policy> POLICY_SORT_BY_EXPIRY_ASC = (
-            a, b) -> ChronoLocalDate.timeLineOrder().compare(
-                    a.getCoverageExpiryDate().orElse(new CoverageExpiryDate(LocalDate.MAX)).value,
-                    b.getCoverageExpiryDate().orElse(new CoverageExpiryDate(LocalDate.MAX)).value);
+        @Override
+        public int compare(Policy a, Policy b) {
+            int result = isDescending
+                    ? Long.compare(key.of(b), key.of(a))
+                    : Long.compare(key.of(a), key.of(b));
+            return result == 0 && tieBreak.isPresent() ? tieBreak.get().compare(a, b) : result;
+        }
 
-    public static final Comparator<Policy> POLICY_SORT_BY_EXPIRY_DSC = (
-            a, b) -> -ChronoLocalDate.timeLineOrder().compare(
-                    a.getCoverageExpiryDate().orElse(new CoverageExpiryDate(LocalDate.MAX)).value,
-                    b.getCoverageExpiryDate().orElse(new CoverageExpiryDate(LocalDate.MAX)).value);
+        /**
+         * Returns this order followed by {@code other}, which is still ordered by the same key.
+         */
+        @Override
+        public KeyOrder thenComparing(Comparator<? super Policy> other) {
+            requireNonNull(other);
+            Comparator<Policy> next = tieBreak.<Comparator<Policy>>map(order -> order.thenComparing(other))
+                    .orElse(other::compare);
+            return new KeyOrder(key, isDescending, Optional.of(next));
+        }
+    }
 }
@@ -0,0 +1,29 @@
+package seedu.siasa.model.policy;
+
+/**
+ * The numeric quantities of a policy that policies can be ranked by.
+ */
+public enum PolicySortKey {
+    /** The total amount paid per year, i.e. payment amount times payments per year. */
+    TOTAL_PAYMENT,
+    /** The total commission earned from the policy. */
+    COMMISSION,
+    /** The day the coverage expires; policies without an expiry date come after all others. */
+    EXPIRY_DATE;
+
+    /**
+     * Returns the value of this key for {@code policy}.
+     */
+    long of(Policy policy) {
+        switch (this) {
+        case TOTAL_PAYMENT:
+            return policy.getTotalPayment();
+        case COMMISSION:
+            return policy.getScaledCommission();
+        case EXPIRY_DATE:
+            return policy.getExpiryEpochDay();
+        default:
+            throw new AssertionError(this);
+        }
+    }
+}
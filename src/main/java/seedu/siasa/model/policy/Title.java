@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.siasa.commons.util.AppUtil.checkArgument;
 
 import seedu.siasa.commons.util.StringUtil;
+import seedu.siasa.model.util.CollationKey;
+import seedu.siasa.model.util.Interner;
 
 public class Title {
 
@@ -16,7 +18,10 @@ public class Title {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<Title> INTERNER = new Interner<>();
+
     public final String value;
+    private final CollationKey collationKey;
 
     /**
      * Constructs an {@code Title}.
@@ -27,6 +32,16 @@ public class Title {
         requireNonNull(title);
         checkArgument(isValidTitle(title), MESSAGE_CONSTRAINTS);
         value = title;
+        collationKey = CollationKey.of(title);
+    }
+
+    /**
+     * Returns the canonical {@code Title} with the value {@code title}, so that equal titles share one instance.
+     *
+     * @param title A valid title.
+     */
+    public static Title of(String title) {
+        return INTERNER.intern(new Title(title));
     }
 
     /**
@@ -36,6 +51,13 @@ public class Title {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the key that orders titles alphabetically, ignoring case.
+     */
+    public CollationKey getCollationKey() {
+        return collationKey;
+    }
+
     /**
      * Returns true if policy titles have edit distance of zero or one (case insensitive).
      */
@@ -3,28 +3,86 @@ package seedu.siasa.model.policy;
 import static java.util.Objects.requireNonNull;
 import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.contact.ContactId;
 import seedu.siasa.model.policy.exceptions.DuplicatePolicyException;
 import seedu.siasa.model.policy.exceptions.PolicyNotFoundException;
+import seedu.siasa.model.tag.Tag;
+import seedu.siasa.model.tag.TagMatchMode;
+import seedu.siasa.model.util.InvertedIndex;
+import seedu.siasa.model.util.PersistentList;
+import seedu.siasa.model.util.PositionIndex;
+import seedu.siasa.model.util.SimilarityIndex;
 
+/**
+ * A list of policies that enforces uniqueness between its elements and does not allow nulls.
+ * A policy is considered unique by comparing using {@code Policy#isSamePolicy(Policy)}, i.e. by its title
+ * and the id of its owner. The list keeps a {@code PositionIndex} from that (title, owner id) pair to the position
+ * of the policy in the backing list, so that identity lookups do not need to scan the whole list and removing a
+ * policy does not renumber the policies after it.
+ * It also keeps the policies of each owner, together with a {@code SimilarityIndex} of their titles,
+ * so that per-owner queries only visit the policies of that owner, and {@code PolicyAggregates} holding the
+ * commission and number of policies of each owner, so that these totals never need a full scan.
+ * The sort keys of the policies are kept in {@code PolicyColumns}, in the order of the list, from which the total
+ * commission is summed and the policies are sorted.
+ * Policies with an expiry date are additionally ordered by that date, so that queries for policies
+ * expiring within a period are range queries, and an {@code InvertedIndex} from tags to policies serves
+ * filtering by tags.
+ * <p>
+ * Changes can be grouped into a batch with {@link #beginBatch()} and {@link #commitBatch()}. Within a batch, the
+ * changes are made to a working copy of the list, and are published to the observable list as a single change
+ * when the batch is committed.
+ * <p>
+ * Every change is also applied to a {@code PersistentList} of the policies, which is handed out by
+ * {@link #getSnapshot()} as a point-in-time view of the list that later changes leave untouched.
+ *
+ * @see Policy#isSamePolicy(Policy)
+ */
 public class UniquePolicyList implements Iterable<Policy> {
 
     private final ObservableList<Policy> internalList = FXCollections.observableArrayList();
     private final ObservableList<Policy> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // The list that changes are made to: internalList itself, or its working copy during a batch.
+    private List<Policy> workingList = internalList;
+    private PersistentList<Policy> snapshot = PersistentList.empty();
+    private PersistentList<Policy> snapshotBeforeBatch;
+    private final PositionIndex<PolicyIdentity> positionsByIdentity = new PositionIndex<>();
+    private final Map<ContactId, List<Policy>> policiesByOwner = new HashMap<>();
+    private final Map<ContactId, SimilarityIndex<Policy>> similarTitlesByOwner = new HashMap<>();
+    private final PolicyAggregates aggregates = new PolicyAggregates();
+    // Mirrors workingList row by row, and is changed before it, so that listeners of the list see it up to date.
+    private final PolicyColumns columns = new PolicyColumns();
+    private final NavigableMap<LocalDate, List<Policy>> policiesByExpiryDate = new TreeMap<>();
+    private final InvertedIndex<String, Policy> policiesByTag =
+            new InvertedIndex<>(policy -> Tag.toCaseFoldedNames(policy.getTags()));
 
     /**
      * Returns true if the list contains an equivalent policy as the given argument.
      */
     public boolean contains(Policy toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePolicy);
+        return positionsByIdentity.contains(new PolicyIdentity(toCheck));
     }
 
     /**
@@ -34,7 +92,13 @@ public class UniquePolicyList implements Iterable<Policy> {
      */
     public Optional<Policy> getSimilar(Policy toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().filter(toCheck::isSimilarPolicy).findFirst();
+        SimilarityIndex<Policy> similarTitles = similarTitlesByOwner.get(toCheck.getOwnerId());
+        if (similarTitles == null) {
+            return Optional.empty();
+        }
+        return similarTitles.search(toCheck.getTitle().value, 1).stream()
+                .filter(toCheck::isSimilarPolicy)
+                .min(Comparator.comparingInt(this::positionOf));
     }
 
     /**
@@ -46,7 +110,27 @@ public class UniquePolicyList implements Iterable<Policy> {
         if (contains(toAdd)) {
             throw new DuplicatePolicyException();
         }
-        internalList.add(toAdd);
+        positionsByIdentity.add(new PolicyIdentity(toAdd));
+        addToIndexes(toAdd);
+        columns.add(workingList.size(), toAdd);
+        workingList.add(toAdd);
+        snapshot = snapshot.plus(toAdd);
+    }
+
+    /**
+     * Inserts a policy into the list at position {@code index}, e.g. to restore a policy where it was removed from.
+     * The policy must not already exist in the list.
+     */
+    public void add(int index, Policy toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePolicyException();
+        }
+        positionsByIdentity.add(index, new PolicyIdentity(toAdd));
+        addToIndexes(toAdd);
+        columns.add(index, toAdd);
+        workingList.add(index, toAdd);
+        snapshot = snapshot.plus(index, toAdd);
     }
 
     /**
@@ -57,35 +141,111 @@ public class UniquePolicyList implements Iterable<Policy> {
     public void setPolicy(Policy target, Policy editedPolicy) {
         requireAllNonNull(target, editedPolicy);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PolicyNotFoundException();
         }
 
-        if (!target.isSamePolicy(editedPolicy) && contains(editedPolicy)) {
-            throw new DuplicatePolicyException();
+        if (!target.isSamePolicy(editedPolicy)) {
+            if (contains(editedPolicy)) {
+                throw new DuplicatePolicyException();
+            }
+            positionsByIdentity.replace(new PolicyIdentity(target), new PolicyIdentity(editedPolicy));
         }
 
-        internalList.set(index, editedPolicy);
+        Policy replaced = workingList.get(index);
+        removeFromIndexes(replaced);
+        addToIndexes(editedPolicy);
+        columns.set(index, editedPolicy);
+        workingList.set(index, editedPolicy);
+        snapshot = snapshot.with(index, editedPolicy);
     }
 
     /**
-     * Removes the equivalent policy from the list.
+     * Removes the equivalent policy from the list, and returns the policy that was in the list.
      * The policy must exist in the list.
      */
-    public void remove(Policy toRemove) {
+    public Policy remove(Policy toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PolicyNotFoundException();
         }
+
+        positionsByIdentity.remove(new PolicyIdentity(toRemove));
+        columns.remove(index);
+        Policy removed = workingList.remove(index);
+        removeFromIndexes(removed);
+        snapshot = snapshot.minus(index);
+        return removed;
+    }
+
+    /**
+     * Returns an unmodifiable list of the policies belonging to the {@code owner},
+     * in the order they appear in this list.
+     */
+    public List<Policy> getPoliciesBelongingTo(Contact owner) {
+        requireNonNull(owner);
+        List<Policy> ownerPolicies = new ArrayList<>(
+                policiesByOwner.getOrDefault(owner.getId(), Collections.emptyList()));
+        ownerPolicies.sort(Comparator.comparingInt(this::positionOf));
+        return Collections.unmodifiableList(ownerPolicies);
+    }
+
+    /**
+     * Returns an unmodifiable list of the policies expiring before {@code cutOff}, including those
+     * that have already expired, in order of expiry date.
+     */
+    public List<Policy> getPoliciesExpiringBefore(LocalDate cutOff) {
+        requireNonNull(cutOff);
+        return flatten(policiesByExpiryDate.headMap(cutOff, false));
+    }
+
+    /**
+     * Returns an unmodifiable list of the policies expiring on or after {@code start} and before {@code end},
+     * in order of expiry date.
+     */
+    public List<Policy> getPoliciesExpiringBetween(LocalDate start, LocalDate end) {
+        requireAllNonNull(start, end);
+        if (!start.isBefore(end)) {
+            return Collections.emptyList();
+        }
+        return flatten(policiesByExpiryDate.subMap(start, true, end, false));
+    }
+
+    /**
+     * Returns the policies having any or all (depending on {@code mode}) of the {@code tags}.
+     * Tags are matched case insensitively.
+     */
+    public Set<Policy> getPoliciesWithTags(Collection<Tag> tags, TagMatchMode mode) {
+        requireAllNonNull(tags, mode);
+        Set<String> tagNames = Tag.toCaseFoldedNames(tags);
+        return mode == TagMatchMode.ALL
+                ? policiesByTag.getMatchingAll(tagNames)
+                : policiesByTag.getMatchingAny(tagNames);
     }
 
     /**
      * Removes the policies belonging to the {@code owner} from the list.
+     * Only the policies of the {@code owner} are visited. Outside a batch, each policy removed is published
+     * to the observable list as a separate change, so many policies are best removed within a batch.
+     * Returns true if the {@code owner} had any policies.
      */
-    public void removeBelongingTo(Contact owner) {
+    public boolean removeBelongingTo(Contact owner) {
         requireNonNull(owner);
-        internalList.removeIf(policy -> policy.getOwner().equals(owner));
+        List<Policy> toRemove = getPoliciesBelongingTo(owner);
+        // The policies are in the order of the list, so removing them from the back keeps the positions of
+        // those still to be removed.
+        for (int i = toRemove.size() - 1; i >= 0; i--) {
+            Policy policy = toRemove.get(i);
+            int row = positionOf(policy);
+            positionsByIdentity.remove(new PolicyIdentity(policy));
+            removeFromIndexes(policy);
+            columns.remove(row);
+            workingList.remove(row);
+            snapshot = snapshot.minus(row);
+        }
+        return !toRemove.isEmpty();
     }
 
     /**
@@ -94,7 +254,8 @@ public class UniquePolicyList implements Iterable<Policy> {
      */
     public void setPolicies(UniquePolicyList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceContents(replacement.workingList);
+        rebuildIndexes();
     }
 
     /**
@@ -107,18 +268,91 @@ public class UniquePolicyList implements Iterable<Policy> {
             throw new DuplicatePolicyException();
         }
 
-        internalList.setAll(policies);
+        replaceContents(policies);
+        rebuildIndexes();
+    }
+
+    /**
+     * Starts a batch of changes. Until the batch is committed, changes are made to a working copy of the list,
+     * so the observable list does not show them, while all other methods of this list do.
+     */
+    public void beginBatch() {
+        assert !isInBatch();
+        workingList = new ArrayList<>(internalList);
+        snapshotBeforeBatch = snapshot;
+    }
+
+    /**
+     * Publishes the changes made since {@link #beginBatch()} to the observable list as a single change.
+     */
+    public void commitBatch() {
+        assert isInBatch();
+        List<Policy> changed = workingList;
+        workingList = internalList;
+        if (!isSameInstances(changed, internalList)) {
+            internalList.setAll(changed);
+        }
+    }
+
+    /**
+     * Discards the changes made since {@link #beginBatch()}.
+     */
+    public void abortBatch() {
+        assert isInBatch();
+        workingList = internalList;
+        snapshot = snapshotBeforeBatch;
+        columns.setAll(internalList);
+        rebuildIndexes();
+    }
+
+    private boolean isInBatch() {
+        return workingList != internalList;
+    }
+
+    /**
+     * Returns the policies currently in the list, in the same order, as an immutable list.
+     * This takes O(1) time, and the returned list is not affected by later changes to this list.
+     */
+    public PersistentList<Policy> getSnapshot() {
+        return snapshot;
     }
 
     /**
      * Returns the total commission from the policy list.
      */
     public double getTotalCommission() {
-        double total = 0;
-        for (Policy policy : internalList) {
-            total = total + policy.getTotalCommission();
+        return columns.getTotalCommission();
+    }
+
+    /**
+     * Returns the keys that {@code order} sorts the policies at positions {@code rows} of the observable list by,
+     * in the order of {@code rows}, or an empty {@code Optional} while a batch is in progress, as the positions
+     * of the observable list are then not those of the policies this list holds.
+     * The keys of a descending order are complemented, so that sorting the policies by ascending keys, and
+     * breaking ties by {@code order}, sorts them by {@code order}.
+     */
+    public Optional<long[]> getSortKeys(PolicyComparator.KeyOrder order, int[] rows) {
+        requireAllNonNull(order, rows);
+        if (isInBatch()) {
+            return Optional.empty();
         }
-        return total;
+        return Optional.of(columns.getKeys(order.getKey(), order.isDescending(), rows));
+    }
+
+    /**
+     * Returns the total commission of each owner with at least one policy in the list,
+     * in descending order of commission.
+     */
+    public LinkedHashMap<Contact, Double> getCommissionPerOwner() {
+        return aggregates.getCommissionPerOwner();
+    }
+
+    /**
+     * Returns the number of policies of each owner with at least one policy in the list,
+     * in descending order of the number of policies.
+     */
+    public LinkedHashMap<Contact, Integer> getPolicyCountPerOwner() {
+        return aggregates.getPolicyCountPerOwner();
     }
 
     /**
@@ -130,32 +364,170 @@ public class UniquePolicyList implements Iterable<Policy> {
 
     @Override
     public Iterator<Policy> iterator() {
-        return internalList.iterator();
+        return workingList.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniquePolicyList // instanceof handles nulls
-                && internalList.equals(((UniquePolicyList) other).internalList));
+                && workingList.equals(((UniquePolicyList) other).workingList));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return workingList.hashCode();
+    }
+
+    /**
+     * Returns the position of {@code policy} in the list, or -1 if no policy with exactly
+     * the same fields is in the list.
+     */
+    public int indexOf(Policy policy) {
+        requireNonNull(policy);
+        int index = positionOf(policy);
+        if (index == -1 || !workingList.get(index).equals(policy)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the position of the policy with the same identity as {@code policy}, or -1 if there is none.
+     */
+    private int positionOf(Policy policy) {
+        return positionsByIdentity.positionOf(new PolicyIdentity(policy));
+    }
+
+    /**
+     * Rebuilds all indexes from the contents of the backing list.
+     */
+    private void rebuildIndexes() {
+        policiesByOwner.clear();
+        similarTitlesByOwner.clear();
+        aggregates.clear();
+        policiesByExpiryDate.clear();
+        policiesByTag.clear();
+        positionsByIdentity.setAll(workingList.stream().map(PolicyIdentity::new).collect(Collectors.toList()));
+        workingList.forEach(this::addToIndexes);
+    }
+
+    /**
+     * Replaces the contents of the list that changes are made to with {@code policies}.
+     */
+    private void replaceContents(List<Policy> policies) {
+        snapshot = PersistentList.copyOf(policies);
+        columns.setAll(policies);
+        if (isInBatch()) {
+            workingList.clear();
+            workingList.addAll(policies);
+        } else {
+            internalList.setAll(policies);
+        }
+    }
+
+    private static boolean isSameInstances(List<Policy> policies, List<Policy> otherPolicies) {
+        if (policies.size() != otherPolicies.size()) {
+            return false;
+        }
+        for (int i = 0; i < policies.size(); i++) {
+            if (policies.get(i) != otherPolicies.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Policy> flatten(Map<LocalDate, List<Policy>> policiesByDate) {
+        List<Policy> policies = new ArrayList<>();
+        policiesByDate.values().forEach(policies::addAll);
+        return Collections.unmodifiableList(policies);
+    }
+
+    /**
+     * Adds {@code policy} to the per-owner, expiry date and tag indexes and to the aggregates.
+     */
+    private void addToIndexes(Policy policy) {
+        ContactId ownerId = policy.getOwnerId();
+        policiesByOwner.computeIfAbsent(ownerId, unused -> new ArrayList<>()).add(policy);
+        similarTitlesByOwner.computeIfAbsent(ownerId, unused -> new SimilarityIndex<>(p -> p.getTitle().value))
+                .add(policy);
+        aggregates.add(policy);
+        policiesByTag.add(policy);
+        policy.getCoverageExpiryDate().ifPresent(expiryDate ->
+                policiesByExpiryDate.computeIfAbsent(expiryDate.value, unused -> new ArrayList<>()).add(policy));
+    }
+
+    /**
+     * Removes exactly the instance {@code policy} from the per-owner, expiry date and tag indexes
+     * and from the aggregates.
+     */
+    private void removeFromIndexes(Policy policy) {
+        ContactId ownerId = policy.getOwnerId();
+        List<Policy> ownerPolicies = policiesByOwner.get(ownerId);
+        removeInstance(ownerPolicies, policy);
+        similarTitlesByOwner.get(ownerId).remove(policy);
+        aggregates.remove(policy);
+        policiesByTag.remove(policy);
+        if (ownerPolicies.isEmpty()) {
+            policiesByOwner.remove(ownerId);
+            similarTitlesByOwner.remove(ownerId);
+        }
+        policy.getCoverageExpiryDate().ifPresent(expiryDate -> {
+            List<Policy> sameDayPolicies = policiesByExpiryDate.get(expiryDate.value);
+            removeInstance(sameDayPolicies, policy);
+            if (sameDayPolicies.isEmpty()) {
+                policiesByExpiryDate.remove(expiryDate.value);
+            }
+        });
+    }
+
+    private static void removeInstance(List<Policy> policies, Policy policy) {
+        for (int i = 0; i < policies.size(); i++) {
+            if (policies.get(i) == policy) {
+                policies.remove(i);
+                return;
+            }
+        }
     }
 
     /**
      * Returns true if {@code policies} contains only unique policy.
      */
     private boolean policiesAreUnique(List<Policy> policies) {
-        for (int i = 0; i < policies.size() - 1; i++) {
-            for (int j = i + 1; j < policies.size(); j++) {
-                if (policies.get(i).isSamePolicy(policies.get(j))) {
-                    return false;
-                }
+        Set<PolicyIdentity> identities = new HashSet<>();
+        for (Policy policy : policies) {
+            if (!identities.add(new PolicyIdentity(policy))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * The identity of a policy, i.e. its title and the id of its owner.
+     * Two policies have the same identity iff {@code Policy#isSamePolicy(Policy)} holds between them.
+     */
+    private static final class PolicyIdentity {
+        private final Title title;
+        private final ContactId ownerId;
+
+        private PolicyIdentity(Policy policy) {
+            this.title = policy.getTitle();
+            this.ownerId = policy.getOwnerId();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof PolicyIdentity // instanceof handles nulls
+                    && title.equals(((PolicyIdentity) other).title)
+                    && ownerId.equals(((PolicyIdentity) other).ownerId));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(title, ownerId);
+        }
+    }
 }
@@ -3,6 +3,13 @@ package seedu.siasa.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.siasa.commons.util.AppUtil.checkArgument;
 
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.siasa.model.util.Interner;
+
 /**
  * Represents a Tag in the SIASA.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +19,8 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Interner<Tag> INTERNER = new Interner<>();
+
     public final String tagName;
 
     /**
@@ -25,6 +34,15 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} with the name {@code tagName}, so that equal tags share one instance.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return INTERNER.intern(new Tag(tagName));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -32,6 +50,13 @@ public class Tag {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the lower-cased names of {@code tags}, by which tags are matched case insensitively.
+     */
+    public static Set<String> toCaseFoldedNames(Collection<Tag> tags) {
+        return tags.stream().map(tag -> tag.tagName.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
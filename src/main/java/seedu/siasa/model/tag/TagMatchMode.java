@@ -0,0 +1,17 @@
+package seedu.siasa.model.tag;
+
+/**
+ * How a set of tags is matched when filtering by tags: by having any of them, or by having all of them.
+ */
+public enum TagMatchMode {
+    ANY, ALL;
+
+    public static final String MESSAGE_CONSTRAINTS = "Tag match mode should be either 'any' or 'all'";
+
+    /**
+     * Returns true if a given string is a valid tag match mode.
+     */
+    public static boolean isValidTagMatchMode(String test) {
+        return test.equalsIgnoreCase(ANY.name()) || test.equalsIgnoreCase(ALL.name());
+    }
+}
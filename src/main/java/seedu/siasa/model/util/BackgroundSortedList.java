@@ -0,0 +1,303 @@
+package seedu.siasa.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.siasa.commons.util.AppUtil.checkArgument;
+import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.siasa.commons.core.LogsCenter;
+import seedu.siasa.commons.util.StringUtil;
+
+/**
+ * A sorted copy of an observable list, which sorts large lists on a background thread instead of the thread
+ * changing the list, so that sorting a large list does not freeze the UI.
+ * <p>
+ * Lists smaller than the parallel threshold are sorted right away, like a {@code SortedList}. Larger lists are
+ * copied into an array that is sorted by {@link Arrays#parallelSort(Object[], Comparator)} on the background
+ * executor, and the sorted array is then published on the publishing executor (the UI thread) in a single change.
+ * Until then, the copy keeps its previous order. Only the publishing thread may change the source list or this
+ * list; a sort that completes after the source list changed is discarded and started again. If a background sort
+ * fails, the list is sorted on the publishing executor instead.
+ * <p>
+ * If the elements have {@link SortKeys} that some orders sort them by, sorting by such an order sorts the elements
+ * by their keys with {@link KeyedSort}, and only compares elements with equal keys.
+ *
+ * @param <E> the type of the elements, which must not change while they are being sorted.
+ */
+public class BackgroundSortedList<E> {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundSortedList.class);
+
+    // Changes touching more elements than this are applied by copying the whole source list again, as inserting
+    // each of them costs as much as sorting the whole list.
+    private static final int MAX_INCREMENTAL_CHANGES = 32;
+
+    private final ObservableList<E> source;
+    private final ObservableList<E> sorted = FXCollections.observableArrayList();
+    private final ObservableList<E> unmodifiableSorted = FXCollections.unmodifiableObservableList(sorted);
+    private final Executor backgroundExecutor;
+    private final Executor publishingExecutor;
+    private final SortKeys<E> sortKeys;
+    private int parallelThreshold;
+
+    private Comparator<? super E> comparator;
+    // The order the copy is currently in, or null if it is in no order, while a background sort is pending.
+    private Comparator<? super E> currentOrder;
+    // Identifies the latest sort started, so that the sorts started before it are not published.
+    private long sortId = 0;
+    private boolean isSortPending = false;
+
+    /**
+     * Creates a copy of {@code source} sorted by {@code comparator}. Lists of at least {@code parallelThreshold}
+     * elements are sorted on {@code backgroundExecutor} and published on {@code publishingExecutor}.
+     */
+    public BackgroundSortedList(ObservableList<E> source, Comparator<? super E> comparator, int parallelThreshold,
+            Executor backgroundExecutor, Executor publishingExecutor) {
+        this(source, comparator, parallelThreshold, backgroundExecutor, publishingExecutor, order -> Optional.empty());
+    }
+
+    /**
+     * Creates a copy of {@code source} sorted by {@code comparator}, like
+     * {@link #BackgroundSortedList(ObservableList, Comparator, int, Executor, Executor)}, which sorts by the keys
+     * given by {@code sortKeys} whenever there are any for the order.
+     */
+    public BackgroundSortedList(ObservableList<E> source, Comparator<? super E> comparator, int parallelThreshold,
+            Executor backgroundExecutor, Executor publishingExecutor, SortKeys<E> sortKeys) {
+        requireAllNonNull(source, comparator, backgroundExecutor, publishingExecutor, sortKeys);
+        checkArgument(parallelThreshold > 0, "The parallel threshold must be positive");
+        this.source = source;
+        this.comparator = comparator;
+        this.parallelThreshold = parallelThreshold;
+        this.backgroundExecutor = backgroundExecutor;
+        this.publishingExecutor = publishingExecutor;
+        this.sortKeys = sortKeys;
+
+        source.addListener(this::sourceChanged);
+        // The first sort is never deferred, so that the list is never shown empty while it is being sorted.
+        sortNow();
+    }
+
+    /**
+     * Returns an unmodifiable view of the sorted copy.
+     */
+    public ObservableList<E> asObservableList() {
+        return unmodifiableSorted;
+    }
+
+    public Comparator<? super E> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Sorts the copy by {@code comparator}, on the background executor if the list is large.
+     */
+    public void setComparator(Comparator<? super E> comparator) {
+        requireNonNull(comparator);
+        this.comparator = comparator;
+        sort();
+    }
+
+    /**
+     * Sets the smallest number of elements that are sorted on the background executor.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        checkArgument(parallelThreshold > 0, "The parallel threshold must be positive");
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Returns true if a background sort has started but has not been published yet.
+     */
+    public boolean isSortPending() {
+        return isSortPending;
+    }
+
+    private void sort() {
+        if (source.size() < parallelThreshold) {
+            sortNow();
+            return;
+        }
+
+        long id = ++sortId;
+        isSortPending = true;
+        Comparator<? super E> order = comparator;
+        @SuppressWarnings("unchecked")
+        E[] elements = (E[]) source.toArray();
+        // The keys are read here, as they may only be read on the publishing thread.
+        Optional<long[]> keys = sortKeys.get(order);
+        backgroundExecutor.execute(() -> {
+            try {
+                sort(elements, order, keys, true);
+            } catch (RuntimeException e) {
+                logger.warning("Failed to sort in the background, sorting on the publishing thread instead "
+                        + StringUtil.getDetails(e));
+                publishingExecutor.execute(() -> sortAfterFailure(id));
+                return;
+            }
+            publishingExecutor.execute(() -> publish(id, order, elements));
+        });
+    }
+
+    /**
+     * Sorts the copy right away in place of the failed background sort {@code id}, unless a later sort started.
+     */
+    private void sortAfterFailure(long id) {
+        if (id != sortId) {
+            return;
+        }
+        try {
+            sortNow();
+        } finally {
+            // Even if this sort fails too, the failed sort is no longer pending.
+            isSortPending = false;
+        }
+    }
+
+    private void sortNow() {
+        sortId++;
+        isSortPending = false;
+        @SuppressWarnings("unchecked")
+        E[] elements = (E[]) source.toArray();
+        sort(elements, comparator, sortKeys.get(comparator), false);
+        currentOrder = comparator;
+        sorted.setAll(elements);
+    }
+
+    private static <E> void sort(E[] elements, Comparator<? super E> order, Optional<long[]> keys,
+            boolean isParallel) {
+        if (keys.isPresent()) {
+            KeyedSort.sort(elements, keys.get(), order, isParallel);
+        } else if (isParallel) {
+            Arrays.parallelSort(elements, order);
+        } else {
+            Arrays.sort(elements, order);
+        }
+    }
+
+    private void publish(long id, Comparator<? super E> order, E[] elements) {
+        if (id != sortId) {
+            return;
+        }
+        isSortPending = false;
+        currentOrder = order;
+        sorted.setAll(elements);
+    }
+
+    private void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        int changedCount = 0;
+        while (change.next()) {
+            changedCount += change.getRemovedSize() + change.getAddedSize();
+        }
+
+        if (changedCount > MAX_INCREMENTAL_CHANGES) {
+            if (source.size() < parallelThreshold) {
+                sortNow();
+            } else {
+                // Show the right elements right away, and their order once it is known.
+                currentOrder = null;
+                sorted.setAll(source);
+                sort();
+            }
+            return;
+        }
+
+        change.reset();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue; // the same elements in a different order
+            }
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    E element = change.getList().get(i);
+                    sorted.remove(indexOf(element));
+                    insert(element);
+                }
+                continue;
+            }
+            for (E element : change.getRemoved()) {
+                sorted.remove(indexOf(element));
+            }
+            for (E element : change.getAddedSubList()) {
+                insert(element);
+            }
+        }
+
+        if (isSortPending) {
+            // The pending sort was of the source list before this change.
+            sort();
+        }
+    }
+
+    /**
+     * Inserts {@code element} after the elements of the copy that do not come after it.
+     */
+    private void insert(E element) {
+        if (currentOrder == null) {
+            sorted.add(element);
+            return;
+        }
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (currentOrder.compare(sorted.get(mid), element) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        sorted.add(low, element);
+    }
+
+    /**
+     * Returns the position of {@code element} itself, not just an equal element, in the copy.
+     */
+    private int indexOf(E element) {
+        if (currentOrder != null) {
+            int low = 0;
+            int high = sorted.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (currentOrder.compare(sorted.get(mid), element) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            for (int i = low; i < sorted.size() && currentOrder.compare(sorted.get(i), element) == 0; i++) {
+                if (sorted.get(i) == element) {
+                    return i;
+                }
+            }
+        }
+        // Not where the order puts it, e.g. if the element was changed while in the list.
+        for (int i = 0; i < sorted.size(); i++) {
+            if (sorted.get(i) == element) {
+                return i;
+            }
+        }
+        throw new AssertionError("Removed element is not in the sorted copy");
+    }
+
+    /**
+     * Gives the keys that an order sorts the elements of the source list by.
+     */
+    @FunctionalInterface
+    public interface SortKeys<E> {
+        /**
+         * Returns, for each element of the source list and in the same order, the key that {@code order} sorts
+         * it by, such that {@code order} puts an element with a smaller key before one with a larger key, or an
+         * empty {@code Optional} if {@code order} does not sort the elements by keys. Called on the publishing
+         * thread.
+         */
+        Optional<long[]> get(Comparator<? super E> order);
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.siasa.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A precomputed key that orders strings the same way as {@link String#CASE_INSENSITIVE_ORDER}, but is cheap to
+ * compare: the strings are case folded once, when the key is created, instead of on every comparison, and the
+ * first few characters of the folded string are packed into a {@code long} so that most comparisons of
+ * different strings are decided by comparing two primitives.
+ */
+public final class CollationKey implements Comparable<CollationKey> {
+
+    private static final int PREFIX_LENGTH = Long.SIZE / Character.SIZE;
+
+    private final String folded;
+    private final long prefix;
+
+    private CollationKey(String folded) {
+        this.folded = folded;
+        long packed = 0;
+        for (int i = 0; i < PREFIX_LENGTH; i++) {
+            // Shorter strings are padded with zeros, which order before every character, as the strings would.
+            packed = (packed << Character.SIZE) | (i < folded.length() ? folded.charAt(i) : 0);
+        }
+        this.prefix = packed;
+    }
+
+    /**
+     * Returns the key of {@code text}.
+     */
+    public static CollationKey of(String text) {
+        requireNonNull(text);
+        char[] folded = new char[text.length()];
+        for (int i = 0; i < folded.length; i++) {
+            // The same folding as String.CASE_INSENSITIVE_ORDER.
+            folded[i] = Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+        }
+        return new CollationKey(new String(folded));
+    }
+
+    @Override
+    public int compareTo(CollationKey other) {
+        int byPrefix = Long.compareUnsigned(prefix, other.prefix);
+        return byPrefix != 0 ? byPrefix : folded.compareTo(other.folded);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CollationKey // instanceof handles nulls
+                && folded.equals(((CollationKey) other).folded)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return folded.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return folded;
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.siasa.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values read from many records
+ * (e.g. the same tag on thousands of policies) can share a single instance instead of each holding a copy.
+ * <p>
+ * The pool only holds its instances weakly: a canonical instance that is no longer referenced anywhere else
+ * is dropped from the pool when it is garbage collected, so the pool never keeps values alive by itself.
+ *
+ * @param <T> the type of the pooled values, which must be immutable and implement {@code equals} and
+ *            {@code hashCode}.
+ */
+public class Interner<T> {
+
+    // Both the keys and the values are weak; the value refers to the key itself so that it can be returned.
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, making {@code value} the canonical instance
+     * if there is none yet.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical != null) {
+            return canonical;
+        }
+        pool.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of canonical instances currently in the pool.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.siasa.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * An index from keys to the elements that have them, e.g. from name tokens to contacts, that answers
+ * "which elements have any/all of these keys" by combining the posting lists of the keys instead of
+ * testing every element.
+ * <p>
+ * Elements are matched by identity, and the sets returned contain the indexed instances, so they can be
+ * used to test membership of the elements of a list that is kept in sync with this index.
+ *
+ * @param <K> the type of the keys.
+ * @param <T> the type of the indexed elements.
+ */
+public class InvertedIndex<K, T> {
+
+    private final Function<T, Collection<K>> keysExtractor;
+    private final Map<K, Set<T>> postings = new HashMap<>();
+
+    /**
+     * Creates an empty index that files each element under the keys given by {@code keysExtractor}.
+     */
+    public InvertedIndex(Function<T, Collection<K>> keysExtractor) {
+        requireNonNull(keysExtractor);
+        this.keysExtractor = keysExtractor;
+    }
+
+    /**
+     * Adds {@code element} to the posting list of each of its keys.
+     */
+    public void add(T element) {
+        requireNonNull(element);
+        for (K key : keysExtractor.apply(element)) {
+            postings.computeIfAbsent(key, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(element);
+        }
+    }
+
+    /**
+     * Removes exactly the instance {@code element} from the posting list of each of its keys.
+     */
+    public void remove(T element) {
+        requireNonNull(element);
+        for (K key : keysExtractor.apply(element)) {
+            Set<T> posting = postings.get(key);
+            if (posting != null && posting.remove(element) && posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the elements that have at least one of {@code keys}.
+     */
+    public Set<T> getMatchingAny(Collection<K> keys) {
+        requireNonNull(keys);
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (K key : keys) {
+            matches.addAll(postings.getOrDefault(key, Collections.emptySet()));
+        }
+        return Collections.unmodifiableSet(matches);
+    }
+
+    /**
+     * Returns the elements that have all of {@code keys}. No element matches an empty collection of keys.
+     */
+    public Set<T> getMatchingAll(Collection<K> keys) {
+        requireNonNull(keys);
+        if (keys.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        List<Set<T>> keyPostings = keys.stream().distinct()
+                .map(key -> postings.getOrDefault(key, Collections.emptySet()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .collect(Collectors.toList());
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        // Only the elements of the shortest posting list can be in all of them.
+        for (T element : keyPostings.get(0)) {
+            if (keyPostings.stream().allMatch(posting -> posting.contains(element))) {
+                matches.add(element);
+            }
+        }
+        return Collections.unmodifiableSet(matches);
+    }
+}
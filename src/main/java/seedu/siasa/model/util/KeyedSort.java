@@ -0,0 +1,123 @@
+package seedu.siasa.model.util;
+
+import static seedu.siasa.commons.util.AppUtil.checkArgument;
+import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorts elements by primitive keys given alongside them, so that most comparisons are between two longs in an
+ * array rather than calls to a comparator that reads the keys out of the elements. Elements with equal keys are
+ * ordered by a comparator, and the sort is stable.
+ */
+public final class KeyedSort {
+
+    // Halves of fewer elements than this are not worth sorting in parallel.
+    private static final int MIN_PARALLEL_SIZE = 8192;
+
+    private KeyedSort() {}
+
+    /**
+     * Sorts {@code elements} by ascending {@code keys}, where {@code keys[i]} is the key of {@code elements[i]},
+     * ordering elements with equal keys by {@code tieBreak}. If {@code isParallel}, large arrays are sorted in
+     * parallel on the common {@code ForkJoinPool}.
+     */
+    public static <E> void sort(E[] elements, long[] keys, Comparator<? super E> tieBreak, boolean isParallel) {
+        requireAllNonNull(elements, keys, tieBreak);
+        checkArgument(elements.length == keys.length, "There must be exactly one key per element");
+
+        int[] indexes = new int[elements.length];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = i;
+        }
+        MergeSort<E> mergeSort = new MergeSort<>(elements, keys, tieBreak, indexes, new int[indexes.length],
+                0, indexes.length, isParallel);
+        if (isParallel && indexes.length >= MIN_PARALLEL_SIZE * 2) {
+            ForkJoinPool.commonPool().invoke(mergeSort);
+        } else {
+            mergeSort.compute();
+        }
+
+        Object[] unsorted = elements.clone();
+        for (int i = 0; i < indexes.length; i++) {
+            @SuppressWarnings("unchecked")
+            E element = (E) unsorted[indexes[i]];
+            elements[i] = element;
+        }
+    }
+
+    /**
+     * Stably sorts {@code indexes[from, to)} by the keys and then the elements they index, using {@code buffer}
+     * as scratch space, and sorting the two halves in parallel if they are large enough.
+     */
+    private static final class MergeSort<E> extends RecursiveAction {
+        private final E[] elements;
+        private final long[] keys;
+        private final Comparator<? super E> tieBreak;
+        private final int[] indexes;
+        private final int[] buffer;
+        private final int from;
+        private final int to;
+        private final boolean isParallel;
+
+        private MergeSort(E[] elements, long[] keys, Comparator<? super E> tieBreak, int[] indexes, int[] buffer,
+                int from, int to, boolean isParallel) {
+            this.elements = elements;
+            this.keys = keys;
+            this.tieBreak = tieBreak;
+            this.indexes = indexes;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.isParallel = isParallel;
+        }
+
+        @Override
+        protected void compute() {
+            if (isParallel && to - from >= MIN_PARALLEL_SIZE * 2) {
+                int mid = (from + to) >>> 1;
+                invokeAll(half(from, mid), half(mid, to));
+                merge(from, mid, to);
+            } else {
+                sort(from, to);
+            }
+        }
+
+        private MergeSort<E> half(int halfFrom, int halfTo) {
+            return new MergeSort<>(elements, keys, tieBreak, indexes, buffer, halfFrom, halfTo, isParallel);
+        }
+
+        private void sort(int sortFrom, int sortTo) {
+            if (sortTo - sortFrom < 2) {
+                return;
+            }
+            int mid = (sortFrom + sortTo) >>> 1;
+            sort(sortFrom, mid);
+            sort(mid, sortTo);
+            merge(sortFrom, mid, sortTo);
+        }
+
+        private void merge(int mergeFrom, int mid, int mergeTo) {
+            if (compare(indexes[mid - 1], indexes[mid]) <= 0) {
+                return; // already in order
+            }
+            System.arraycopy(indexes, mergeFrom, buffer, mergeFrom, mergeTo - mergeFrom);
+            int left = mergeFrom;
+            int right = mid;
+            for (int i = mergeFrom; i < mergeTo; i++) {
+                if (right >= mergeTo || (left < mid && compare(buffer[left], buffer[right]) <= 0)) {
+                    indexes[i] = buffer[left++];
+                } else {
+                    indexes[i] = buffer[right++];
+                }
+            }
+        }
+
+        private int compare(int index, int otherIndex) {
+            int result = Long.compare(keys[index], keys[otherIndex]);
+            return result != 0 ? result : tieBreak.compare(elements[index], elements[otherIndex]);
+        }
+    }
+}
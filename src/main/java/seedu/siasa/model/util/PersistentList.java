@@ -0,0 +1,248 @@
+package seedu.siasa.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that shares its structure with the lists it is derived from.
+ * <p>
+ * The elements are kept in a balanced tree ordered by position. Deriving a list with an element appended,
+ * replaced or removed only copies the path from the root to that position, so it takes O(log n) time and space,
+ * and leaves the original list untouched. Holding on to a list is therefore a cheap, consistent point-in-time
+ * view of a collection that keeps changing, which can be read from any thread.
+ *
+ * @param <T> the type of the elements, which must not be null.
+ */
+public final class PersistentList<T> extends AbstractList<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in the same order.
+     */
+    public static <T> PersistentList<T> copyOf(List<? extends T> elements) {
+        requireNonNull(elements);
+        if (elements.isEmpty()) {
+            return empty();
+        }
+        // Copy first so that building the tree does not depend on how fast elements can be accessed by position.
+        Object[] array = elements.toArray();
+        return new PersistentList<>(build(array, 0, array.length));
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns a list with {@code element} appended to the elements of this list.
+     */
+    public PersistentList<T> plus(T element) {
+        requireNonNull(element);
+        return new PersistentList<>(insert(root, size(), element));
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at position {@code index}, before the element that was at
+     * that position in this list, if any.
+     */
+    public PersistentList<T> plus(int index, T element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at position {@code index} of this list replaced by {@code element}.
+     */
+    public PersistentList<T> with(int index, T element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at position {@code index} of this list removed.
+     */
+    public PersistentList<T> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> build(Object[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(elements, from, middle), (T) elements[middle], build(elements, middle + 1, to));
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.value, node.right);
+        }
+        return balance(node.left, node.value, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <T> Node<T> replace(Node<T> node, int index, T element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(replace(node.left, index, element), node.value, node.right);
+        } else if (index == leftSize) {
+            return new Node<>(node.left, element, node.right);
+        }
+        return new Node<>(node.left, node.value, replace(node.right, index - leftSize - 1, element));
+    }
+
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        // Take the place of the removed element by its successor, the first element of the right subtree.
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(node.left, successor.value, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node joining {@code left}, {@code value} and {@code right}, rotated so that the heights of
+     * its subtrees differ by at most one. The heights of {@code left} and {@code right} must differ by at most two.
+     */
+    private static <T> Node<T> balance(Node<T> left, T value, Node<T> right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            return new Node<>(new Node<>(left.left, left.value, left.right.left), left.right.value,
+                    new Node<>(left.right.right, value, right));
+        } else if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            return new Node<>(new Node<>(left, value, right.left.left), right.left.value,
+                    new Node<>(right.left.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node<T> {
+        private final Node<T> left;
+        private final T value;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        private Node(Node<T> left, T value, Node<T> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = size(left) + 1 + size(right);
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /**
+     * Iterates over the elements in order, in O(1) amortized time per element.
+     */
+    private static final class InOrderIterator<T> implements Iterator<T> {
+        private final Deque<Node<T>> path = new ArrayDeque<>();
+
+        private InOrderIterator(Node<T> root) {
+            pushLeftSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = path.pop();
+            pushLeftSpine(node.right);
+            return node.value;
+        }
+
+        private void pushLeftSpine(Node<T> node) {
+            for (Node<T> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package seedu.siasa.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.siasa.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An index from the keys of the elements of a list, e.g. the names of contacts, to the positions of those elements,
+ * that stays valid when elements are removed from or inserted into the middle of the list.
+ * <p>
+ * Instead of its position, each key is given a slot, and the slots are kept in the order of the list. Removing a key
+ * frees its slot without moving the others, and a count of the slots in use (a Fenwick tree) turns a slot into a
+ * position. So finding, adding and removing a key take O(log n) time, and no other key is renumbered. Inserting a
+ * key reuses the free slot left at that position by a removal, e.g. when a removal is undone, and only renumbers
+ * the slots when there is none. The slots are also renumbered once there are more free slots than keys in use.
+ *
+ * @param <K> the type of the keys, which must be unique.
+ */
+public class PositionIndex<K> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final Map<K, Integer> slotsByKey = new HashMap<>();
+    // The key in each slot taken so far, or null if the slot was freed.
+    private final List<K> keysBySlot = new ArrayList<>();
+    // A Fenwick tree counting the slots in use: entry i counts the slots in use in [i - lowestOneBit(i), i).
+    private int[] counts = new int[MIN_CAPACITY + 1];
+
+    public int size() {
+        return slotsByKey.size();
+    }
+
+    /**
+     * Returns true if the index contains {@code key}.
+     */
+    public boolean contains(K key) {
+        requireNonNull(key);
+        return slotsByKey.containsKey(key);
+    }
+
+    /**
+     * Returns the position of the element with {@code key}, or -1 if the index does not contain {@code key}.
+     */
+    public int positionOf(K key) {
+        requireNonNull(key);
+        Integer slot = slotsByKey.get(key);
+        return slot == null ? -1 : countInUseBefore(slot);
+    }
+
+    /**
+     * Adds {@code key} for an element appended to the list.
+     * The index must not already contain {@code key}.
+     */
+    public void add(K key) {
+        requireNonNull(key);
+        checkArgument(!contains(key), "The key is already in the index");
+        if (keysBySlot.size() == capacity()) {
+            if (keysBySlot.size() - size() >= size()) {
+                renumber(keysInOrder());
+            } else {
+                resize(2 * capacity());
+            }
+        }
+        keysBySlot.add(null);
+        take(keysBySlot.size() - 1, key);
+    }
+
+    /**
+     * Adds {@code key} for an element inserted into the list at {@code position}.
+     * The index must not already contain {@code key}.
+     */
+    public void add(int position, K key) {
+        requireNonNull(key);
+        checkArgument(!contains(key), "The key is already in the index");
+        if (position < 0 || position > size()) {
+            throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + size());
+        }
+        if (position == size()) {
+            add(key);
+            return;
+        }
+
+        int slot = slotAt(position);
+        if (slot > 0 && keysBySlot.get(slot - 1) == null) {
+            // The slot just before the element now at position is free, so the key can take it.
+            take(slot - 1, key);
+            return;
+        }
+        List<K> keys = keysInOrder();
+        keys.add(position, key);
+        renumber(keys);
+    }
+
+    /**
+     * Removes {@code key}, for an element removed from the list.
+     * The index must contain {@code key}.
+     */
+    public void remove(K key) {
+        requireNonNull(key);
+        Integer slot = slotsByKey.remove(key);
+        checkArgument(slot != null, "The key is not in the index");
+        keysBySlot.set(slot, null);
+        update(slot, -1);
+        if (keysBySlot.size() > MIN_CAPACITY && keysBySlot.size() - size() > size()) {
+            renumber(keysInOrder());
+        }
+    }
+
+    /**
+     * Replaces {@code oldKey} with {@code newKey}, for an element replaced in place.
+     * The index must contain {@code oldKey}, and must not contain {@code newKey} unless it equals {@code oldKey}.
+     */
+    public void replace(K oldKey, K newKey) {
+        requireNonNull(oldKey);
+        requireNonNull(newKey);
+        if (oldKey.equals(newKey)) {
+            return;
+        }
+        checkArgument(!contains(newKey), "The key is already in the index");
+        Integer slot = slotsByKey.remove(oldKey);
+        checkArgument(slot != null, "The key is not in the index");
+        slotsByKey.put(newKey, slot);
+        keysBySlot.set(slot, newKey);
+    }
+
+    /**
+     * Replaces the contents of the index with {@code keys}, in the order of the list.
+     * {@code keys} must not contain duplicates.
+     */
+    public void setAll(Collection<K> keys) {
+        requireNonNull(keys);
+        renumber(new ArrayList<>(keys));
+    }
+
+    public void clear() {
+        renumber(new ArrayList<>());
+    }
+
+    private int capacity() {
+        return counts.length - 1;
+    }
+
+    private void take(int slot, K key) {
+        slotsByKey.put(key, slot);
+        keysBySlot.set(slot, key);
+        update(slot, 1);
+    }
+
+    private List<K> keysInOrder() {
+        List<K> keys = new ArrayList<>(size());
+        keysBySlot.stream().filter(Objects::nonNull).forEach(keys::add);
+        return keys;
+    }
+
+    /**
+     * Gives the {@code keys} consecutive slots, in order.
+     */
+    private void renumber(List<K> keys) {
+        slotsByKey.clear();
+        keysBySlot.clear();
+        for (K key : keys) {
+            requireNonNull(key);
+            checkArgument(slotsByKey.put(key, keysBySlot.size()) == null, "The keys must be unique");
+            keysBySlot.add(key);
+        }
+        resize(Math.max(MIN_CAPACITY, 2 * keys.size()));
+    }
+
+    /**
+     * Rebuilds the count of the slots in use for {@code capacity} slots, in O(capacity) time.
+     */
+    private void resize(int capacity) {
+        counts = new int[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            if (i <= keysBySlot.size() && keysBySlot.get(i - 1) != null) {
+                counts[i]++;
+            }
+            int parent = i + Integer.lowestOneBit(i);
+            if (parent <= capacity) {
+                counts[parent] += counts[i];
+            }
+        }
+    }
+
+    private void update(int slot, int delta) {
+        for (int i = slot + 1; i < counts.length; i += Integer.lowestOneBit(i)) {
+            counts[i] += delta;
+        }
+    }
+
+    /**
+     * Returns the number of slots in use before {@code slot}.
+     */
+    private int countInUseBefore(int slot) {
+        int count = 0;
+        for (int i = slot; i > 0; i -= Integer.lowestOneBit(i)) {
+            count += counts[i];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the slot of the key at {@code position}, which must be less than {@link #size()}.
+     */
+    private int slotAt(int position) {
+        // Find the most slots whose count in use is at most position; the slot after them holds the key.
+        int slotCount = 0;
+        int remaining = position;
+        for (int step = Integer.highestOneBit(capacity()); step > 0; step >>= 1) {
+            if (slotCount + step <= capacity() && counts[slotCount + step] <= remaining) {
+                slotCount += step;
+                remaining -= counts[slotCount];
+            }
+        }
+        return slotCount;
+    }
+}
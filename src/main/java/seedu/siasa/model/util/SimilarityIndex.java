@@ -0,0 +1,190 @@
+package seedu.siasa.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.siasa.commons.util.StringUtil;
+
+/**
+ * An index of elements by a string key that answers "which elements have a key within a small edit distance
+ * of this one" without comparing against every element. Keys are compared case insensitively.
+ * <p>
+ * The index is a BK-tree: every node holds one (upper-cased) key, and each child is stored under its edit
+ * distance from the parent's key. By the triangle inequality, a search for keys within distance {@code d} of
+ * a query only needs to descend into children whose distance differs from the query's by at most {@code d}.
+ * <p>
+ * Elements are matched by identity when removed. Nodes whose elements have all been removed are kept for
+ * routing and the tree is rebuilt once such nodes outnumber the live ones.
+ *
+ * @param <T> the type of the indexed elements.
+ */
+public class SimilarityIndex<T> {
+
+    private static final int MIN_DEAD_NODES_BEFORE_REBUILD = 16;
+
+    private final Function<T, String> keyExtractor;
+    private Node<T> root;
+    private int liveNodes;
+    private int deadNodes;
+
+    /**
+     * Creates an empty index that keys each element by {@code keyExtractor}.
+     */
+    public SimilarityIndex(Function<T, String> keyExtractor) {
+        requireNonNull(keyExtractor);
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Adds {@code element} to the index.
+     */
+    public void add(T element) {
+        requireNonNull(element);
+        String key = normalize(keyExtractor.apply(element));
+        if (root == null) {
+            root = new Node<>(key);
+            root.elements.add(element);
+            liveNodes++;
+            return;
+        }
+
+        Node<T> node = root;
+        while (true) {
+            int distance = StringUtil.getEditDistance(key, node.key);
+            if (distance == 0) {
+                if (node.elements.isEmpty()) {
+                    deadNodes--;
+                    liveNodes++;
+                }
+                node.elements.add(element);
+                return;
+            }
+            Node<T> child = node.children.get(distance);
+            if (child == null) {
+                child = new Node<>(key);
+                child.elements.add(element);
+                node.children.put(distance, child);
+                liveNodes++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Removes {@code element} from the index. Does nothing if {@code element} is not in the index.
+     */
+    public void remove(T element) {
+        requireNonNull(element);
+        String key = normalize(keyExtractor.apply(element));
+        Node<T> node = root;
+        while (node != null) {
+            int distance = StringUtil.getEditDistance(key, node.key);
+            if (distance != 0) {
+                node = node.children.get(distance);
+                continue;
+            }
+            if (node.removeInstance(element) && node.elements.isEmpty()) {
+                liveNodes--;
+                deadNodes++;
+                rebuildIfSparse();
+            }
+            return;
+        }
+    }
+
+    /**
+     * Removes all elements from the index.
+     */
+    public void clear() {
+        root = null;
+        liveNodes = 0;
+        deadNodes = 0;
+    }
+
+    public boolean isEmpty() {
+        return liveNodes == 0;
+    }
+
+    /**
+     * Returns all elements whose key is within {@code maxDistance} edits of {@code query} (case insensitive).
+     */
+    public List<T> search(String query, int maxDistance) {
+        requireNonNull(query);
+        String key = normalize(query);
+        List<T> matches = new ArrayList<>();
+        if (root == null) {
+            return matches;
+        }
+
+        Deque<Node<T>> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node<T> node = toVisit.pop();
+            int distance = StringUtil.getEditDistance(key, node.key);
+            if (distance <= maxDistance) {
+                matches.addAll(node.elements);
+            }
+            for (int childDistance = Math.max(1, distance - maxDistance);
+                    childDistance <= distance + maxDistance; childDistance++) {
+                Node<T> child = node.children.get(childDistance);
+                if (child != null) {
+                    toVisit.push(child);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private void rebuildIfSparse() {
+        if (deadNodes < MIN_DEAD_NODES_BEFORE_REBUILD || deadNodes <= liveNodes) {
+            return;
+        }
+
+        List<T> elements = new ArrayList<>();
+        Deque<Node<T>> toVisit = new ArrayDeque<>();
+        toVisit.push(root);
+        while (!toVisit.isEmpty()) {
+            Node<T> node = toVisit.pop();
+            elements.addAll(node.elements);
+            node.children.values().forEach(toVisit::push);
+        }
+
+        clear();
+        elements.forEach(this::add);
+    }
+
+    private static String normalize(String key) {
+        return key.toUpperCase();
+    }
+
+    /**
+     * A node of the tree, holding every element that shares the node's key.
+     */
+    private static class Node<T> {
+        private final String key;
+        private final List<T> elements = new ArrayList<>(1);
+        private final Map<Integer, Node<T>> children = new HashMap<>();
+
+        private Node(String key) {
+            this.key = key;
+        }
+
+        private boolean removeInstance(T element) {
+            for (int i = 0; i < elements.size(); i++) {
+                if (elements.get(i) == element) {
+                    elements.remove(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
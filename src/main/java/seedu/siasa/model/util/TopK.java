@@ -0,0 +1,57 @@
+package seedu.siasa.model.util;
+
+import static seedu.siasa.commons.util.AppUtil.checkArgument;
+import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * Selects the first few elements of a collection in some order, without sorting the whole collection.
+ * <p>
+ * The {@code k} first elements seen so far are kept in a heap whose root is the last of them, so an element that
+ * does not come before the root is discarded after a single comparison. Selecting the first {@code k} of
+ * {@code n} elements takes O(n log k) time and O(k) space, instead of the O(n log n) time and O(n) space
+ * of sorting them all.
+ */
+public final class TopK {
+
+    private TopK() {}
+
+    /**
+     * Returns the first {@code k} elements of {@code elements} that satisfy {@code predicate}, in the order of
+     * {@code comparator}, or all of them if there are at most {@code k}.
+     * The result is the same as the first {@code k} elements of the sorted list as long as {@code comparator}
+     * does not consider any two distinct elements equal.
+     */
+    public static <T> List<T> select(Iterable<? extends T> elements, Predicate<? super T> predicate,
+            Comparator<? super T> comparator, int k) {
+        requireAllNonNull(elements, predicate, comparator);
+        checkArgument(k > 0, "k must be positive");
+
+        Comparator<T> lastFirst = (a, b) -> comparator.compare(b, a);
+        PriorityQueue<T> heap = new PriorityQueue<>(lastFirst);
+        for (T element : elements) {
+            if (!predicate.test(element)) {
+                continue;
+            }
+            if (heap.size() < k) {
+                heap.add(element);
+            } else if (comparator.compare(element, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(element);
+            }
+        }
+
+        List<T> selected = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            selected.add(heap.poll());
+        }
+        Collections.reverse(selected);
+        return selected;
+    }
+}
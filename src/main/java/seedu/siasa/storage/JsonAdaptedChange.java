@@ -0,0 +1,155 @@
+package seedu.siasa.storage;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.siasa.commons.exceptions.IllegalValueException;
+import seedu.siasa.model.ReadOnlySiasa;
+import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.history.Change;
+import seedu.siasa.model.policy.Policy;
+
+/**
+ * Jackson-friendly version of a {@link Change} to a single contact or policy, as written to a journal.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+
+    /**
+     * The kinds of changes that can be journaled.
+     */
+    enum Type {
+        CONTACT_ADDED, CONTACT_REMOVED, CONTACT_REPLACED, POLICY_ADDED, POLICY_REMOVED, POLICY_REPLACED
+    }
+
+    private final Type type;
+    // The position an entity was inserted at, if it was not appended.
+    private final Integer index;
+    // The entity added or removed, or the replacement of the one replaced. For policies, which refer to their owners
+    // by id, the contacts are their owners, so that the change can be applied on its own.
+    private final JsonAdaptedContact contact;
+    private final JsonAdaptedContact replacedContact;
+    private final JsonAdaptedPolicy policy;
+    private final JsonAdaptedPolicy replacedPolicy;
+
+    /**
+     * Constructs a {@code JsonAdaptedChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedChange(@JsonProperty("type") Type type, @JsonProperty("index") Integer index,
+            @JsonProperty("contact") JsonAdaptedContact contact,
+            @JsonProperty("replacedContact") JsonAdaptedContact replacedContact,
+            @JsonProperty("policy") JsonAdaptedPolicy policy,
+            @JsonProperty("replacedPolicy") JsonAdaptedPolicy replacedPolicy) {
+        this.type = type;
+        this.index = index;
+        this.contact = contact;
+        this.replacedContact = replacedContact;
+        this.policy = policy;
+        this.replacedPolicy = replacedPolicy;
+    }
+
+    /**
+     * Converts a given {@code Change} into this class for Jackson use, or returns an empty {@code Optional} if
+     * the change replaced all the data of the SIASA, which is saved in full instead.
+     */
+    public static Optional<JsonAdaptedChange> of(Change change) {
+        return change.accept(new Change.Visitor<>() {
+            @Override
+            public Optional<JsonAdaptedChange> visitContactAdded(Contact added, int index) {
+                return Optional.of(new JsonAdaptedChange(Type.CONTACT_ADDED, index < 0 ? null : index,
+                        new JsonAdaptedContact(added), null, null, null));
+            }
+
+            @Override
+            public Optional<JsonAdaptedChange> visitContactRemoved(Contact removed) {
+                return Optional.of(new JsonAdaptedChange(Type.CONTACT_REMOVED, null,
+                        new JsonAdaptedContact(removed), null, null, null));
+            }
+
+            @Override
+            public Optional<JsonAdaptedChange> visitContactReplaced(Contact before, Contact after) {
+                return Optional.of(new JsonAdaptedChange(Type.CONTACT_REPLACED, null,
+                        new JsonAdaptedContact(after), new JsonAdaptedContact(before), null, null));
+            }
+
+            @Override
+            public Optional<JsonAdaptedChange> visitPolicyAdded(Policy added, int index) {
+                return Optional.of(new JsonAdaptedChange(Type.POLICY_ADDED, index < 0 ? null : index,
+                        new JsonAdaptedContact(added.getOwner()), null, new JsonAdaptedPolicy(added), null));
+            }
+
+            @Override
+            public Optional<JsonAdaptedChange> visitPolicyRemoved(Policy removed) {
+                return Optional.of(new JsonAdaptedChange(Type.POLICY_REMOVED, null,
+                        new JsonAdaptedContact(removed.getOwner()), null, new JsonAdaptedPolicy(removed), null));
+            }
+
+            @Override
+            public Optional<JsonAdaptedChange> visitPolicyReplaced(Policy before, Policy after) {
+                return Optional.of(new JsonAdaptedChange(Type.POLICY_REPLACED, null,
+                        new JsonAdaptedContact(after.getOwner()), new JsonAdaptedContact(before.getOwner()),
+                        new JsonAdaptedPolicy(after), new JsonAdaptedPolicy(before)));
+            }
+
+            @Override
+            public Optional<JsonAdaptedChange> visitSiasaReset(ReadOnlySiasa before, ReadOnlySiasa after) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code Change} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public Change toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        int position = index == null ? -1 : index;
+
+        switch (type) {
+        case CONTACT_ADDED:
+            return Change.contactAdded(toContact(contact), position);
+        case CONTACT_REMOVED:
+            return Change.contactRemoved(toContact(contact), position);
+        case CONTACT_REPLACED:
+            return Change.contactReplaced(toContact(replacedContact), toContact(contact));
+        case POLICY_ADDED:
+            return Change.policyAdded(toPolicy(policy, contact), position);
+        case POLICY_REMOVED:
+            return Change.policyRemoved(toPolicy(policy, contact), position);
+        case POLICY_REPLACED:
+            return Change.policyReplaced(toPolicy(replacedPolicy, replacedContact), toPolicy(policy, contact));
+        default:
+            throw new AssertionError("Unknown change type: " + type);
+        }
+    }
+
+    private static Contact toContact(JsonAdaptedContact contact) throws IllegalValueException {
+        if (contact == null) {
+            throw new IllegalValueException(
+                    String.format(MISSING_FIELD_MESSAGE_FORMAT, Contact.class.getSimpleName()));
+        }
+        return contact.toModelType();
+    }
+
+    /**
+     * Returns the policy owned by {@code owner}. The owner resolves to the contact of the same id in the SIASA the
+     * change is applied to.
+     */
+    private static Policy toPolicy(JsonAdaptedPolicy policy, JsonAdaptedContact owner) throws IllegalValueException {
+        if (policy == null) {
+            throw new IllegalValueException(
+                    String.format(MISSING_FIELD_MESSAGE_FORMAT, Policy.class.getSimpleName()));
+        }
+        return policy.toModelType(toContact(owner));
+    }
+}
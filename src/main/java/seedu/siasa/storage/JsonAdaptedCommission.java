@@ -46,7 +46,7 @@ public class JsonAdaptedCommission {
                 throw new IllegalValueException(Commission.MESSAGE_CONSTRAINTS);
             }
 
-            return new Commission(commissionPercentageInt, numberOfPaymentsInt);
+            return Commission.of(commissionPercentageInt, numberOfPaymentsInt);
         } catch (IllegalValueException | NumberFormatException e) {
             throw new IllegalValueException(e.getMessage());
         }
@@ -12,6 +12,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import seedu.siasa.commons.exceptions.IllegalValueException;
 import seedu.siasa.model.contact.Address;
 import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.contact.ContactId;
 import seedu.siasa.model.contact.Email;
 import seedu.siasa.model.contact.Name;
 import seedu.siasa.model.contact.Phone;
@@ -24,19 +25,30 @@ class JsonAdaptedContact {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Contact's %s field is missing!";
 
+    private final String id;
     private final String name;
     private final String phone;
     private final String email;
     private final String address;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedContact} with the given contact details and no id.
+     */
+    public JsonAdaptedContact(String name, String phone, String email, String address, List<JsonAdaptedTag> tagged) {
+        this(null, name, phone, email, address, tagged);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedContact} with the given contact details.
+     * The id is optional, as files written before contacts had ids do not have it.
      */
     @JsonCreator
-    public JsonAdaptedContact(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-                              @JsonProperty("email") String email, @JsonProperty("address") String address,
+    public JsonAdaptedContact(@JsonProperty("id") String id, @JsonProperty("name") String name,
+                              @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+                              @JsonProperty("address") String address,
                               @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -50,6 +62,7 @@ class JsonAdaptedContact {
      * Converts a given {@code Contact} into this class for Jackson use.
      */
     public JsonAdaptedContact(Contact source) {
+        id = source.getId().value;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -70,6 +83,11 @@ class JsonAdaptedContact {
             personTags.add(tag.toModelType());
         }
 
+        if (id != null && !ContactId.isValidContactId(id)) {
+            throw new IllegalValueException(ContactId.MESSAGE_CONSTRAINTS);
+        }
+        final ContactId modelId = id == null ? ContactId.generate() : new ContactId(id);
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -103,7 +121,7 @@ class JsonAdaptedContact {
         final Address modelAddress = new Address(address);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Contact(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+        return new Contact(modelId, modelName, modelPhone, modelEmail, modelAddress, modelTags);
     }
 
 }
@@ -53,7 +53,7 @@ public class JsonAdaptedPaymentStructure {
                 throw new IllegalValueException(PaymentStructure.MESSAGE_CONSTRAINTS);
             }
 
-            return new PaymentStructure(paymentAmountInt, paymentFrequencyInt, numberOfPaymentsInt);
+            return PaymentStructure.of(paymentAmountInt, paymentFrequencyInt, numberOfPaymentsInt);
         } catch (IllegalValueException | NumberFormatException e) {
             throw new IllegalValueException(e.getMessage());
         }
@@ -6,6 +6,7 @@ import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -15,6 +16,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.siasa.commons.exceptions.IllegalValueException;
 import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.contact.ContactId;
 import seedu.siasa.model.policy.Commission;
 import seedu.siasa.model.policy.CoverageExpiryDate;
 import seedu.siasa.model.policy.PaymentStructure;
@@ -35,23 +37,40 @@ public class JsonAdaptedPolicy {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private final String coverageExpiryDate;
     private final JsonAdaptedCommission commission;
+    // The id of the owner, which is a contact saved alongside the policy.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String ownerId;
+    // The owner in full, in place of its id, as saved before policies referred to their owners by id.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final JsonAdaptedContact owner;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedPolicy} with the given policy details, with the owner in full.
+     */
+    public JsonAdaptedPolicy(String title, JsonAdaptedPaymentStructure paymentStructure, String coverageExpiryDate,
+                             JsonAdaptedCommission commission, JsonAdaptedContact owner,
+                             List<JsonAdaptedTag> tagged) {
+        this(title, paymentStructure, coverageExpiryDate, commission, null, owner, tagged);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedPolicy} with the given policy details.
+     * Either the owner id or, for policies saved before there were owner ids, the owner is given.
      */
     @JsonCreator
     public JsonAdaptedPolicy(@JsonProperty("title") String title,
                              @JsonProperty("paymentStructure") JsonAdaptedPaymentStructure paymentStructure,
                              @JsonProperty("coverageExpiryDate") String coverageExpiryDate,
                              @JsonProperty("commission") JsonAdaptedCommission commission,
+                             @JsonProperty("ownerId") String ownerId,
                              @JsonProperty("owner") JsonAdaptedContact owner,
                              @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
         this.title = title;
         this.paymentStructure = paymentStructure;
         this.coverageExpiryDate = coverageExpiryDate;
         this.commission = commission;
+        this.ownerId = ownerId;
         this.owner = owner;
         if (tagged != null) {
             this.tagged.addAll(tagged);
@@ -59,19 +78,38 @@ public class JsonAdaptedPolicy {
     }
 
     /**
-     * Converts a given {@code Policy} into this class for Jackson use.
+     * Converts a given {@code Policy} into this class for Jackson use, referring to its owner by id.
      */
     public JsonAdaptedPolicy(Policy source) {
         title = source.getTitle().toString();
         paymentStructure = new JsonAdaptedPaymentStructure(source.getPaymentStructure());
         coverageExpiryDate = source.getCoverageExpiryDate().map(date -> date.toString()).orElse(null);
         commission = new JsonAdaptedCommission(source.getCommission());
-        owner = new JsonAdaptedContact(source.getOwner());
+        ownerId = source.getOwnerId().value;
+        owner = null;
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the id of the owner, or an empty {@code Optional} if the owner is given in full instead.
+     *
+     * @throws IllegalValueException if the id is not a valid contact id.
+     */
+    public Optional<ContactId> getOwnerId() throws IllegalValueException {
+        if (ownerId == null) {
+            return Optional.empty();
+        }
+        if (!ContactId.isValidContactId(ownerId)) {
+            throw new IllegalValueException(ContactId.MESSAGE_CONSTRAINTS);
+        }
+        return Optional.of(new ContactId(ownerId));
+    }
+
+    /**
+     * Returns the owner in full, or null if the owner is referred to by id instead.
+     */
     public JsonAdaptedContact getOwner() {
         return owner;
     }
@@ -93,7 +131,7 @@ public class JsonAdaptedPolicy {
         if (!Title.isValidTitle(title)) {
             throw new IllegalValueException(Title.MESSAGE_CONSTRAINTS);
         }
-        final Title modelTitle = new Title(title);
+        final Title modelTitle = Title.of(title);
 
         if (paymentStructure == null) {
             throw new IllegalValueException(
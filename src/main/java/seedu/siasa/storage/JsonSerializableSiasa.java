@@ -5,18 +5,19 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
-import javafx.collections.ObservableList;
 import seedu.siasa.commons.exceptions.IllegalValueException;
 import seedu.siasa.model.ReadOnlySiasa;
 import seedu.siasa.model.Siasa;
-import seedu.siasa.model.contact.Contact;
-import seedu.siasa.model.policy.Policy;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * <p>
+ * Each contact is saved once, and its policies refer to it by its id. Files in the legacy format, whose policies
+ * hold their owners in full, can still be read.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableSiasa {
@@ -24,16 +25,35 @@ class JsonSerializableSiasa {
     public static final String MESSAGE_DUPLICATE_CONTACT = "Contacts list contains duplicate contact(s).";
     public static final String MESSAGE_DUPLICATE_POLICY = "Policy list contains duplicate policies(s).";
     public static final String MESSAGE_POLICY_NO_OWNER_FOUND = "Contact list does not contain owner of policy.";
+    public static final String MESSAGE_DUPLICATE_CONTACT_ID = "Contact list contains duplicate contact id(s).";
+    public static final String MESSAGE_UNSUPPORTED_FORMAT_VERSION =
+            "Data is in format version %d, but only versions up to %d can be read.";
 
+    // Files saved before there was a format version, whose policies hold their owners in full.
+    public static final int LEGACY_FORMAT_VERSION = 1;
+    // Policies refer to their owners by contact id.
+    public static final int FORMAT_VERSION = 2;
+
+    private final int formatVersion;
+
+    // The first generation of the journal segments that hold the changes made since this was saved.
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final long generation;
     private final List<JsonAdaptedContact> contacts = new ArrayList<>();
     private final List<JsonAdaptedPolicy> policies = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableSiasa} with the given contacts and policies.
+     * Constructs a {@code JsonSerializableSiasa} with the given format version, journal generation, contacts and
+     * policies. The format version is absent from files saved in the legacy format, and the generation from files
+     * saved before there was a journal, which have none.
      */
     @JsonCreator
-    public JsonSerializableSiasa(@JsonProperty("contacts") List<JsonAdaptedContact> contacts,
+    public JsonSerializableSiasa(@JsonProperty("formatVersion") Integer formatVersion,
+                                 @JsonProperty("generation") long generation,
+                                 @JsonProperty("contacts") List<JsonAdaptedContact> contacts,
                                  @JsonProperty("policies") List<JsonAdaptedPolicy> policies) {
+        this.formatVersion = formatVersion == null ? LEGACY_FORMAT_VERSION : formatVersion;
+        this.generation = generation;
         this.contacts.addAll(contacts);
         this.policies.addAll(policies);
     }
@@ -44,40 +64,41 @@ class JsonSerializableSiasa {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableSiasa(ReadOnlySiasa source) {
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlySiasa}, whose later changes are journaled from generation
+     * {@code generation}, into this class for Jackson use.
+     */
+    public JsonSerializableSiasa(ReadOnlySiasa source, long generation) {
+        this.formatVersion = FORMAT_VERSION;
+        this.generation = generation;
         contacts.addAll(source.getContactList().stream().map(JsonAdaptedContact::new).collect(Collectors.toList()));
         policies.addAll(source.getPolicyList().stream().map(JsonAdaptedPolicy::new).collect(Collectors.toList()));
     }
 
+    public long getGeneration() {
+        return generation;
+    }
+
     /**
      * Converts this SIASA into the model's {@code AddressBook} object.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public Siasa toModelType() throws IllegalValueException {
-        Siasa siasa = new Siasa();
+        JsonSiasaLoader loader = new JsonSiasaLoader();
+        loader.setFormatVersion(formatVersion);
         for (JsonAdaptedContact jsonAdaptedContact : contacts) {
-            Contact contact = jsonAdaptedContact.toModelType();
-            if (siasa.hasContact(contact)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CONTACT);
-            }
-            siasa.addContact(contact);
+            loader.loadContact(jsonAdaptedContact);
         }
-
+        loader.endContacts();
         for (JsonAdaptedPolicy jsonAdaptedPolicy : policies) {
-            Contact policyOwner = jsonAdaptedPolicy.getOwner().toModelType();
-            ObservableList<Contact> contactList = siasa.getContactList();
-            if (!contactList.contains(policyOwner)) {
-                throw new IllegalValueException(MESSAGE_POLICY_NO_OWNER_FOUND);
-            }
-            int ownerIndex = contactList.indexOf(policyOwner);
-            Contact owner = contactList.get(ownerIndex);
-            Policy policy = jsonAdaptedPolicy.toModelType(owner);
-            if (siasa.hasPolicy(policy)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_POLICY);
-            }
-            siasa.addPolicy(policy);
+            loader.loadPolicy(jsonAdaptedPolicy);
         }
-        return siasa;
+        return loader.getSiasa();
     }
 
+
 }
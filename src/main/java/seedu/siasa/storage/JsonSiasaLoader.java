@@ -0,0 +1,207 @@
+package seedu.siasa.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.siasa.commons.exceptions.IllegalValueException;
+import seedu.siasa.model.Siasa;
+import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.contact.ContactId;
+import seedu.siasa.model.policy.Policy;
+
+/**
+ * Loads the contacts and policies of an SIASA into the model one at a time.
+ * <p>
+ * When reading a JSON document, each contact and policy is converted into the model as soon as it is parsed, so that
+ * neither the document nor its Jackson-friendly objects are ever held in memory as a whole.
+ */
+class JsonSiasaLoader {
+
+    private final Siasa siasa = new Siasa();
+    // Resolves the owners of policies that refer to them by id.
+    private final Map<ContactId, Contact> contactsById = new HashMap<>();
+    // Maps each loaded contact to itself, so that the owners of policies in the legacy format, which hold their
+    // owners in full, are resolved without scanning the contacts.
+    private final Map<Contact, Contact> loadedContacts = new HashMap<>();
+    // Policies read before the contacts, which are loaded once their owners are.
+    private final List<JsonAdaptedPolicy> pendingPolicies = new ArrayList<>();
+    private boolean isContactsLoaded;
+    private int formatVersion = JsonSerializableSiasa.LEGACY_FORMAT_VERSION;
+    private long generation;
+
+    /**
+     * Reads the SIASA in the JSON document of {@code parser}, as written from a {@link JsonSerializableSiasa}.
+     *
+     * @throws IOException if the document is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static JsonSiasaLoader load(JsonParser parser) throws IOException, IllegalValueException {
+        JsonSiasaLoader loader = new JsonSiasaLoader();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "SIASA data is not a JSON object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "formatVersion":
+                loader.setFormatVersion(parser.getValueAsInt());
+                break;
+            case "generation":
+                loader.generation = parser.getValueAsLong();
+                break;
+            case "contacts":
+                if (startArray(parser)) {
+                    while (nextElement(parser)) {
+                        loader.loadContact(parser.readValueAs(JsonAdaptedContact.class));
+                    }
+                }
+                loader.endContacts();
+                break;
+            case "policies":
+                if (startArray(parser)) {
+                    while (nextElement(parser)) {
+                        loader.loadPolicy(parser.readValueAs(JsonAdaptedPolicy.class));
+                    }
+                }
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+        if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "SIASA data ends unexpectedly");
+        }
+
+        loader.endContacts();
+        return loader;
+    }
+
+    /**
+     * Returns true if the parser is at the start of an array, or false if it is at a null in place of one.
+     */
+    private static boolean startArray(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of SIASA data");
+        }
+        return true;
+    }
+
+    /**
+     * Moves the parser to the next element of the array it is in, returning false if there are no more.
+     */
+    private static boolean nextElement(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new JsonParseException(parser, "SIASA data ends unexpectedly");
+        }
+        return token != JsonToken.END_ARRAY;
+    }
+
+    /**
+     * Sets the format version of the data being loaded.
+     *
+     * @throws IllegalValueException if the data is in a newer format than this version of the app can read.
+     */
+    void setFormatVersion(int formatVersion) throws IllegalValueException {
+        if (formatVersion > JsonSerializableSiasa.FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(JsonSerializableSiasa.MESSAGE_UNSUPPORTED_FORMAT_VERSION,
+                    formatVersion, JsonSerializableSiasa.FORMAT_VERSION));
+        }
+        this.formatVersion = formatVersion;
+    }
+
+    /**
+     * Loads {@code jsonAdaptedContact} into the SIASA.
+     *
+     * @throws IllegalValueException if the contact is invalid, or it or its id is already loaded.
+     */
+    void loadContact(JsonAdaptedContact jsonAdaptedContact) throws IllegalValueException {
+        Contact contact = jsonAdaptedContact.toModelType();
+        if (siasa.hasContact(contact)) {
+            throw new IllegalValueException(JsonSerializableSiasa.MESSAGE_DUPLICATE_CONTACT);
+        }
+        if (contactsById.containsKey(contact.getId())) {
+            throw new IllegalValueException(JsonSerializableSiasa.MESSAGE_DUPLICATE_CONTACT_ID);
+        }
+        siasa.addContact(contact);
+        contactsById.put(contact.getId(), contact);
+        loadedContacts.put(contact, contact);
+    }
+
+    /**
+     * Loads {@code jsonAdaptedPolicy} into the SIASA, owned by the loaded contact with its owner id, or, in the
+     * legacy format, the loaded contact that matches its owner.
+     * The policy is held back until {@link #endContacts()} if the contacts are not all loaded yet.
+     *
+     * @throws IllegalValueException if the policy is invalid or already loaded, or its owner is not loaded.
+     */
+    void loadPolicy(JsonAdaptedPolicy jsonAdaptedPolicy) throws IllegalValueException {
+        if (!isContactsLoaded) {
+            pendingPolicies.add(jsonAdaptedPolicy);
+            return;
+        }
+
+        Optional<ContactId> ownerId = jsonAdaptedPolicy.getOwnerId();
+        Contact owner;
+        if (ownerId.isPresent()) {
+            owner = contactsById.get(ownerId.get());
+        } else if (jsonAdaptedPolicy.getOwner() != null) {
+            owner = loadedContacts.get(jsonAdaptedPolicy.getOwner().toModelType());
+        } else {
+            throw new IllegalValueException(
+                    String.format(JsonAdaptedPolicy.MISSING_FIELD_MESSAGE_FORMAT, Contact.class.getSimpleName()));
+        }
+        if (owner == null) {
+            throw new IllegalValueException(JsonSerializableSiasa.MESSAGE_POLICY_NO_OWNER_FOUND);
+        }
+        Policy policy = jsonAdaptedPolicy.toModelType(owner);
+        if (siasa.hasPolicy(policy)) {
+            throw new IllegalValueException(JsonSerializableSiasa.MESSAGE_DUPLICATE_POLICY);
+        }
+        siasa.addPolicy(policy);
+    }
+
+    /**
+     * Marks the contacts as all loaded, and loads the policies held back until then.
+     */
+    void endContacts() throws IllegalValueException {
+        if (isContactsLoaded) {
+            return;
+        }
+        isContactsLoaded = true;
+        for (JsonAdaptedPolicy jsonAdaptedPolicy : pendingPolicies) {
+            loadPolicy(jsonAdaptedPolicy);
+        }
+        pendingPolicies.clear();
+    }
+
+    Siasa getSiasa() {
+        return siasa;
+    }
+
+    /**
+     * Returns the format version of the data loaded, which is older than {@link JsonSerializableSiasa#FORMAT_VERSION}
+     * if the data should be saved again to migrate it to the current format.
+     */
+    int getFormatVersion() {
+        return formatVersion;
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+}
@@ -1,30 +1,78 @@
 package seedu.siasa.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.siasa.commons.core.LogsCenter;
 import seedu.siasa.commons.exceptions.DataConversionException;
 import seedu.siasa.commons.exceptions.IllegalValueException;
-import seedu.siasa.commons.util.FileUtil;
 import seedu.siasa.commons.util.JsonUtil;
+import seedu.siasa.commons.util.StringUtil;
 import seedu.siasa.model.ReadOnlySiasa;
+import seedu.siasa.model.Siasa;
+import seedu.siasa.model.history.Change;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * <p>
+ * Changes can be saved to a journal next to the file instead of rewriting the whole file, so that saving a change
+ * costs as much as the change rather than as the whole SIASA. Once the journal grows past the compaction
+ * threshold, the SIASA is saved in full in the background and the journal is started afresh. Reading the file
+ * replays the journal over it.
  */
 public class JsonSiasaStorage implements SiasaStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonSiasaStorage.class);
 
     private Path filePath;
+    // The size in bytes the journal grows to before it is compacted, or 0 or less if changes are not journaled.
+    private final long journalCompactionThreshold;
+    private final Executor compactionExecutor;
+    // Open once the file has been saved in full, as changes are only journaled on top of a file this has saved.
+    private final SiasaJournal journal;
+    private final Object fileLock = new Object();
+    // The generation of the journal the file was last saved at, guarded by fileLock.
+    private long fileGeneration = -1;
 
+    /**
+     * Creates a storage of the file at {@code filePath}, which saves every change by rewriting the whole file.
+     */
     public JsonSiasaStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a storage of the file at {@code filePath}, which journals changes and compacts the journal into the
+     * file on a background thread once it grows to {@code journalCompactionThreshold} bytes.
+     * Changes are not journaled if {@code journalCompactionThreshold} is 0 or less.
+     */
+    public JsonSiasaStorage(Path filePath, long journalCompactionThreshold) {
+        this(filePath, journalCompactionThreshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a storage of the file at {@code filePath}, which journals changes and compacts the journal into the
+     * file on {@code compactionExecutor} once it grows to {@code journalCompactionThreshold} bytes.
+     */
+    public JsonSiasaStorage(Path filePath, long journalCompactionThreshold, Executor compactionExecutor) {
+        requireNonNull(compactionExecutor);
         this.filePath = filePath;
+        this.journalCompactionThreshold = journalCompactionThreshold;
+        this.compactionExecutor = compactionExecutor;
+        this.journal = new SiasaJournal(filePath);
     }
 
     public Path getSiasaFilePath() {
@@ -45,20 +93,98 @@ public class JsonSiasaStorage implements SiasaStorage {
     public Optional<ReadOnlySiasa> readSiasa(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableSiasa> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableSiasa.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            JsonSiasaLoader loader;
+            try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+                loader = JsonSiasaLoader.load(parser);
+            } catch (IOException e) {
+                logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+                throw new DataConversionException(e);
+            }
+
+            Siasa siasa = loader.getSiasa();
+            replayJournal(siasa, filePath, loader.getGeneration());
+            if (filePath.equals(this.filePath) && loader.getFormatVersion() < JsonSerializableSiasa.FORMAT_VERSION) {
+                migrate(siasa, loader.getFormatVersion());
+            }
+            return Optional.of(siasa);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Makes the changes journaled for the file at {@code filePath} since it was saved at generation
+     * {@code generation} to {@code siasa}, which holds the data in the file.
+     */
+    private static void replayJournal(Siasa siasa, Path filePath, long generation)
+            throws DataConversionException, IllegalValueException {
+        List<String> records = new ArrayList<>();
+        try {
+            for (long segmentGeneration : SiasaJournal.getGenerations(filePath)) {
+                if (segmentGeneration >= generation) {
+                    records.addAll(SiasaJournal.readRecords(filePath, segmentGeneration));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading the journal of " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        int changeCount = 0;
+        for (int i = 0; i < records.size(); i++) {
+            List<Change> changes = new ArrayList<>();
+            try {
+                for (JsonAdaptedChange change : JsonUtil.fromJsonString(records.get(i), JsonAdaptedChange[].class)) {
+                    changes.add(change.toModelType());
+                }
+            } catch (IOException e) {
+                if (i == records.size() - 1) {
+                    // Only the last record can be incomplete, if the app stopped while journaling it. None of its
+                    // changes are made, so that the SIASA is never left with only part of a command.
+                    logger.warning("Ignoring incomplete last changes in the journal of " + filePath);
+                    break;
+                }
+                throw new DataConversionException(e);
+            }
+
+            try {
+                for (Change change : changes) {
+                    change.apply(siasa);
+                }
+            } catch (RuntimeException e) {
+                throw new IllegalValueException("Journaled change does not apply to " + filePath + ": " + e);
+            }
+            changeCount += changes.size();
+        }
+        if (changeCount > 0) {
+            logger.info("Replayed " + changeCount + " journaled changes over " + filePath);
+        }
+    }
+
+    /**
+     * Saves {@code siasa}, read from the file in the older format {@code formatVersion}, in the current format.
+     * A copy of the file as it was is kept for earlier versions of the app, which cannot read the current format.
+     */
+    private void migrate(ReadOnlySiasa siasa, int formatVersion) {
+        Path backupPath = filePath.resolveSibling(filePath.getFileName() + ".v" + formatVersion + ".bak");
+        try {
+            Files.copy(filePath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+            saveSiasa(siasa, filePath);
+            logger.info("Migrated " + filePath + " from format version " + formatVersion + " to "
+                    + JsonSerializableSiasa.FORMAT_VERSION + ", keeping the original at " + backupPath);
+        } catch (IOException e) {
+            // The file is still readable in the older format, so the migration is retried when it is next read.
+            logger.warning("Failed to migrate " + filePath + " to the current format " + StringUtil.getDetails(e));
+        }
+    }
+
     @Override
     public void saveSiasa(ReadOnlySiasa siasa) throws IOException {
         saveSiasa(siasa, filePath);
@@ -69,12 +195,103 @@ public class JsonSiasaStorage implements SiasaStorage {
      *
      * @param filePath location of the data. Cannot be null.
      */
-    public void saveSiasa(ReadOnlySiasa addressBook, Path filePath) throws IOException {
+    public synchronized void saveSiasa(ReadOnlySiasa addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableSiasa(addressBook), filePath);
+        // Newer than every journal segment, so that none of them is replayed over the saved file.
+        List<Long> generations = SiasaJournal.getGenerations(filePath);
+        long generation = generations.isEmpty() ? 0 : generations.get(generations.size() - 1) + 1;
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            closeJournal();
+        }
+
+        writeFile(addressBook, filePath, generation);
+        SiasaJournal.deleteSegmentsBefore(filePath, generation);
+        if (isOwnFile && journalCompactionThreshold > 0) {
+            journal.open(generation);
+        }
+    }
+
+    /**
+     * Saves {@code changes}, which turned the SIASA last saved into {@code siasa}, to the journal, or saves
+     * {@code siasa} in full if changes are not journaled.
+     */
+    @Override
+    public synchronized void saveChanges(ReadOnlySiasa siasa, List<Change> changes) throws IOException {
+        requireAllNonNull(siasa, changes);
+        if (!journal.isOpen()) {
+            saveSiasa(siasa);
+            return;
+        }
+
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<JsonAdaptedChange> adaptedChanges = new ArrayList<>();
+            for (Change change : changes) {
+                Optional<JsonAdaptedChange> adaptedChange = JsonAdaptedChange.of(change);
+                if (adaptedChange.isEmpty()) {
+                    // All the data was replaced, which is no smaller than saving it in full.
+                    saveSiasa(siasa);
+                    return;
+                }
+                adaptedChanges.add(adaptedChange.get());
+            }
+
+            // All the changes go in one record, so that replaying the journal makes either all of them or none.
+            if (journal.append(JsonUtil.toCompactJsonString(adaptedChanges)) >= journalCompactionThreshold) {
+                compact(siasa);
+            }
+        } catch (IOException | RuntimeException e) {
+            // The journal now misses the changes, or ends with part of one, so nothing more can be appended to it
+            // until the SIASA is saved in full.
+            closeJournal();
+            throw e;
+        }
+    }
+
+    /**
+     * Starts a new journal segment for the changes after {@code siasa}, and saves {@code siasa} in full in the
+     * background, after which the earlier segments are deleted.
+     */
+    private void compact(ReadOnlySiasa siasa) throws IOException {
+        long generation = journal.getGeneration() + 1;
+        journal.open(generation);
+        compactionExecutor.execute(() -> {
+            try {
+                synchronized (fileLock) {
+                    if (fileGeneration >= generation) {
+                        return; // already saved in full since
+                    }
+                    writeFile(siasa, filePath, generation);
+                }
+                SiasaJournal.deleteSegmentsBefore(filePath, generation);
+            } catch (IOException e) {
+                // The journal is kept, and compacted along with the next segment.
+                logger.warning("Failed to compact the journal of " + filePath + " " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    private void writeFile(ReadOnlySiasa siasa, Path filePath, long generation) throws IOException {
+        synchronized (fileLock) {
+            JsonUtil.saveJsonFile(new JsonSerializableSiasa(siasa, generation), filePath);
+            if (filePath.equals(this.filePath)) {
+                fileGeneration = generation;
+            }
+        }
+    }
+
+    private void closeJournal() {
+        try {
+            journal.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close the journal of " + filePath + " " + StringUtil.getDetails(e));
+        }
     }
 
 }
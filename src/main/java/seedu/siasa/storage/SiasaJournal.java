@@ -0,0 +1,172 @@
+package seedu.siasa.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The journal of the changes made to an SIASA since it was last saved in full to its data file.
+ * <p>
+ * The journal is kept in segment files next to the data file, numbered by generation: the data file records the
+ * generation it was saved at, and the segments of that generation and later hold, in order, the changes made
+ * since. The changes saved together, e.g. those of one command, are a single record on a line of its own, and a
+ * segment is forced to the disk after each append, so a crash loses at most the record being written, and never
+ * leaves part of the changes saved together. Segments of earlier generations are left over from before the data
+ * file was last saved, and are ignored.
+ */
+class SiasaJournal {
+
+    private static final String SEGMENT_SEPARATOR = ".journal.";
+
+    private final Path dataFilePath;
+    // The segment that records are appended to, while the journal is open.
+    private long generation;
+    private FileChannel segment;
+
+    /**
+     * Creates a closed journal for the data file at {@code dataFilePath}.
+     */
+    SiasaJournal(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        this.dataFilePath = dataFilePath;
+    }
+
+    /**
+     * Returns the path of the segment of generation {@code generation} of the data file at {@code dataFilePath}.
+     */
+    static Path getSegmentPath(Path dataFilePath, long generation) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + SEGMENT_SEPARATOR + generation);
+    }
+
+    /**
+     * Returns the generations of the segments of the data file at {@code dataFilePath}, in ascending order.
+     */
+    static List<Long> getGenerations(Path dataFilePath) throws IOException {
+        Path directory = dataFilePath.toAbsolutePath().getParent();
+        String prefix = dataFilePath.getFileName() + SEGMENT_SEPARATOR;
+        List<Long> generations = new ArrayList<>();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return generations;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*")) {
+            for (Path file : files) {
+                String generation = file.getFileName().toString().substring(prefix.length());
+                if (generation.matches("\\d{1,18}")) {
+                    generations.add(Long.parseLong(generation));
+                }
+            }
+        }
+        Collections.sort(generations);
+        return generations;
+    }
+
+    /**
+     * Returns the records of the segment of generation {@code generation} of the data file at
+     * {@code dataFilePath}, in the order they were appended, or none if there is no such segment.
+     * The last record is incomplete if the app stopped while appending it. It may then be cut off within a
+     * character, so it is decoded with replacement characters rather than failing the whole segment.
+     *
+     * @throws IOException if the segment cannot be read, or a record other than the last is not valid UTF-8.
+     */
+    static List<String> readRecords(Path dataFilePath, long generation) throws IOException {
+        Path segmentPath = getSegmentPath(dataFilePath, generation);
+        if (!Files.exists(segmentPath)) {
+            return Collections.emptyList();
+        }
+        byte[] bytes = Files.readAllBytes(segmentPath);
+
+        List<int[]> recordBounds = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= bytes.length; i++) {
+            if (i == bytes.length || bytes[i] == '\n') {
+                if (i > start) {
+                    recordBounds.add(new int[] {start, i});
+                }
+                start = i + 1;
+            }
+        }
+
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < recordBounds.size(); i++) {
+            int recordStart = recordBounds.get(i)[0];
+            int recordLength = recordBounds.get(i)[1] - recordStart;
+            if (i == recordBounds.size() - 1) {
+                records.add(new String(bytes, recordStart, recordLength, StandardCharsets.UTF_8));
+            } else {
+                records.add(StandardCharsets.UTF_8.newDecoder()
+                        .decode(ByteBuffer.wrap(bytes, recordStart, recordLength)).toString());
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Deletes the segments of the data file at {@code dataFilePath} of generations before {@code generation}.
+     */
+    static void deleteSegmentsBefore(Path dataFilePath, long generation) throws IOException {
+        for (long segmentGeneration : getGenerations(dataFilePath)) {
+            if (segmentGeneration < generation) {
+                Files.deleteIfExists(getSegmentPath(dataFilePath, segmentGeneration));
+            }
+        }
+    }
+
+    /**
+     * Opens the journal, so that records are appended to a new segment of generation {@code generation},
+     * which replaces any segment of that generation.
+     */
+    void open(long generation) throws IOException {
+        close();
+        this.generation = generation;
+        segment = FileChannel.open(getSegmentPath(dataFilePath, generation),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    boolean isOpen() {
+        return segment != null;
+    }
+
+    /**
+     * Returns the generation of the segment that records are appended to. The journal must be open.
+     */
+    long getGeneration() {
+        assert isOpen();
+        return generation;
+    }
+
+    /**
+     * Appends {@code record} on a line of its own, and forces it to the disk.
+     * Returns the size of the segment appended to, in bytes. The journal must be open.
+     */
+    long append(String record) throws IOException {
+        assert isOpen();
+        assert record.indexOf('\n') == -1;
+        ByteBuffer bytes = ByteBuffer.wrap((record + '\n').getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            segment.write(bytes);
+        }
+        segment.force(false);
+        return segment.size();
+    }
+
+    /**
+     * Closes the journal, if it is open.
+     */
+    void close() throws IOException {
+        if (segment != null) {
+            FileChannel closing = segment;
+            segment = null;
+            closing.close();
+        }
+    }
+}
@@ -2,11 +2,13 @@ package seedu.siasa.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.siasa.commons.exceptions.DataConversionException;
 import seedu.siasa.model.ReadOnlySiasa;
 import seedu.siasa.model.Siasa;
+import seedu.siasa.model.history.Change;
 
 /**
  * Represents a storage for {@link Siasa}.
@@ -43,4 +45,13 @@ public interface SiasaStorage {
      */
     void saveSiasa(ReadOnlySiasa siasa, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code changes}, which turned the {@link ReadOnlySiasa} last saved into {@code siasa}, to the storage.
+     * Storages that cannot save changes alone save {@code siasa} in full.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveChanges(ReadOnlySiasa siasa, List<Change> changes) throws IOException {
+        saveSiasa(siasa);
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.siasa.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,6 +11,7 @@ import seedu.siasa.commons.exceptions.DataConversionException;
 import seedu.siasa.model.ReadOnlySiasa;
 import seedu.siasa.model.ReadOnlyUserPrefs;
 import seedu.siasa.model.UserPrefs;
+import seedu.siasa.model.history.Change;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -77,4 +79,10 @@ public class StorageManager implements Storage {
         siasaStorage.saveSiasa(addressBook, filePath);
     }
 
+    @Override
+    public void saveChanges(ReadOnlySiasa siasa, List<Change> changes) throws IOException {
+        logger.fine("Attempting to save changes to data file: " + siasaStorage.getSiasaFilePath());
+        siasaStorage.saveChanges(siasa, changes);
+    }
+
 }
@@ -0,0 +1,194 @@
+package seedu.siasa.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.siasa.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.siasa.commons.core.LogsCenter;
+import seedu.siasa.commons.util.StringUtil;
+import seedu.siasa.model.ReadOnlySiasa;
+import seedu.siasa.model.history.Change;
+
+/**
+ * Saves an SIASA to a {@code SiasaStorage} on a background thread, so that commands do not wait for the file
+ * to be written.
+ * <p>
+ * Only the latest SIASA requested is saved: while a save is in progress, the requests made in the meantime are
+ * coalesced, and a single save of the latest of them, along with all the changes requested with them, follows.
+ * A burst of commands is therefore written once, however fast the commands come. The SIASAs given must not change
+ * after they are requested, e.g. they should be snapshots taken with
+ * {@link seedu.siasa.model.Model#getSiasaSnapshot()}.
+ */
+public class WriteBehindSiasaSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSiasaSaver.class);
+
+    private final SiasaStorage storage;
+    private final Executor executor;
+    private final Object lock = new Object();
+
+    // The latest SIASA requested that is not being saved yet, if any.
+    private ReadOnlySiasa pendingSiasa;
+    // The changes that led to the pending SIASA, or null if it must be saved in full.
+    private List<Change> pendingChanges = new ArrayList<>();
+    // True from the time a save is handed to the executor until there are no more pending SIASAs.
+    private boolean isSaving = false;
+    private volatile IOException lastFailure;
+    private volatile Consumer<IOException> failureHandler = failure -> {};
+
+    /**
+     * Creates a saver that saves to {@code storage} on a thread of its own.
+     */
+    public WriteBehindSiasaSaver(SiasaStorage storage) {
+        this(storage, createSavingThread());
+    }
+
+    /**
+     * Creates a saver that saves to {@code storage} on {@code executor}, which must run the saves one at a time.
+     */
+    public WriteBehindSiasaSaver(SiasaStorage storage, Executor executor) {
+        requireAllNonNull(storage, executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    private static ExecutorService createSavingThread() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "SIASA saver");
+            // Unsaved changes are flushed when the app stops, so the thread must not keep the app running.
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the handler to notify, on the saving thread, of each save that fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Saves {@code siasa} in full in the background, unless a later SIASA is requested before the save starts.
+     */
+    public void requestSave(ReadOnlySiasa siasa) {
+        requireNonNull(siasa);
+        request(siasa, null);
+    }
+
+    /**
+     * Saves {@code changes}, which turned the SIASA requested before into {@code siasa}, in the background.
+     */
+    public void requestSave(ReadOnlySiasa siasa, List<Change> changes) {
+        requireAllNonNull(siasa, changes);
+        request(siasa, changes);
+    }
+
+    private void request(ReadOnlySiasa siasa, List<Change> changes) {
+        synchronized (lock) {
+            pendingSiasa = siasa;
+            if (changes == null) {
+                pendingChanges = null;
+            } else if (pendingChanges != null) {
+                pendingChanges.addAll(changes);
+            }
+            if (isSaving) {
+                return; // picked up once the save in progress completes
+            }
+            isSaving = true;
+        }
+        executor.execute(this::savePending);
+    }
+
+    /**
+     * Waits until the latest SIASA requested has been saved.
+     *
+     * @throws IOException if the last save failed.
+     */
+    public void flush() throws IOException {
+        synchronized (lock) {
+            while (isSaving) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        IOException failure = lastFailure;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void savePending() {
+        boolean isDone = false;
+        try {
+            for (PendingSave save = takePending(); save != null; save = takePending()) {
+                save(save.siasa, save.changes);
+            }
+            isDone = true;
+        } finally {
+            if (!isDone) {
+                // Let the next request start saving again, rather than have it wait for this thread forever.
+                synchronized (lock) {
+                    isSaving = false;
+                    lock.notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the latest SIASA requested that is not being saved yet, with the changes that led to it, or null,
+     * after which a new save must be handed to the executor, if there is none.
+     */
+    private PendingSave takePending() {
+        synchronized (lock) {
+            if (pendingSiasa == null) {
+                isSaving = false;
+                lock.notifyAll();
+                return null;
+            }
+            PendingSave save = new PendingSave(pendingSiasa, pendingChanges);
+            pendingSiasa = null;
+            pendingChanges = new ArrayList<>();
+            return save;
+        }
+    }
+
+    private void save(ReadOnlySiasa siasa, List<Change> changes) {
+        try {
+            if (changes == null) {
+                storage.saveSiasa(siasa);
+            } else {
+                storage.saveChanges(siasa, changes);
+            }
+            lastFailure = null;
+        } catch (IOException e) {
+            logger.warning("Failed to save SIASA " + StringUtil.getDetails(e));
+            lastFailure = e;
+            failureHandler.accept(e);
+        }
+    }
+
+    private static class PendingSave {
+        private final ReadOnlySiasa siasa;
+        private final List<Change> changes;
+
+        private PendingSave(ReadOnlySiasa siasa, List<Change> changes) {
+            this.siasa = siasa;
+            this.changes = changes;
+        }
+    }
+}
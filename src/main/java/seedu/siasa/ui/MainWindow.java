@@ -2,6 +2,7 @@ package seedu.siasa.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -117,11 +118,12 @@ public class MainWindow extends UiPart<Stage> {
         contactListPanel = new ContactListPanel(logic.getFilteredContactList());
         contactsPanelPlaceholder.getChildren().add(contactListPanel.getRoot());
 
-        policyListPanel = new PolicyListPanel(logic.getFilteredPolicyList());
+        policyListPanel = new PolicyListPanel(logic.getFilteredPolicyList(), logic.getFilteredContactList());
         policyListPanelPlaceholder.getChildren().add(policyListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
         executeCommand("expiringpolicysummary");
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
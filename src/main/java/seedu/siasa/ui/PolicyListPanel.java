@@ -2,12 +2,14 @@ package seedu.siasa.ui;
 
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.siasa.commons.core.LogsCenter;
+import seedu.siasa.model.contact.Contact;
 import seedu.siasa.model.policy.Policy;
 
 /**
@@ -21,12 +23,15 @@ public class PolicyListPanel extends UiPart<Region> {
     private ListView<Policy> policyListView;
 
     /**
-     * Creates a {@code PolicyListPanel} with the given {@code ObservableList}
+     * Creates a {@code PolicyListPanel} with the given {@code ObservableList}.
+     * Since policies show the current details of their owners, the visible cards are redrawn whenever
+     * {@code contactList} changes.
      */
-    public PolicyListPanel(ObservableList<Policy> policyList) {
+    public PolicyListPanel(ObservableList<Policy> policyList, ObservableList<Contact> contactList) {
         super(FXML);
         policyListView.setItems(policyList);
         policyListView.setCellFactory(listView -> new PolicyListViewCell());
+        contactList.addListener((ListChangeListener<Contact>) change -> policyListView.refresh());
     }
 
     /**
@@ -1,11 +1,24 @@
 package seedu.siasa.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.siasa.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 
 import seedu.siasa.testutil.SerializableTestClass;
 import seedu.siasa.testutil.TestUtil;
@@ -17,6 +30,15 @@ public class JsonUtilTest {
 
     private static final Path SERIALIZATION_FILE = TestUtil.getFilePathInSandboxFolder("serialize.json");
 
+    @TempDir
+    public Path testFolder;
+
+    @BeforeEach
+    public void setUp() {
+        // Jackson creates the serializer, so its result can only be passed back through a static field.
+        CrashingSerializer.isPartlyWritten = false;
+    }
+
     @Test
     public void serializeObjectToJsonFile_noExceptionThrown() throws IOException {
         SerializableTestClass serializableTestClass = new SerializableTestClass();
@@ -39,6 +61,62 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void serializeObjectToJsonFile_crashWhileWriting_fileUnchanged() throws IOException {
+        Path jsonFile = testFolder.resolve("serialize.json");
+        FileUtil.writeToFile(jsonFile, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        CrashingTestClass crashing = new CrashingTestClass(jsonFile.resolveSibling("serialize.json.tmp"));
+        assertThrows(IOException.class, () -> JsonUtil.serializeObjectToJsonFile(jsonFile, crashing));
+
+        // part of the object was on the disk when the crash happened, but not in the file
+        assertTrue(CrashingSerializer.isPartlyWritten);
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(jsonFile));
+        assertFalse(Files.exists(crashing.tempFile));
+    }
+
+    @Test
+    public void serializeObjectToJsonFile_leftoverTempFile_overwritten() throws IOException {
+        Path jsonFile = testFolder.resolve("serialize.json");
+        // left by an app that stopped while saving
+        FileUtil.writeToFile(jsonFile.resolveSibling("serialize.json.tmp"), "{ \"name\" : \"incompl");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.serializeObjectToJsonFile(jsonFile, serializableTestClass);
+
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(jsonFile));
+        assertFalse(Files.exists(jsonFile.resolveSibling("serialize.json.tmp")));
+    }
+
+    /**
+     * An object that crashes its serialization once the values before it have been written to the disk.
+     */
+    private static class CrashingTestClass {
+        private final List<String> values = Collections.nCopies(10000, "value");
+        @JsonSerialize(using = CrashingSerializer.class)
+        private final Path tempFile;
+
+        private CrashingTestClass(Path tempFile) {
+            this.tempFile = tempFile;
+        }
+    }
+
+    /**
+     * Throws an {@code IOException} in place of serializing the path of the file being written to.
+     */
+    private static class CrashingSerializer extends JsonSerializer<Path> {
+        private static boolean isPartlyWritten;
+
+        @Override
+        public void serialize(Path tempFile, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.flush();
+            isPartlyWritten = Files.size(tempFile) > 0;
+            throw new IOException("Injected crash");
+        }
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
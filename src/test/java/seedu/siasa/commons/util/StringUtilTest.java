@@ -1,5 +1,6 @@
 package seedu.siasa.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.siasa.testutil.Assert.assertThrows;
@@ -123,6 +124,26 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance("abc", null));
+    }
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("", ""));
+        assertEquals(3, StringUtil.getEditDistance("", "abc")); // insertions only
+        assertEquals(0, StringUtil.getEditDistance("abc", "abc"));
+        assertEquals(1, StringUtil.getEditDistance("abc", "abd")); // substitution
+        assertEquals(1, StringUtil.getEditDistance("abc", "ac")); // deletion
+        assertEquals(1, StringUtil.getEditDistance("abc", "abcd")); // insertion
+        assertEquals(1, StringUtil.getEditDistance("abc", "Abc")); // case sensitive
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
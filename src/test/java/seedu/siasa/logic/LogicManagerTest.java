@@ -1,6 +1,8 @@
 package seedu.siasa.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.siasa.commons.core.Messages.MESSAGE_INVALID_CONTACT_DISPLAYED_INDEX;
 import static seedu.siasa.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.siasa.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -11,7 +13,11 @@ import static seedu.siasa.testutil.Assert.assertThrows;
 import static seedu.siasa.testutil.TypicalContacts.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +25,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.siasa.logic.commands.CommandResult;
 import seedu.siasa.logic.commands.contact.AddContactCommand;
+import seedu.siasa.logic.commands.contact.ListContactCommand;
 import seedu.siasa.logic.commands.exceptions.CommandException;
 import seedu.siasa.logic.parser.exceptions.ParseException;
 import seedu.siasa.model.Model;
@@ -29,6 +36,7 @@ import seedu.siasa.model.contact.Contact;
 import seedu.siasa.storage.JsonSiasaStorage;
 import seedu.siasa.storage.JsonUserPrefsStorage;
 import seedu.siasa.storage.StorageManager;
+import seedu.siasa.storage.WriteBehindSiasaSaver;
 import seedu.siasa.testutil.ContactBuilder;
 
 public class LogicManagerTest {
@@ -44,9 +52,8 @@ public class LogicManagerTest {
     public void setUp() {
         JsonSiasaStorage addressBookStorage =
                 new JsonSiasaStorage(temporaryFolder.resolve("siasa.json"));
-        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        // Save on the thread executing commands, so that nothing is written once a test completes
+        logic = new LogicManager(model, new WriteBehindSiasaSaver(addressBookStorage, Runnable::run));
     }
 
     @Test
@@ -62,24 +69,62 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        // Setup LogicManager with JsonSiasaIoExceptionThrowingStub
+    public void execute_storageThrowsIoException_reportsSaveFailure() throws Exception {
+        // Setup LogicManager with JsonSiasaIoExceptionThrowingStub, saving on the thread executing commands
         JsonSiasaStorage siasaStorage =
                 new JsonSiasaIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
-        JsonUserPrefsStorage userPrefsStorage =
-                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
-
-        StorageManager storage = new StorageManager(siasaStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, new WriteBehindSiasaSaver(siasaStorage, Runnable::run));
+        List<String> reportedFailures = new ArrayList<>();
+        logic.setSaveFailureHandler(reportedFailures::add);
 
-        // Execute add command
+        // Execute add command, which succeeds even though it cannot be saved
         String addCommand = AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
                 + ADDRESS_DESC_AMY;
         Contact expectedContact = new ContactBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addContact(expectedContact);
+        assertCommandSuccess(addCommand, String.format(AddContactCommand.MESSAGE_SUCCESS, expectedContact),
+                expectedModel);
+
         String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(expectedMessage), reportedFailures);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), logic::flush);
+    }
+
+    @Test
+    public void flush_afterCommands_savesLatestSiasa() throws Exception {
+        JsonSiasaStorage siasaStorage = new JsonSiasaStorage(temporaryFolder.resolve("siasa.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(siasaStorage, userPrefsStorage));
+
+        String addCommand = AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        logic.flush();
+        assertEquals(model.getSiasa(), siasaStorage.readSiasa().get());
+    }
+
+    @Test
+    public void execute_commandChangesNothing_saveAvoided() throws Exception {
+        Path siasaFilePath = temporaryFolder.resolve("siasa.json");
+        logic.execute(ListContactCommand.COMMAND_WORD);
+        assertFalse(Files.exists(siasaFilePath));
+
+        String addCommand = AddContactCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertTrue(Files.exists(siasaFilePath));
+
+        Files.delete(siasaFilePath);
+        logic.execute(ListContactCommand.COMMAND_WORD);
+        assertFalse(Files.exists(siasaFilePath));
+
+        SaveStatistics statistics = logic.getSaveStatistics();
+        assertEquals(2, statistics.getExecutions("ListContactCommand"));
+        assertEquals(2, statistics.getSavesAvoided("ListContactCommand"));
+        assertEquals(1, statistics.getExecutions("AddContactCommand"));
+        assertEquals(0, statistics.getSavesAvoided("AddContactCommand"));
+        assertEquals(2, statistics.getTotalSavesAvoided());
     }
 
     @Test
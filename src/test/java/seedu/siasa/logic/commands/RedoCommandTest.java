@@ -0,0 +1,49 @@
+package seedu.siasa.logic.commands;
+
+import static seedu.siasa.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.siasa.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.siasa.testutil.TypicalContacts.ALICE;
+import static seedu.siasa.testutil.TypicalPolicies.FULL_LIFE;
+import static seedu.siasa.testutil.TypicalSiasa.getTypicalSiasa;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.siasa.model.Model;
+import seedu.siasa.model.ModelManager;
+import seedu.siasa.model.UserPrefs;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalSiasa(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalSiasa(), new UserPrefs());
+
+    @Test
+    public void execute_nothingUndone_failure() {
+        model.deletePolicy(FULL_LIFE);
+        model.commitChanges();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undoneCommand_changesMadeAgain() {
+        model.deleteContact(ALICE);
+        model.commitChanges();
+        model.undo();
+
+        expectedModel.deleteContact(ALICE);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_newCommandAfterUndo_failure() {
+        model.deleteContact(ALICE);
+        model.commitChanges();
+        model.undo();
+        model.deletePolicy(FULL_LIFE);
+        model.commitChanges();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.siasa.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.siasa.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.siasa.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.siasa.testutil.TypicalContacts.ALICE;
+import static seedu.siasa.testutil.TypicalPolicies.FULL_LIFE;
+import static seedu.siasa.testutil.TypicalSiasa.getTypicalSiasa;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.siasa.model.Model;
+import seedu.siasa.model.ModelManager;
+import seedu.siasa.model.Siasa;
+import seedu.siasa.model.UserPrefs;
+import seedu.siasa.model.contact.Contact;
+import seedu.siasa.testutil.ContactBuilder;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalSiasa(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalSiasa(), new UserPrefs());
+
+    @Test
+    public void execute_noChanges_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_deletedContact_contactAndPoliciesRestored() {
+        model.deleteContact(ALICE);
+        model.commitChanges();
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_editedContact_policiesOwnedByRestoredContact() {
+        Contact editedAlice = new ContactBuilder(ALICE).withPhone("91234567").build();
+        model.setContact(ALICE, editedAlice);
+        model.commitChanges();
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertEquals(ALICE.getPhone(), model.getSiasa().getPolicyList().get(0).getOwner().getPhone());
+    }
+
+    @Test
+    public void execute_multipleCommands_undoneInReverseOrder() {
+        model.deletePolicy(FULL_LIFE);
+        model.commitChanges();
+        model.setSiasa(new Siasa());
+        model.commitChanges();
+
+        expectedModel.deletePolicy(FULL_LIFE);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.setSiasa(getTypicalSiasa());
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+}
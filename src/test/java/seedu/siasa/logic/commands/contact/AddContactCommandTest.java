@@ -6,10 +6,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.siasa.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -22,7 +26,10 @@ import seedu.siasa.model.ReadOnlySiasa;
 import seedu.siasa.model.ReadOnlyUserPrefs;
 import seedu.siasa.model.Siasa;
 import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.history.Change;
 import seedu.siasa.model.policy.Policy;
+import seedu.siasa.model.tag.Tag;
+import seedu.siasa.model.tag.TagMatchMode;
 import seedu.siasa.testutil.ContactBuilder;
 
 public class AddContactCommandTest {
@@ -115,6 +122,51 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlySiasa getSiasaSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getSiasaVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Change> takeAppliedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redo() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void applyBatch(Runnable changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasContact(Contact contact) {
             throw new AssertionError("This method should not be called.");
@@ -126,7 +178,32 @@ public class AddContactCommandTest {
         }
 
         @Override
-        public ObservableList<Policy> getPoliciesBelongingTo(Contact target) {
+        public Set<Contact> getContactsWithNameContainingAny(Collection<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Contact> getContactsWithTags(Collection<Tag> tags, TagMatchMode mode) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Policy> getPoliciesBelongingTo(Contact target) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Policy> getPoliciesExpiringBefore(LocalDate cutOff) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Policy> getPoliciesExpiringBetween(LocalDate start, LocalDate end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Policy> getPoliciesWithTags(Collection<Tag> tags, TagMatchMode mode) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -155,6 +232,11 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredContactList(Comparator<Contact> comparator, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPolicy(Policy policy) {
             throw new AssertionError("This method should not be called.");
@@ -200,6 +282,11 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPolicyList(Comparator<Policy> comparator, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         public double getTotalCommission() {
             throw new AssertionError("This method should not be called.");
         }
@@ -0,0 +1,82 @@
+package seedu.siasa.logic.commands.contact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.siasa.commons.core.Messages.MESSAGE_CONTACTS_LISTED_OVERVIEW;
+import static seedu.siasa.commons.core.Messages.MESSAGE_CONTACTS_LIST_EMPTY;
+import static seedu.siasa.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.siasa.testutil.TypicalContacts.ALICE;
+import static seedu.siasa.testutil.TypicalContacts.BENSON;
+import static seedu.siasa.testutil.TypicalContacts.DANIEL;
+import static seedu.siasa.testutil.TypicalSiasa.getTypicalSiasa;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.siasa.model.Model;
+import seedu.siasa.model.ModelManager;
+import seedu.siasa.model.UserPrefs;
+import seedu.siasa.model.tag.Tag;
+import seedu.siasa.model.tag.TagMatchMode;
+import seedu.siasa.model.util.SampleDataUtil;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindContactTagCommand}.
+ */
+public class FindContactTagCommandTest {
+    private Model model = new ModelManager(getTypicalSiasa(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalSiasa(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindContactTagCommand findFriendsCommand = new FindContactTagCommand(tags("friends"), TagMatchMode.ANY);
+
+        // same object -> returns true
+        assertTrue(findFriendsCommand.equals(findFriendsCommand));
+
+        // same values -> returns true
+        assertTrue(findFriendsCommand.equals(new FindContactTagCommand(tags("friends"), TagMatchMode.ANY)));
+
+        // null -> returns false
+        assertFalse(findFriendsCommand.equals(null));
+
+        // different mode -> returns false
+        assertFalse(findFriendsCommand.equals(new FindContactTagCommand(tags("friends"), TagMatchMode.ALL)));
+
+        // different tags -> returns false
+        assertFalse(findFriendsCommand.equals(new FindContactTagCommand(tags("owesMoney"), TagMatchMode.ANY)));
+    }
+
+    @Test
+    public void execute_anyOfTags_contactsWithAnyTagFound() {
+        String expectedMessage = String.format(MESSAGE_CONTACTS_LISTED_OVERVIEW, 3);
+        FindContactTagCommand command = new FindContactTagCommand(tags("FRIENDS", "owesmoney"), TagMatchMode.ANY);
+        expectedModel.updateFilteredContactList(contact -> Arrays.asList(ALICE, BENSON, DANIEL).contains(contact));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredContactList());
+    }
+
+    @Test
+    public void execute_allOfTags_onlyContactsWithEveryTagFound() {
+        String expectedMessage = String.format(MESSAGE_CONTACTS_LISTED_OVERVIEW, 1);
+        FindContactTagCommand command = new FindContactTagCommand(tags("friends", "owesMoney"), TagMatchMode.ALL);
+        expectedModel.updateFilteredContactList(BENSON::equals);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredContactList());
+    }
+
+    @Test
+    public void execute_unknownTag_noContactFound() {
+        FindContactTagCommand command = new FindContactTagCommand(tags("husband"), TagMatchMode.ANY);
+        expectedModel.updateFilteredContactList(contact -> false);
+        assertCommandSuccess(command, model, MESSAGE_CONTACTS_LIST_EMPTY, expectedModel);
+    }
+
+    private static Set<Tag> tags(String... tagNames) {
+        return SampleDataUtil.getTagSet(tagNames);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.siasa.logic.commands.policy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.siasa.commons.core.Messages.MESSAGE_POLICIES_LISTED_OVERVIEW;
+import static seedu.siasa.commons.core.Messages.MESSAGE_POLICIES_LIST_EMPTY;
+import static seedu.siasa.logic.commands.CommandTestUtil.VALID_TAG_TERM_INSURANCE;
+import static seedu.siasa.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.siasa.testutil.TypicalPolicies.CRITICAL_ILLNESS;
+import static seedu.siasa.testutil.TypicalSiasa.getTypicalSiasa;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.siasa.model.Model;
+import seedu.siasa.model.ModelManager;
+import seedu.siasa.model.UserPrefs;
+import seedu.siasa.model.tag.TagMatchMode;
+import seedu.siasa.model.util.SampleDataUtil;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindPolicyTagCommand}.
+ */
+public class FindPolicyTagCommandTest {
+    private Model model = new ModelManager(getTypicalSiasa(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalSiasa(), new UserPrefs());
+
+    @Test
+    public void execute_tagOfPolicy_policyFound() {
+        String expectedMessage = String.format(MESSAGE_POLICIES_LISTED_OVERVIEW, 1);
+        FindPolicyTagCommand command = new FindPolicyTagCommand(
+                SampleDataUtil.getTagSet(VALID_TAG_TERM_INSURANCE.toUpperCase(), "AIA"), TagMatchMode.ANY);
+        expectedModel.updateFilteredPolicyList(CRITICAL_ILLNESS::equals);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(CRITICAL_ILLNESS), model.getFilteredPolicyList());
+    }
+
+    @Test
+    public void execute_allOfTagsNotOnAnyPolicy_noPolicyFound() {
+        FindPolicyTagCommand command = new FindPolicyTagCommand(
+                SampleDataUtil.getTagSet(VALID_TAG_TERM_INSURANCE, "AIA"), TagMatchMode.ALL);
+        expectedModel.updateFilteredPolicyList(policy -> false);
+        assertCommandSuccess(command, model, MESSAGE_POLICIES_LIST_EMPTY, expectedModel);
+    }
+}
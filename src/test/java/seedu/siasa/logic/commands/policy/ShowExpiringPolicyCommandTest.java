@@ -0,0 +1,85 @@
+package seedu.siasa.logic.commands.policy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.siasa.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.siasa.testutil.TypicalPolicies.CRITICAL_ILLNESS;
+import static seedu.siasa.testutil.TypicalPolicies.FULL_LIFE;
+import static seedu.siasa.testutil.TypicalSiasa.getTypicalSiasa;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.siasa.model.Model;
+import seedu.siasa.model.ModelManager;
+import seedu.siasa.model.UserPrefs;
+import seedu.siasa.model.policy.ExpiryWindow;
+
+/**
+ * Contains integration tests (interaction with the Model) for ShowExpiringPolicyCommand
+ * and ShowExpiringPolicySummaryCommand.
+ */
+public class ShowExpiringPolicyCommandTest {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalSiasa(), new UserPrefs());
+        expectedModel = new ModelManager(model.getSiasa(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_defaultWindow_showsPoliciesExpiringWithinAMonth() {
+        ShowExpiringPolicyCommand command =
+                new ShowExpiringPolicyCommand(ExpiryWindow.DEFAULT_WINDOW, clockAt(LocalDate.of(2021, 11, 12)));
+        expectedModel.updateFilteredPolicyList(policy -> true);
+        assertCommandSuccess(command, model,
+                String.format(ShowExpiringPolicyCommand.MESSAGE_SUCCESS, ExpiryWindow.DEFAULT_WINDOW), expectedModel);
+        assertEquals(Arrays.asList(CRITICAL_ILLNESS, FULL_LIFE), model.getFilteredPolicyList());
+    }
+
+    @Test
+    public void execute_windowOfDays_excludesPoliciesExpiringAfterWindow() {
+        ExpiryWindow window = new ExpiryWindow("29d");
+        ShowExpiringPolicyCommand command = new ShowExpiringPolicyCommand(window, clockAt(LocalDate.of(2021, 11, 12)));
+        expectedModel.updateFilteredPolicyList(policy -> policy.equals(CRITICAL_ILLNESS));
+        assertCommandSuccess(command, model, String.format(ShowExpiringPolicyCommand.MESSAGE_SUCCESS, window),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noPoliciesInWindow_showsNoPoliciesMessage() {
+        ShowExpiringPolicyCommand command =
+                new ShowExpiringPolicyCommand(ExpiryWindow.DEFAULT_WINDOW, clockAt(LocalDate.of(2021, 1, 1)));
+        expectedModel.updateFilteredPolicyList(policy -> false);
+        assertCommandSuccess(command, model,
+                String.format(ShowExpiringPolicyCommand.MESSAGE_NO_POLICIES, ExpiryWindow.DEFAULT_WINDOW),
+                expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPolicyList());
+    }
+
+    @Test
+    public void executeSummary_policiesInWindow_countsPolicies() {
+        assertCommandSuccess(new ShowExpiringPolicySummaryCommand(ExpiryWindow.DEFAULT_WINDOW,
+                clockAt(LocalDate.of(2021, 11, 12))), model,
+                "There are 2 policies that are expired or expiring in 1 month\n"
+                        + "Use the expiringpolicy command to see more", expectedModel);
+        assertCommandSuccess(new ShowExpiringPolicySummaryCommand(new ExpiryWindow("2d"),
+                clockAt(LocalDate.of(2021, 3, 1))), model,
+                "There are no policies that are expired or expiring in 2 days\n"
+                        + "Use the expiringpolicy command to see more", expectedModel);
+    }
+
+    private static Clock clockAt(LocalDate date) {
+        return Clock.fixed(date.atStartOfDay(ZONE).toInstant(), ZONE);
+    }
+}
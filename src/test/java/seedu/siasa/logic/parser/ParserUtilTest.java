@@ -3,6 +3,7 @@ package seedu.siasa.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.siasa.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.siasa.logic.parser.ParserUtil.MESSAGE_INVALID_LIMIT;
 import static seedu.siasa.testutil.Assert.assertThrows;
 import static seedu.siasa.testutil.TypicalIndexes.INDEX_FIRST_CONTACT;
 
@@ -56,6 +57,17 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_CONTACT, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseLimit_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_LIMIT, () -> ParserUtil.parseLimit("0"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_LIMIT, () -> ParserUtil.parseLimit("five"));
+    }
+
+    @Test
+    public void parseLimit_validInput_success() throws Exception {
+        assertEquals(50, ParserUtil.parseLimit(" 50 "));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -20,16 +20,20 @@ import seedu.siasa.logic.commands.ClearCommand;
 import seedu.siasa.logic.commands.DownloadCommand;
 import seedu.siasa.logic.commands.ExitCommand;
 import seedu.siasa.logic.commands.HelpCommand;
+import seedu.siasa.logic.commands.RedoCommand;
+import seedu.siasa.logic.commands.UndoCommand;
 import seedu.siasa.logic.commands.contact.AddContactCommand;
 import seedu.siasa.logic.commands.contact.ClearContactPolicyCommand;
 import seedu.siasa.logic.commands.contact.DeleteContactCommand;
 import seedu.siasa.logic.commands.contact.EditContactCommand;
 import seedu.siasa.logic.commands.contact.EditContactCommand.EditContactDescriptor;
 import seedu.siasa.logic.commands.contact.FindContactCommand;
+import seedu.siasa.logic.commands.contact.FindContactTagCommand;
 import seedu.siasa.logic.commands.contact.ListContactCommand;
 import seedu.siasa.logic.commands.contact.ListContactPolicyCommand;
 import seedu.siasa.logic.commands.contact.SortContactCommand;
 import seedu.siasa.logic.commands.policy.DeletePolicyCommand;
+import seedu.siasa.logic.commands.policy.FindPolicyTagCommand;
 import seedu.siasa.logic.commands.policy.ListPolicyCommand;
 import seedu.siasa.logic.commands.policy.ShowExpiringPolicyCommand;
 import seedu.siasa.logic.commands.policy.ShowExpiringPolicySummaryCommand;
@@ -37,6 +41,8 @@ import seedu.siasa.logic.commands.policy.SortPolicyCommand;
 import seedu.siasa.logic.parser.exceptions.ParseException;
 import seedu.siasa.model.contact.Contact;
 import seedu.siasa.model.contact.NameContainsKeywordsPredicate;
+import seedu.siasa.model.tag.TagMatchMode;
+import seedu.siasa.model.util.SampleDataUtil;
 import seedu.siasa.testutil.ContactBuilder;
 import seedu.siasa.testutil.ContactUtil;
 import seedu.siasa.testutil.EditContactDescriptorBuilder;
@@ -52,6 +58,18 @@ public class SiasaParserTest {
         assertEquals(new AddContactCommand(contact), command);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_clear() throws Exception {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD) instanceof ClearCommand);
@@ -101,6 +119,14 @@ public class SiasaParserTest {
         assertEquals(new FindContactCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findTag() throws Exception {
+        assertEquals(new FindContactTagCommand(SampleDataUtil.getTagSet("friends"), TagMatchMode.ANY),
+                parser.parseCommand(FindContactTagCommand.COMMAND_WORD + " t/friends"));
+        assertEquals(new FindPolicyTagCommand(SampleDataUtil.getTagSet("AIA", "life"), TagMatchMode.ALL),
+                parser.parseCommand(FindPolicyTagCommand.COMMAND_WORD + " t/AIA t/life m/all"));
+    }
+
     @Test
     public void parseCommand_contactPolicy() throws Exception {
         ListContactPolicyCommand command = (ListContactPolicyCommand) parser.parseCommand(
@@ -0,0 +1,42 @@
+package seedu.siasa.logic.parser.contact;
+
+import static seedu.siasa.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.siasa.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.siasa.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.siasa.logic.commands.contact.FindContactTagCommand;
+import seedu.siasa.model.tag.Tag;
+import seedu.siasa.model.tag.TagMatchMode;
+import seedu.siasa.model.util.SampleDataUtil;
+
+public class FindContactTagCommandParserTest {
+
+    private FindContactTagCommandParser parser = new FindContactTagCommandParser();
+
+    @Test
+    public void parse_noTags_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindContactTagCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " friends",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindContactTagCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " t/friends m/some", TagMatchMode.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/friends*", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindContactTagCommand() {
+        // no mode -> any
+        assertParseSuccess(parser, " t/friends t/owesMoney",
+                new FindContactTagCommand(SampleDataUtil.getTagSet("friends", "owesMoney"), TagMatchMode.ANY));
+
+        // mode given, case insensitive
+        assertParseSuccess(parser, " t/friends m/ALL t/owesMoney",
+                new FindContactTagCommand(SampleDataUtil.getTagSet("friends", "owesMoney"), TagMatchMode.ALL));
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.siasa.logic.parser.contact;
+
+import static seedu.siasa.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.siasa.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.siasa.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.siasa.model.contact.PersonComparator.CONTACT_SORT_BY_ALPHA_ASC;
+import static seedu.siasa.model.contact.PersonComparator.CONTACT_SORT_BY_ALPHA_DESC;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.siasa.logic.commands.contact.SortContactCommand;
+import seedu.siasa.logic.parser.ParserUtil;
+
+public class SortContactCommandParserTest {
+
+    private SortContactCommandParser parser = new SortContactCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortContactCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortContactCommand() {
+        assertParseSuccess(parser, " asc ", new SortContactCommand(CONTACT_SORT_BY_ALPHA_ASC));
+        assertParseSuccess(parser, " dsc top/10", new SortContactCommand(CONTACT_SORT_BY_ALPHA_DESC, Optional.of(10)));
+    }
+
+    @Test
+    public void parse_unknownOrder_returnsNoSuchComparatorCommand() {
+        assertParseSuccess(parser, " up", new SortContactCommand());
+    }
+
+    @Test
+    public void parse_invalidTop_throwsParseException() {
+        assertParseFailure(parser, " asc top/-3", ParserUtil.MESSAGE_INVALID_LIMIT);
+    }
+}
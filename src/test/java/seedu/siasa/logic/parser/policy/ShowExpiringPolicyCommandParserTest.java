@@ -0,0 +1,32 @@
+package seedu.siasa.logic.parser.policy;
+
+import static seedu.siasa.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.siasa.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.siasa.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.siasa.logic.commands.policy.ShowExpiringPolicyCommand;
+import seedu.siasa.model.policy.ExpiryWindow;
+
+public class ShowExpiringPolicyCommandParserTest {
+
+    private ShowExpiringPolicyCommandParser parser = new ShowExpiringPolicyCommandParser();
+
+    @Test
+    public void parse_emptyArg_returnsDefaultWindowCommand() {
+        assertParseSuccess(parser, "  ", new ShowExpiringPolicyCommand());
+    }
+
+    @Test
+    public void parse_validArgs_returnsShowExpiringPolicyCommand() {
+        assertParseSuccess(parser, " 14d ", new ShowExpiringPolicyCommand(new ExpiryWindow("14d")));
+        assertParseSuccess(parser, "3", new ShowExpiringPolicyCommand(new ExpiryWindow("3m")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "soon",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ShowExpiringPolicyCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.siasa.logic.parser.policy;
+
+import static seedu.siasa.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.siasa.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.siasa.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.siasa.model.policy.PolicyComparator.POLICY_SORT_BY_COMMISSION_DSC;
+import static seedu.siasa.model.policy.PolicyComparator.POLICY_SORT_BY_EXPIRY_ASC;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.siasa.logic.commands.policy.SortPolicyCommand;
+import seedu.siasa.logic.parser.ParserUtil;
+
+public class SortPolicyCommandParserTest {
+
+    private SortPolicyCommandParser parser = new SortPolicyCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortPolicyCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " top/5",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortPolicyCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_singleSortingMethod_returnsSortPolicyCommand() {
+        assertParseSuccess(parser, " commdsc ", new SortPolicyCommand(POLICY_SORT_BY_COMMISSION_DSC));
+    }
+
+    @Test
+    public void parse_chainedSortingMethodsAndTop_returnsSortPolicyCommand() {
+        assertParseSuccess(parser, " expiryasc  commdsc top/50", new SortPolicyCommand(
+                List.of(POLICY_SORT_BY_EXPIRY_ASC, POLICY_SORT_BY_COMMISSION_DSC), Optional.of(50)));
+    }
+
+    @Test
+    public void parse_unknownSortingMethod_returnsNoSuchComparatorCommand() {
+        assertParseSuccess(parser, " expiryasc soonest", new SortPolicyCommand());
+    }
+
+    @Test
+    public void parse_invalidTop_throwsParseException() {
+        assertParseFailure(parser, " commdsc top/0", ParserUtil.MESSAGE_INVALID_LIMIT);
+        assertParseFailure(parser, " commdsc top/many", ParserUtil.MESSAGE_INVALID_LIMIT);
+    }
+}
@@ -3,19 +3,32 @@ package seedu.siasa.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.siasa.model.contact.PersonComparator.CONTACT_SORT_BY_ALPHA_ASC;
+import static seedu.siasa.model.contact.PersonComparator.CONTACT_SORT_BY_ALPHA_DESC;
+import static seedu.siasa.model.policy.PolicyComparator.POLICY_SORT_BY_ALPHA_ASC;
 import static seedu.siasa.testutil.Assert.assertThrows;
 import static seedu.siasa.testutil.TypicalContacts.ALICE;
+import static seedu.siasa.testutil.TypicalContacts.BENSON;
+import static seedu.siasa.testutil.TypicalContacts.FIONA;
+import static seedu.siasa.testutil.TypicalContacts.GEORGE;
+import static seedu.siasa.testutil.TypicalContacts.getTypicalContacts;
+import static seedu.siasa.testutil.TypicalPolicies.CRITICAL_ILLNESS;
 import static seedu.siasa.testutil.TypicalPolicies.FULL_LIFE;
 import static seedu.siasa.testutil.TypicalSiasa.getTypicalSiasa;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.siasa.commons.core.GuiSettings;
 import seedu.siasa.model.contact.NameContainsKeywordsPredicate;
+import seedu.siasa.model.contact.exceptions.DuplicateContactException;
+import seedu.siasa.model.policy.Policy;
+import seedu.siasa.testutil.ContactBuilder;
+import seedu.siasa.testutil.PolicyBuilder;
 
 public class ModelManagerTest {
 
@@ -116,6 +129,88 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPolicyList().remove(0));
     }
 
+    @Test
+    public void updateFilteredContactList_limit_showsFirstContacts() {
+        modelManager = new ModelManager(getTypicalSiasa(), new UserPrefs());
+
+        modelManager.updateFilteredContactList(CONTACT_SORT_BY_ALPHA_DESC, 2);
+        assertEquals(Arrays.asList(GEORGE, FIONA), modelManager.getFilteredContactList());
+
+        // filtered contacts -> only ranks the contacts passing the filter
+        modelManager.updateFilteredContactList(contact -> contact.getName().fullName.endsWith("Meier"));
+        modelManager.updateFilteredContactList(CONTACT_SORT_BY_ALPHA_ASC, 1);
+        assertEquals(List.of(BENSON), modelManager.getFilteredContactList());
+
+        // limit above number of contacts -> shows all of them
+        modelManager.removeAllFilters();
+        modelManager.updateFilteredContactList(CONTACT_SORT_BY_ALPHA_ASC, 100);
+        assertEquals(getTypicalContacts().size(), modelManager.getFilteredContactList().size());
+    }
+
+    @Test
+    public void updateFilteredContactList_comparatorAfterLimit_showsAllContacts() {
+        modelManager = new ModelManager(getTypicalSiasa(), new UserPrefs());
+        modelManager.updateFilteredContactList(CONTACT_SORT_BY_ALPHA_DESC, 2);
+
+        modelManager.updateFilteredContactList(CONTACT_SORT_BY_ALPHA_ASC);
+        assertEquals(getTypicalContacts(), modelManager.getFilteredContactList());
+    }
+
+    @Test
+    public void updateFilteredContactList_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                modelManager.updateFilteredContactList(CONTACT_SORT_BY_ALPHA_ASC, 0));
+    }
+
+    @Test
+    public void updateFilteredPolicyList_limitThenPolicyEdited_keepsShowingPolicy() {
+        modelManager = new ModelManager(getTypicalSiasa(), new UserPrefs());
+        modelManager.updateFilteredPolicyList(POLICY_SORT_BY_ALPHA_ASC, 1);
+        assertEquals(List.of(CRITICAL_ILLNESS), modelManager.getFilteredPolicyList());
+
+        Policy editedPolicy = new PolicyBuilder(CRITICAL_ILLNESS).withCommission(5, 1).build();
+        modelManager.setPolicy(CRITICAL_ILLNESS, editedPolicy);
+        assertEquals(List.of(editedPolicy), modelManager.getFilteredPolicyList());
+
+        // policy added -> shows all policies again
+        modelManager.addPolicy(new PolicyBuilder(ALICE).withTitle("Zzz").build());
+        assertEquals(3, modelManager.getFilteredPolicyList().size());
+    }
+
+    @Test
+    public void takeAppliedChanges_commandsUndoneAndRedone_makeSameChangesToCopy() {
+        modelManager.setSiasa(getTypicalSiasa());
+        modelManager.commitChanges();
+        Siasa copy = new Siasa();
+        modelManager.takeAppliedChanges().forEach(change -> change.apply(copy));
+
+        modelManager.deleteContact(ALICE);
+        modelManager.commitChanges();
+        modelManager.setContact(BENSON, new ContactBuilder(BENSON).withPhone("999").build());
+        modelManager.commitChanges();
+        modelManager.undo();
+        modelManager.undo();
+        modelManager.redo();
+        modelManager.takeAppliedChanges().forEach(change -> change.apply(copy));
+
+        assertEquals(modelManager.getSiasa(), copy);
+        assertTrue(modelManager.takeAppliedChanges().isEmpty());
+    }
+
+    @Test
+    public void applyBatch_aborted_changesNotApplied() {
+        modelManager.addContact(ALICE);
+        modelManager.commitChanges();
+        modelManager.takeAppliedChanges();
+
+        assertThrows(DuplicateContactException.class, () -> modelManager.applyBatch(() -> {
+            modelManager.addContact(BENSON);
+            modelManager.addContact(ALICE);
+        }));
+        modelManager.commitChanges();
+        assertTrue(modelManager.takeAppliedChanges().isEmpty());
+    }
+
     @Test
     public void equals() {
         Siasa siasa = getTypicalSiasa();
@@ -2,6 +2,8 @@ package seedu.siasa.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.siasa.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.siasa.logic.commands.CommandTestUtil.VALID_POLICY_COMMISSION_PERCENTAGE_CRITICAL;
@@ -10,9 +12,12 @@ import static seedu.siasa.logic.commands.CommandTestUtil.VALID_POLICY_PAYMENT_AM
 import static seedu.siasa.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.siasa.testutil.Assert.assertThrows;
 import static seedu.siasa.testutil.TypicalContacts.ALICE;
+import static seedu.siasa.testutil.TypicalContacts.BOB;
+import static seedu.siasa.testutil.TypicalPolicies.CRITICAL_ILLNESS;
 import static seedu.siasa.testutil.TypicalPolicies.FULL_LIFE;
 import static seedu.siasa.testutil.TypicalSiasa.getTypicalSiasa;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -21,6 +26,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.siasa.model.contact.Contact;
 import seedu.siasa.model.contact.exceptions.DuplicateContactException;
@@ -132,6 +138,215 @@ public class SiasaTest {
         assertTrue(siasa.hasPolicy(editedFullLife));
     }
 
+    @Test
+    public void setContact_contactWithPolicies_policiesResolveToEditedContact() {
+        siasa.addContact(ALICE);
+        siasa.addPolicy(FULL_LIFE);
+        siasa.addPolicy(CRITICAL_ILLNESS);
+        List<Policy> policiesBeforeEdit = new ArrayList<>(siasa.getPolicyList());
+
+        Contact editedAlice = new ContactBuilder(ALICE).withName(ALICE.getName().fullName + " Sr").build();
+        siasa.setContact(ALICE, editedAlice);
+
+        // the policies are not replaced, but show the edited owner
+        assertEquals(policiesBeforeEdit.size(), siasa.getPolicyList().size());
+        for (int i = 0; i < policiesBeforeEdit.size(); i++) {
+            assertSame(policiesBeforeEdit.get(i), siasa.getPolicyList().get(i));
+            assertEquals(editedAlice, siasa.getPolicyList().get(i).getOwner());
+        }
+        assertEquals(policiesBeforeEdit, siasa.getPoliciesBelongingTo(editedAlice));
+        assertEquals(Collections.singletonMap(editedAlice, 2), siasa.getNumberPoliciesPerContact());
+        assertTrue(siasa.hasPolicy(new PolicyBuilder(FULL_LIFE).withOwner(editedAlice).build()));
+    }
+
+    @Test
+    public void setContact_editedContactWithDifferentId_keepsIdOfTarget() {
+        siasa.addContact(ALICE);
+        Contact editedAlice = new ContactBuilder().withName(ALICE.getName().fullName).build();
+        siasa.setContact(ALICE, editedAlice);
+
+        assertEquals(ALICE.getId(), siasa.getContactList().get(0).getId());
+        assertEquals(editedAlice, siasa.getContactList().get(0));
+    }
+
+    @Test
+    public void applyBatch_multipleChanges_notifiesOncePerList() {
+        siasa.addContact(ALICE);
+        int[] contactChanges = new int[1];
+        int[] policyChanges = new int[1];
+        siasa.getContactList().addListener((ListChangeListener<Contact>) change -> contactChanges[0]++);
+        siasa.getPolicyList().addListener((ListChangeListener<Policy>) change -> policyChanges[0]++);
+
+        Contact editedAlice = new ContactBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        siasa.applyBatch(() -> {
+            siasa.addPolicy(FULL_LIFE);
+            siasa.addPolicy(CRITICAL_ILLNESS);
+            siasa.removePolicy(FULL_LIFE);
+            siasa.setContact(ALICE, editedAlice);
+            // changes are visible to queries within the batch, but not yet published
+            assertTrue(siasa.hasPolicy(CRITICAL_ILLNESS));
+            assertEquals(0, policyChanges[0]);
+        });
+
+        assertEquals(1, contactChanges[0]);
+        assertEquals(1, policyChanges[0]);
+        assertEquals(Collections.singletonList(editedAlice), siasa.getContactList());
+        assertEquals(Collections.singletonList(CRITICAL_ILLNESS), siasa.getPolicyList());
+        assertEquals(editedAlice, siasa.getPolicyList().get(0).getOwner());
+    }
+
+    @Test
+    public void removeContactAndAssociatedPolicies_severalPolicies_notifiesOncePerList() {
+        Policy policyOfBob = new PolicyBuilder(FULL_LIFE).withOwner(BOB).build();
+        siasa.addContact(ALICE);
+        siasa.addContact(BOB);
+        siasa.addPolicy(FULL_LIFE);
+        siasa.addPolicy(policyOfBob);
+        siasa.addPolicy(CRITICAL_ILLNESS);
+        int[] contactChanges = new int[1];
+        int[] policyChanges = new int[1];
+        siasa.getContactList().addListener((ListChangeListener<Contact>) change -> contactChanges[0]++);
+        siasa.getPolicyList().addListener((ListChangeListener<Policy>) change -> policyChanges[0]++);
+
+        siasa.removeContactAndAssociatedPolicies(ALICE);
+        assertEquals(1, contactChanges[0]);
+        assertEquals(1, policyChanges[0]);
+        assertEquals(Collections.singletonList(policyOfBob), siasa.getPolicyList());
+
+        siasa.removePoliciesBelongingTo(BOB);
+        assertEquals(2, policyChanges[0]);
+        assertEquals(Collections.emptyList(), siasa.getPolicyList());
+    }
+
+    @Test
+    public void applyBatch_noChanges_doesNotNotify() {
+        int[] policyChanges = new int[1];
+        siasa.getPolicyList().addListener((ListChangeListener<Policy>) change -> policyChanges[0]++);
+        siasa.applyBatch(() -> {});
+        assertEquals(0, policyChanges[0]);
+    }
+
+    @Test
+    public void applyBatch_changesThrow_discardsAllChanges() {
+        siasa.addContact(ALICE);
+        siasa.addPolicy(FULL_LIFE);
+        Siasa expectedSiasa = new Siasa(siasa);
+
+        Contact editedAlice = new ContactBuilder(ALICE).withName(ALICE.getName().fullName + " Sr").build();
+        assertThrows(DuplicatePolicyException.class, () -> siasa.applyBatch(() -> {
+            siasa.setContact(ALICE, editedAlice);
+            siasa.addPolicy(CRITICAL_ILLNESS);
+            siasa.addPolicy(CRITICAL_ILLNESS);
+        }));
+
+        assertEquals(expectedSiasa, siasa);
+        assertFalse(siasa.hasPolicy(CRITICAL_ILLNESS));
+        assertEquals(ALICE, siasa.getPolicyList().get(0).getOwner());
+    }
+
+    @Test
+    public void applyBatch_contactRemovedThenThrows_policiesFollowLaterEdits() {
+        siasa.addContact(ALICE);
+        siasa.addPolicy(FULL_LIFE);
+
+        assertThrows(DuplicateContactException.class, () -> siasa.applyBatch(() -> {
+            siasa.removeContactAndAssociatedPolicies(ALICE);
+            siasa.addContact(BOB);
+            siasa.addContact(BOB);
+        }));
+        Contact editedAlice = new ContactBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        siasa.setContact(ALICE, editedAlice);
+
+        assertEquals(Collections.singletonList(FULL_LIFE), siasa.getPolicyList());
+        assertEquals(editedAlice, siasa.getPolicyList().get(0).getOwner());
+    }
+
+    @Test
+    public void getSnapshot_laterChanges_snapshotUnchanged() {
+        siasa.addContact(ALICE);
+        siasa.addPolicy(FULL_LIFE);
+        ReadOnlySiasa snapshot = siasa.getSnapshot();
+
+        Contact editedAlice = new ContactBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        siasa.setContact(ALICE, editedAlice);
+        siasa.addPolicy(CRITICAL_ILLNESS);
+        siasa.addContact(BOB);
+
+        assertEquals(Collections.singletonList(ALICE), snapshot.getContactList());
+        assertEquals(Collections.singletonList(FULL_LIFE), snapshot.getPolicyList());
+        // the policy owner resolves to the contact as it was when the snapshot was taken
+        assertEquals(ALICE, snapshot.getPolicyList().get(0).getOwner());
+        assertEquals(editedAlice, siasa.getPolicyList().get(0).getOwner());
+    }
+
+    @Test
+    public void getSnapshot_sameContents_equalSiasa() {
+        siasa.addContact(ALICE);
+        siasa.addPolicy(FULL_LIFE);
+        siasa.addPolicy(CRITICAL_ILLNESS);
+        siasa.removePolicy(FULL_LIFE);
+
+        assertEquals(siasa, new Siasa(siasa.getSnapshot()));
+    }
+
+    @Test
+    public void getSnapshot_abortedBatch_batchChangesDiscarded() {
+        siasa.addContact(ALICE);
+        assertThrows(DuplicatePolicyException.class, () -> siasa.applyBatch(() -> {
+            siasa.addPolicy(FULL_LIFE);
+            siasa.addPolicy(FULL_LIFE);
+        }));
+
+        assertEquals(Collections.singletonList(ALICE), siasa.getSnapshot().getContactList());
+        assertTrue(siasa.getSnapshot().getPolicyList().isEmpty());
+    }
+
+    @Test
+    public void getVersion_afterChange_changes() {
+        long version = siasa.getVersion();
+        siasa.addContact(ALICE);
+        assertNotEquals(version, siasa.getVersion());
+
+        version = siasa.getVersion();
+        siasa.addPolicy(FULL_LIFE);
+        assertNotEquals(version, siasa.getVersion());
+
+        version = siasa.getVersion();
+        siasa.setContact(ALICE, new ContactBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertNotEquals(version, siasa.getVersion());
+
+        version = siasa.getVersion();
+        siasa.resetData(getTypicalSiasa());
+        assertNotEquals(version, siasa.getVersion());
+    }
+
+    @Test
+    public void getVersion_removePoliciesOfContactWithoutPolicies_unchanged() {
+        siasa.addContact(ALICE);
+        siasa.addContact(BOB);
+        siasa.addPolicy(FULL_LIFE);
+        long version = siasa.getVersion();
+
+        siasa.removePoliciesBelongingTo(BOB);
+        assertEquals(version, siasa.getVersion());
+
+        siasa.removePoliciesBelongingTo(ALICE);
+        assertNotEquals(version, siasa.getVersion());
+    }
+
+    @Test
+    public void getVersion_afterQueries_unchanged() {
+        siasa.addContact(ALICE);
+        siasa.addPolicy(FULL_LIFE);
+        long version = siasa.getVersion();
+
+        siasa.hasContact(BOB);
+        siasa.getPoliciesBelongingTo(ALICE);
+        siasa.getCommissionPerContact();
+        siasa.getSnapshot();
+        assertEquals(version, siasa.getVersion());
+    }
+
     /**
      * A stub ReadOnlySiasa whose persons list can violate interface constraints.
      */
@@ -0,0 +1,51 @@
+package seedu.siasa.model.contact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.siasa.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ContactIdTest {
+
+    private static final String VALID_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ContactId(null));
+    }
+
+    @Test
+    public void constructor_invalidContactId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ContactId("1"));
+    }
+
+    @Test
+    public void isValidContactId() {
+        // null id
+        assertThrows(NullPointerException.class, () -> ContactId.isValidContactId(null));
+
+        // invalid ids
+        assertFalse(ContactId.isValidContactId("")); // empty string
+        assertFalse(ContactId.isValidContactId("123e4567e89b12d3a456426614174000")); // no dashes
+        assertFalse(ContactId.isValidContactId("123e4567-e89b-12d3-a456-42661417400g")); // non hex digit
+
+        // valid ids
+        assertTrue(ContactId.isValidContactId(VALID_ID));
+        assertTrue(ContactId.isValidContactId(VALID_ID.toUpperCase()));
+    }
+
+    @Test
+    public void equals() {
+        ContactId id = new ContactId(VALID_ID);
+
+        // same value, different case -> returns true
+        assertEquals(id, new ContactId(VALID_ID.toUpperCase()));
+
+        // generated ids -> returns false
+        assertNotEquals(ContactId.generate(), ContactId.generate());
+        assertNotEquals(id, ContactId.generate());
+    }
+}
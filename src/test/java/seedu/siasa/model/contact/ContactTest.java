@@ -1,5 +1,6 @@
 package seedu.siasa.model.contact;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.siasa.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
@@ -88,4 +89,13 @@ public class ContactTest {
         editedAlice = new ContactBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
         assertFalse(ALICE.equals(editedAlice));
     }
+
+    @Test
+    public void hashCode_equalContacts_sameHashCode() {
+        Contact aliceCopy = ALICE.withId(ContactId.generate());
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+
+        Contact editedAlice = new ContactBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertFalse(ALICE.equals(editedAlice));
+    }
 }
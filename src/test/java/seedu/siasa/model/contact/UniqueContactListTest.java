@@ -7,16 +7,21 @@ import static seedu.siasa.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.siasa.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.siasa.testutil.Assert.assertThrows;
 import static seedu.siasa.testutil.TypicalContacts.ALICE;
+import static seedu.siasa.testutil.TypicalContacts.BENSON;
 import static seedu.siasa.testutil.TypicalContacts.BOB;
+import static seedu.siasa.testutil.TypicalContacts.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.siasa.model.contact.exceptions.ContactNotFoundException;
 import seedu.siasa.model.contact.exceptions.DuplicateContactException;
+import seedu.siasa.model.tag.Tag;
+import seedu.siasa.model.tag.TagMatchMode;
 import seedu.siasa.testutil.ContactBuilder;
 
 public class UniqueContactListTest {
@@ -102,6 +107,23 @@ public class UniqueContactListTest {
         assertEquals(expectedUniqueContactList, uniqueContactList);
     }
 
+    @Test
+    public void setContact_editedContactHasDifferentIdentity_updatesIdentityLookup() {
+        uniqueContactList.add(ALICE);
+        uniqueContactList.setContact(ALICE, BOB);
+        assertFalse(uniqueContactList.contains(ALICE));
+        assertTrue(uniqueContactList.contains(BOB));
+        uniqueContactList.add(ALICE);
+        assertEquals(Arrays.asList(BOB, ALICE), uniqueContactList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setContact_targetWithSameIdentityButDifferentFields_throwsContactNotFoundException() {
+        uniqueContactList.add(ALICE);
+        Contact editedAlice = new ContactBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(ContactNotFoundException.class, () -> uniqueContactList.setContact(editedAlice, BOB));
+    }
+
     @Test
     public void setContact_editedContactHasNonUniqueIdentity_throwsDuplicateContactException() {
         uniqueContactList.add(ALICE);
@@ -127,6 +149,27 @@ public class UniqueContactListTest {
         assertEquals(expectedUniqueContactList, uniqueContactList);
     }
 
+    @Test
+    public void remove_contactWithSameIdentityButDifferentFields_throwsContactNotFoundException() {
+        uniqueContactList.add(ALICE);
+        Contact editedAlice = new ContactBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(ContactNotFoundException.class, () -> uniqueContactList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_contactInMiddleOfList_keepsOrderOfRemainingContacts() {
+        uniqueContactList.add(ALICE);
+        uniqueContactList.add(BENSON);
+        uniqueContactList.add(CARL);
+        uniqueContactList.remove(BENSON);
+        assertFalse(uniqueContactList.contains(BENSON));
+
+        // contacts after the removed one must still be found at their new positions
+        uniqueContactList.setContact(CARL, BOB);
+        uniqueContactList.remove(ALICE);
+        assertEquals(Collections.singletonList(BOB), uniqueContactList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setContacts_nullUniqueContactList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueContactList.setContacts((UniqueContactList) null));
@@ -162,6 +205,40 @@ public class UniqueContactListTest {
         assertThrows(DuplicateContactException.class, () -> uniqueContactList.setContacts(listWithDuplicateContacts));
     }
 
+    @Test
+    public void getContactsWithNameContainingAny_keywords_returnsContactsWithWholeWordMatches() {
+        uniqueContactList.add(ALICE);
+        uniqueContactList.add(BENSON);
+        uniqueContactList.add(CARL);
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, CARL)),
+                uniqueContactList.getContactsWithNameContainingAny(Arrays.asList("aLiCe", "KURZ", "Ben")));
+
+        Contact renamedBenson = new ContactBuilder(BENSON).withName("Benson Kurz").build();
+        uniqueContactList.setContact(BENSON, renamedBenson);
+        uniqueContactList.remove(CARL);
+        assertEquals(Collections.singleton(renamedBenson),
+                uniqueContactList.getContactsWithNameContainingAny(Collections.singletonList("kurz")));
+        assertEquals(Collections.emptySet(),
+                uniqueContactList.getContactsWithNameContainingAny(Collections.singletonList("meier")));
+    }
+
+    @Test
+    public void getContactsWithTags_tags_returnsContactsMatchingMode() {
+        uniqueContactList.add(ALICE);
+        uniqueContactList.add(BENSON);
+        uniqueContactList.add(CARL);
+        List<Tag> tags = Arrays.asList(new Tag("FRIENDS"), new Tag("owesMoney"));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)),
+                uniqueContactList.getContactsWithTags(tags, TagMatchMode.ANY));
+        assertEquals(Collections.singleton(BENSON), uniqueContactList.getContactsWithTags(tags, TagMatchMode.ALL));
+
+        Contact retaggedCarl = new ContactBuilder(CARL).withTags("owesMoney", "friends").build();
+        uniqueContactList.setContact(CARL, retaggedCarl);
+        uniqueContactList.remove(BENSON);
+        assertEquals(Collections.singleton(retaggedCarl),
+                uniqueContactList.getContactsWithTags(tags, TagMatchMode.ALL));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
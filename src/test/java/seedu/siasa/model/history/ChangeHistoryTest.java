@@ -0,0 +1,105 @@
+package seedu.siasa.model.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.siasa.testutil.TypicalContacts.ALICE;
+import static seedu.siasa.testutil.TypicalContacts.BENSON;
+import static seedu.siasa.testutil.TypicalContacts.CARL;
+import static seedu.siasa.testutil.TypicalPolicies.FULL_LIFE;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.siasa.model.Siasa;
+import seedu.siasa.model.contact.Contact;
+
+public class ChangeHistoryTest {
+
+    private final Siasa siasa = new Siasa();
+
+    @Test
+    public void record_noChanges_nothingToUndo() {
+        ChangeHistory history = new ChangeHistory(5);
+        history.record(Collections.emptyList());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void record_zeroCapacity_nothingToUndo() {
+        ChangeHistory history = new ChangeHistory(0);
+        history.record(Collections.singletonList(Change.contactAdded(siasa.addContact(ALICE))));
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undo_step_revertsAllChangesOfStep() {
+        ChangeHistory history = new ChangeHistory(5);
+        Contact alice = siasa.addContact(ALICE);
+        history.record(Arrays.asList(Change.contactAdded(alice), Change.policyAdded(siasa.addPolicy(FULL_LIFE))));
+
+        history.undo(siasa);
+        assertEquals(new Siasa(), siasa);
+        assertFalse(history.canUndo());
+        assertTrue(history.canRedo());
+
+        history.redo(siasa);
+        assertTrue(siasa.hasContact(ALICE));
+        assertTrue(siasa.hasPolicy(FULL_LIFE));
+        assertEquals(alice.getId(), siasa.getPolicyList().get(0).getOwnerId());
+    }
+
+    @Test
+    public void record_full_oldestStepDropped() {
+        ChangeHistory history = new ChangeHistory(2);
+        history.record(Collections.singletonList(Change.contactAdded(siasa.addContact(ALICE))));
+        history.record(Collections.singletonList(Change.contactAdded(siasa.addContact(BENSON))));
+        history.record(Collections.singletonList(Change.contactAdded(siasa.addContact(CARL))));
+
+        history.undo(siasa);
+        history.undo(siasa);
+        assertFalse(history.canUndo());
+        assertEquals(Collections.singletonList(ALICE), siasa.getContactList());
+    }
+
+    @Test
+    public void record_afterUndo_nothingToRedo() {
+        ChangeHistory history = new ChangeHistory(2);
+        history.record(Collections.singletonList(Change.contactAdded(siasa.addContact(ALICE))));
+        history.undo(siasa);
+
+        history.record(Collections.singletonList(Change.contactAdded(siasa.addContact(BENSON))));
+        assertFalse(history.canRedo());
+        assertTrue(history.canUndo());
+    }
+
+    @Test
+    public void undoAndRedo_returnedChanges_makeSameChangesToCopy() {
+        ChangeHistory history = new ChangeHistory(5);
+        siasa.addContact(ALICE);
+        siasa.addContact(BENSON);
+        Siasa copy = new Siasa(siasa);
+        int index = siasa.indexOfContact(ALICE);
+        history.record(Collections.singletonList(
+                Change.contactRemoved(siasa.removeContactAndAssociatedPolicies(ALICE), index)));
+        history.record(Collections.singletonList(Change.contactAdded(siasa.addContact(CARL))));
+        Change.contactRemoved(ALICE, index).apply(copy);
+        Change.contactAdded(CARL).apply(copy);
+
+        for (Change change : history.undo(siasa)) {
+            change.apply(copy);
+        }
+        for (Change change : history.undo(siasa)) {
+            change.apply(copy);
+        }
+        // ALICE is restored where it was removed from, not at the end
+        assertEquals(Arrays.asList(ALICE, BENSON), copy.getContactList());
+
+        for (Change change : history.redo(siasa)) {
+            change.apply(copy);
+        }
+        assertEquals(siasa, copy);
+    }
+}
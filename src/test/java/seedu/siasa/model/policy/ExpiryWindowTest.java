@@ -0,0 +1,46 @@
+package seedu.siasa.model.policy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.siasa.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class ExpiryWindowTest {
+
+    @Test
+    public void constructor_invalidExpiryWindow_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpiryWindow("0d"));
+    }
+
+    @Test
+    public void isValidExpiryWindow() {
+        assertFalse(ExpiryWindow.isValidExpiryWindow("")); // empty string
+        assertFalse(ExpiryWindow.isValidExpiryWindow("0")); // zero
+        assertFalse(ExpiryWindow.isValidExpiryWindow("-1m")); // negative
+        assertFalse(ExpiryWindow.isValidExpiryWindow("3y")); // unknown unit
+        assertFalse(ExpiryWindow.isValidExpiryWindow("m")); // missing amount
+        assertFalse(ExpiryWindow.isValidExpiryWindow("99999d")); // too long
+
+        assertTrue(ExpiryWindow.isValidExpiryWindow("14d"));
+        assertTrue(ExpiryWindow.isValidExpiryWindow("3M"));
+        assertTrue(ExpiryWindow.isValidExpiryWindow("2")); // months by default
+    }
+
+    @Test
+    public void getCutOffDate() {
+        LocalDate today = LocalDate.of(2021, 1, 31);
+        assertEquals(LocalDate.of(2021, 3, 1), new ExpiryWindow("1m").getCutOffDate(today));
+        assertEquals(LocalDate.of(2021, 2, 15), new ExpiryWindow("14d").getCutOffDate(today));
+        assertEquals(new ExpiryWindow("2m").getCutOffDate(today), new ExpiryWindow("2").getCutOffDate(today));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("1 month", ExpiryWindow.DEFAULT_WINDOW.toString());
+        assertEquals("14 days", new ExpiryWindow("14D").toString());
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.siasa.model.policy;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.siasa.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.siasa.logic.commands.CommandTestUtil.VALID_POLICY_COMMISSION_PERCENTAGE_CRITICAL;
 import static seedu.siasa.logic.commands.CommandTestUtil.VALID_POLICY_EXPIRY_DATE_CRITICAL;
 import static seedu.siasa.logic.commands.CommandTestUtil.VALID_POLICY_PAYMENT_AMOUNT_CRITICAL;
@@ -14,6 +16,7 @@ import static seedu.siasa.testutil.TypicalPolicies.FULL_LIFE;
 import org.junit.jupiter.api.Test;
 
 import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.contact.ContactId;
 import seedu.siasa.testutil.ContactBuilder;
 import seedu.siasa.testutil.PolicyBuilder;
 
@@ -49,9 +52,14 @@ class PolicyTest {
                 .build();
         assertFalse(CRITICAL_ILLNESS.isSamePolicy(editedCriticalIllness));
 
-        // owner differs in name, all other attributes same -> returns false
+        // owner renamed, all other attributes same -> returns true
         Contact editedBob = new ContactBuilder(ALICE).withName(ALICE.getName().fullName + " Sr").build();
         editedCriticalIllness = new PolicyBuilder(CRITICAL_ILLNESS).withOwner(editedBob).build();
+        assertTrue(CRITICAL_ILLNESS.isSamePolicy(editedCriticalIllness));
+
+        // owner has the same fields but a different id -> returns false
+        editedBob = ALICE.withId(ContactId.generate());
+        editedCriticalIllness = new PolicyBuilder(CRITICAL_ILLNESS).withOwner(editedBob).build();
         assertFalse(CRITICAL_ILLNESS.isSamePolicy(editedCriticalIllness));
 
         // owner differs in non identity fields -> returns true
@@ -105,4 +113,16 @@ class PolicyTest {
         editedFullLife = new PolicyBuilder(FULL_LIFE).withOwner(BOB).build();
         assertFalse(FULL_LIFE.equals(editedFullLife));
     }
+
+    @Test
+    public void hashCode_equalPolicies_sameHashCode() {
+        Policy fullLifeCopy = new PolicyBuilder(FULL_LIFE).build();
+        assertEquals(FULL_LIFE.hashCode(), fullLifeCopy.hashCode());
+
+        // same fields, owner edited -> still equal, as the hash does not depend on the owner
+        Contact editedAlice = new ContactBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        Policy editedOwnerFullLife = new PolicyBuilder(FULL_LIFE).withOwner(editedAlice).build();
+        assertTrue(FULL_LIFE.equals(editedOwnerFullLife));
+        assertEquals(FULL_LIFE.hashCode(), editedOwnerFullLife.hashCode());
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.siasa.model.policy;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -7,15 +8,26 @@ import static seedu.siasa.logic.commands.CommandTestUtil.VALID_POLICY_COMMISSION
 import static seedu.siasa.logic.commands.CommandTestUtil.VALID_POLICY_EXPIRY_DATE_CRITICAL;
 import static seedu.siasa.logic.commands.CommandTestUtil.VALID_POLICY_PAYMENT_AMOUNT_CRITICAL;
 import static seedu.siasa.testutil.Assert.assertThrows;
+import static seedu.siasa.testutil.TypicalContacts.ALICE;
+import static seedu.siasa.testutil.TypicalContacts.BENSON;
+import static seedu.siasa.testutil.TypicalContacts.BOB;
 import static seedu.siasa.testutil.TypicalPolicies.CRITICAL_ILLNESS;
 import static seedu.siasa.testutil.TypicalPolicies.FULL_LIFE;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.siasa.model.contact.Contact;
 import seedu.siasa.model.policy.exceptions.DuplicatePolicyException;
 import seedu.siasa.model.policy.exceptions.PolicyNotFoundException;
 import seedu.siasa.testutil.PolicyBuilder;
@@ -173,4 +185,213 @@ class UniquePolicyListTest {
         assertThrows(UnsupportedOperationException.class, () ->
                 uniquePolicyList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void setPolicy_editedPolicyHasDifferentOwner_updatesIdentityLookup() {
+        uniquePolicyList.add(FULL_LIFE);
+        Policy fullLifeOfBob = new PolicyBuilder(FULL_LIFE).withOwner(BOB).build();
+        uniquePolicyList.setPolicy(FULL_LIFE, fullLifeOfBob);
+        assertFalse(uniquePolicyList.contains(FULL_LIFE));
+        assertTrue(uniquePolicyList.contains(fullLifeOfBob));
+    }
+
+    @Test
+    public void remove_policyWithSameIdentityButDifferentFields_throwsPolicyNotFoundException() {
+        uniquePolicyList.add(FULL_LIFE);
+        Policy editedFullLife = new PolicyBuilder(FULL_LIFE)
+                .withPaymentStructure(VALID_POLICY_PAYMENT_AMOUNT_CRITICAL)
+                .build();
+        assertThrows(PolicyNotFoundException.class, () -> uniquePolicyList.remove(editedFullLife));
+    }
+
+    @Test
+    public void removeBelongingTo_owner_removesOnlyPoliciesOfOwner() {
+        Policy fullLifeOfBob = new PolicyBuilder(FULL_LIFE).withOwner(BOB).build();
+        uniquePolicyList.add(FULL_LIFE);
+        uniquePolicyList.add(fullLifeOfBob);
+        uniquePolicyList.add(CRITICAL_ILLNESS);
+        uniquePolicyList.removeBelongingTo(ALICE);
+        assertFalse(uniquePolicyList.contains(FULL_LIFE));
+        assertFalse(uniquePolicyList.contains(CRITICAL_ILLNESS));
+        uniquePolicyList.remove(fullLifeOfBob);
+        assertEquals(new UniquePolicyList(), uniquePolicyList);
+    }
+
+    @Test
+    public void getPoliciesBelongingTo_owner_returnsOnlyPoliciesOfOwner() {
+        Policy fullLifeOfBob = new PolicyBuilder(FULL_LIFE).withOwner(BOB).build();
+        uniquePolicyList.add(FULL_LIFE);
+        uniquePolicyList.add(fullLifeOfBob);
+        uniquePolicyList.add(CRITICAL_ILLNESS);
+        assertEquals(Arrays.asList(FULL_LIFE, CRITICAL_ILLNESS), uniquePolicyList.getPoliciesBelongingTo(ALICE));
+        assertEquals(Collections.singletonList(fullLifeOfBob), uniquePolicyList.getPoliciesBelongingTo(BOB));
+        assertEquals(Collections.emptyList(), uniquePolicyList.getPoliciesBelongingTo(BENSON));
+    }
+
+    @Test
+    public void getCommissionPerOwner_policiesOfSeveralOwners_rankedByCommission() {
+        Policy smallPolicyOfBob = new PolicyBuilder(FULL_LIFE).withOwner(BOB).withPaymentStructure(1).build();
+        uniquePolicyList.add(smallPolicyOfBob);
+        uniquePolicyList.add(FULL_LIFE);
+        uniquePolicyList.add(CRITICAL_ILLNESS);
+        assertEquals(Arrays.asList(ALICE, BOB), new ArrayList<>(uniquePolicyList.getCommissionPerOwner().keySet()));
+        assertEquals(Arrays.asList(ALICE, BOB), new ArrayList<>(uniquePolicyList.getPolicyCountPerOwner().keySet()));
+        assertEquals(FULL_LIFE.getTotalCommission() + CRITICAL_ILLNESS.getTotalCommission()
+                + smallPolicyOfBob.getTotalCommission(), uniquePolicyList.getTotalCommission(), 1e-6);
+
+        uniquePolicyList.removeBelongingTo(ALICE);
+        assertEquals(Collections.singletonList(BOB),
+                new ArrayList<>(uniquePolicyList.getCommissionPerOwner().keySet()));
+        assertEquals(smallPolicyOfBob.getTotalCommission(), uniquePolicyList.getTotalCommission(), 1e-6);
+    }
+
+    @Test
+    public void getPoliciesExpiring_policiesWithDifferentExpiryDates_returnsPoliciesInRange() {
+        Policy expiringFirst = new PolicyBuilder(FULL_LIFE).withExpiryDate(LocalDate.of(2021, 1, 1)).build();
+        Policy expiringLast = new PolicyBuilder(CRITICAL_ILLNESS).withExpiryDate(LocalDate.of(2021, 3, 1)).build();
+        Policy expiringBetween = new PolicyBuilder(FULL_LIFE).withOwner(BOB)
+                .withExpiryDate(LocalDate.of(2021, 2, 1)).build();
+        uniquePolicyList.add(expiringLast);
+        uniquePolicyList.add(expiringFirst);
+        uniquePolicyList.add(expiringBetween);
+
+        assertEquals(Arrays.asList(expiringFirst, expiringBetween),
+                uniquePolicyList.getPoliciesExpiringBefore(LocalDate.of(2021, 3, 1)));
+        assertEquals(Collections.singletonList(expiringBetween),
+                uniquePolicyList.getPoliciesExpiringBetween(LocalDate.of(2021, 2, 1), LocalDate.of(2021, 3, 1)));
+        assertEquals(Collections.emptyList(),
+                uniquePolicyList.getPoliciesExpiringBetween(LocalDate.of(2021, 3, 1), LocalDate.of(2021, 2, 1)));
+
+        uniquePolicyList.setPolicy(expiringBetween,
+                new PolicyBuilder(expiringBetween).withExpiryDate(LocalDate.of(2022, 1, 1)).build());
+        uniquePolicyList.remove(expiringFirst);
+        assertEquals(Collections.singletonList(expiringLast),
+                uniquePolicyList.getPoliciesExpiringBefore(LocalDate.of(2022, 1, 1)));
+    }
+
+    @Test
+    public void getSortKeys_keyOrders_keysSortLikeOrder() {
+        Policy cheapPolicyOfBob = new PolicyBuilder(FULL_LIFE).withOwner(BOB).withPaymentStructure(1).build();
+        uniquePolicyList.add(FULL_LIFE);
+        uniquePolicyList.add(cheapPolicyOfBob);
+        uniquePolicyList.add(CRITICAL_ILLNESS);
+        List<Policy> policies = Arrays.asList(CRITICAL_ILLNESS, cheapPolicyOfBob, FULL_LIFE);
+        int[] rows = {2, 1, 0};
+
+        for (Comparator<Policy> comparator : Arrays.asList(PolicyComparator.POLICY_SORT_BY_PAYMENT_DSC,
+                PolicyComparator.POLICY_SORT_BY_COMMISSION_ASC, PolicyComparator.POLICY_SORT_BY_EXPIRY_DSC)) {
+            PolicyComparator.KeyOrder order = (PolicyComparator.KeyOrder) comparator
+                    .thenComparing(PolicyComparator.POLICY_TIE_BREAK);
+            long[] keys = uniquePolicyList.getSortKeys(order, rows).get();
+            for (int i = 0; i < rows.length; i++) {
+                for (int j = 0; j < rows.length; j++) {
+                    assertEquals(Long.signum(Long.compare(keys[i], keys[j])),
+                            Long.signum(comparator.compare(policies.get(i), policies.get(j))));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void getSortKeys_inBatch_returnsEmpty() {
+        PolicyComparator.KeyOrder order = (PolicyComparator.KeyOrder) PolicyComparator.POLICY_SORT_BY_PAYMENT_ASC;
+        uniquePolicyList.add(FULL_LIFE);
+        uniquePolicyList.beginBatch();
+        uniquePolicyList.add(CRITICAL_ILLNESS);
+        assertFalse(uniquePolicyList.getSortKeys(order, new int[] {0}).isPresent());
+
+        uniquePolicyList.commitBatch();
+        assertTrue(uniquePolicyList.getSortKeys(order, new int[] {0, 1}).isPresent());
+        assertEquals(FULL_LIFE.getTotalCommission() + CRITICAL_ILLNESS.getTotalCommission(),
+                uniquePolicyList.getTotalCommission(), 1e-6);
+    }
+
+    @Test
+    public void randomOperations_identityIndexNeverDivergesFromList() {
+        Random random = new Random(2103);
+        List<Contact> owners = Arrays.asList(ALICE, BENSON, BOB);
+        List<Policy> candidates = new ArrayList<>();
+        for (Contact owner : owners) {
+            for (int title = 0; title < 5; title++) {
+                for (int payment = 1; payment <= 2; payment++) {
+                    PolicyBuilder builder = new PolicyBuilder(owner).withTitle("Plan " + title)
+                            .withPaymentStructure(payment * 100)
+                            .withExpiryDate(LocalDate.of(2021, 1, 1).plusDays(title + payment));
+                    candidates.add(title == 4 ? builder.withNoExpiryDate().build() : builder.build());
+                }
+            }
+        }
+
+        List<Policy> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Policy policy = candidates.get(random.nextInt(candidates.size()));
+            boolean isDuplicate = expected.stream().anyMatch(policy::isSamePolicy);
+            switch (random.nextInt(4)) {
+            case 0:
+                if (isDuplicate) {
+                    assertThrows(DuplicatePolicyException.class, () -> uniquePolicyList.add(policy));
+                } else {
+                    uniquePolicyList.add(policy);
+                    expected.add(policy);
+                }
+                break;
+            case 1:
+                if (expected.contains(policy)) {
+                    uniquePolicyList.remove(policy);
+                    expected.remove(policy);
+                } else {
+                    assertThrows(PolicyNotFoundException.class, () -> uniquePolicyList.remove(policy));
+                }
+                break;
+            case 2:
+                if (expected.isEmpty()) {
+                    break;
+                }
+                Policy target = expected.get(random.nextInt(expected.size()));
+                if (!target.isSamePolicy(policy) && isDuplicate) {
+                    assertThrows(DuplicatePolicyException.class, () -> uniquePolicyList.setPolicy(target, policy));
+                } else {
+                    uniquePolicyList.setPolicy(target, policy);
+                    expected.set(expected.indexOf(target), policy);
+                }
+                break;
+            default:
+                Contact owner = owners.get(random.nextInt(owners.size()));
+                uniquePolicyList.removeBelongingTo(owner);
+                expected.removeIf(p -> p.getOwner().equals(owner));
+                break;
+            }
+
+            for (Contact owner : owners) {
+                List<Policy> ownerPolicies = expected.stream().filter(p -> p.getOwner().equals(owner))
+                        .collect(Collectors.toList());
+                assertEquals(ownerPolicies, uniquePolicyList.getPoliciesBelongingTo(owner));
+                assertEquals(ownerPolicies.isEmpty() ? null : ownerPolicies.size(),
+                        uniquePolicyList.getPolicyCountPerOwner().get(owner));
+                assertEquals(ownerPolicies.stream().mapToDouble(Policy::getTotalCommission).sum(),
+                        uniquePolicyList.getCommissionPerOwner().getOrDefault(owner, 0.0), 1e-6);
+            }
+            assertEquals(expected.stream().mapToDouble(Policy::getTotalCommission).sum(),
+                    uniquePolicyList.getTotalCommission(), 1e-6);
+            LocalDate cutOff = LocalDate.of(2021, 1, 4);
+            assertEquals(expected.stream().filter(p -> p.isExpiringBefore(cutOff)).collect(Collectors.toSet()),
+                    new HashSet<>(uniquePolicyList.getPoliciesExpiringBefore(cutOff)));
+            LocalDate start = LocalDate.of(2021, 1, 2);
+            assertEquals(expected.stream().filter(p -> p.isExpiringBefore(cutOff) && !p.isExpiringBefore(start))
+                            .collect(Collectors.toSet()),
+                    new HashSet<>(uniquePolicyList.getPoliciesExpiringBetween(start, cutOff)));
+
+            assertEquals(expected, uniquePolicyList.asUnmodifiableObservableList());
+            int[] rows = IntStream.range(0, expected.size()).toArray();
+            for (Comparator<Policy> comparator : Arrays.asList(PolicyComparator.POLICY_SORT_BY_PAYMENT_ASC,
+                    PolicyComparator.POLICY_SORT_BY_COMMISSION_ASC, PolicyComparator.POLICY_SORT_BY_EXPIRY_ASC)) {
+                PolicyComparator.KeyOrder order = (PolicyComparator.KeyOrder) comparator;
+                assertArrayEquals(expected.stream().mapToLong(order.getKey()::of).toArray(),
+                        uniquePolicyList.getSortKeys(order, rows).get());
+            }
+            for (Policy candidate : candidates) {
+                assertEquals(expected.stream().anyMatch(candidate::isSamePolicy), uniquePolicyList.contains(candidate));
+            }
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package seedu.siasa.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.siasa.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,18 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
+    @Test
+    public void of_equalTagNames_returnsSameInstance() {
+        Tag tag = Tag.of("friends");
+        assertEquals(new Tag("friends"), tag);
+        assertSame(tag, Tag.of(new String("friends")));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
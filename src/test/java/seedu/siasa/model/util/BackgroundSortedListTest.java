@@ -0,0 +1,174 @@
+package seedu.siasa.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.siasa.testutil.Assert.assertThrows;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class BackgroundSortedListTest {
+
+    private final ObservableList<Integer> source = FXCollections.observableArrayList(5, 3, 9, 1, 7);
+    private final Queue<Runnable> backgroundTasks = new ArrayDeque<>();
+    private final Queue<Runnable> publishingTasks = new ArrayDeque<>();
+    private final Executor background = backgroundTasks::add;
+    private final Executor publishing = publishingTasks::add;
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new BackgroundSortedList<>(source, Comparator.naturalOrder(), 0, background, publishing));
+    }
+
+    @Test
+    public void constructor_largeList_sortsImmediately() {
+        BackgroundSortedList<Integer> sorted =
+                new BackgroundSortedList<>(source, Comparator.naturalOrder(), 1, background, publishing);
+        assertEquals(Arrays.asList(1, 3, 5, 7, 9), sorted.asObservableList());
+        assertTrue(backgroundTasks.isEmpty());
+    }
+
+    @Test
+    public void setComparator_smallList_sortsImmediately() {
+        BackgroundSortedList<Integer> sorted =
+                new BackgroundSortedList<>(source, Comparator.naturalOrder(), 100, background, publishing);
+        sorted.setComparator(Comparator.reverseOrder());
+        assertEquals(Arrays.asList(9, 7, 5, 3, 1), sorted.asObservableList());
+        assertTrue(backgroundTasks.isEmpty());
+    }
+
+    @Test
+    public void setComparator_largeList_sortsInBackgroundAndPublishes() {
+        BackgroundSortedList<Integer> sorted =
+                new BackgroundSortedList<>(source, Comparator.naturalOrder(), 5, background, publishing);
+        sorted.setComparator(Comparator.reverseOrder());
+
+        // previous order until the sort is published
+        assertTrue(sorted.isSortPending());
+        assertEquals(Arrays.asList(1, 3, 5, 7, 9), sorted.asObservableList());
+        backgroundTasks.remove().run();
+        assertEquals(Arrays.asList(1, 3, 5, 7, 9), sorted.asObservableList());
+
+        publishingTasks.remove().run();
+        assertFalse(sorted.isSortPending());
+        assertEquals(Arrays.asList(9, 7, 5, 3, 1), sorted.asObservableList());
+    }
+
+    @Test
+    public void sourceChanged_duringBackgroundSort_discardsStaleSort() {
+        BackgroundSortedList<Integer> sorted =
+                new BackgroundSortedList<>(source, Comparator.naturalOrder(), 5, background, publishing);
+        sorted.setComparator(Comparator.reverseOrder());
+        source.add(4);
+
+        // the element is shown right away, in the previous order
+        assertEquals(Arrays.asList(1, 3, 4, 5, 7, 9), sorted.asObservableList());
+
+        backgroundTasks.remove().run();
+        backgroundTasks.remove().run();
+        publishingTasks.remove().run(); // stale, started before the element was added
+        assertEquals(Arrays.asList(1, 3, 4, 5, 7, 9), sorted.asObservableList());
+        publishingTasks.remove().run();
+        assertEquals(Arrays.asList(9, 7, 5, 4, 3, 1), sorted.asObservableList());
+    }
+
+    @Test
+    public void setComparator_backgroundSortFails_sortsOnPublishingThread() {
+        boolean[] isFailing = new boolean[1];
+        Comparator<Integer> failingInBackground = (a, b) -> {
+            if (isFailing[0]) {
+                throw new IllegalStateException("Sort failed");
+            }
+            return Integer.compare(b, a);
+        };
+        BackgroundSortedList<Integer> sorted =
+                new BackgroundSortedList<>(source, Comparator.naturalOrder(), 5, background, publishing);
+        sorted.setComparator(failingInBackground);
+
+        isFailing[0] = true;
+        backgroundTasks.remove().run();
+        assertTrue(sorted.isSortPending());
+
+        isFailing[0] = false;
+        publishingTasks.remove().run();
+        assertFalse(sorted.isSortPending());
+        assertEquals(Arrays.asList(9, 7, 5, 3, 1), sorted.asObservableList());
+    }
+
+    @Test
+    public void setComparator_sortFailsOnBothThreads_notPending() {
+        BackgroundSortedList<Integer> sorted =
+                new BackgroundSortedList<>(source, Comparator.naturalOrder(), 5, background, publishing);
+        sorted.setComparator((a, b) -> {
+            throw new IllegalStateException("Sort failed");
+        });
+
+        backgroundTasks.remove().run();
+        assertThrows(IllegalStateException.class, () -> publishingTasks.remove().run());
+        assertFalse(sorted.isSortPending());
+        assertEquals(Arrays.asList(1, 3, 5, 7, 9), sorted.asObservableList());
+    }
+
+    @Test
+    public void sourceChanged_fewElements_keepsCopySorted() {
+        BackgroundSortedList<Integer> sorted =
+                new BackgroundSortedList<>(source, Comparator.naturalOrder(), 100, background, publishing);
+
+        source.add(4);
+        source.remove(Integer.valueOf(9));
+        source.set(0, 10);
+        assertEquals(Arrays.asList(1, 3, 4, 7, 10), sorted.asObservableList());
+    }
+
+    @Test
+    public void sourceChanged_manyElements_keepsCopySorted() {
+        BackgroundSortedList<Integer> sorted =
+                new BackgroundSortedList<>(source, Comparator.naturalOrder(), 1000, background, publishing);
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 100; i > 0; i--) {
+            elements.add(i);
+        }
+
+        source.setAll(elements);
+        elements.sort(Comparator.naturalOrder());
+        assertEquals(elements, sorted.asObservableList());
+    }
+
+    @Test
+    public void setComparator_sortKeys_sortsByKeys() {
+        // keys that order the elements by their last digit, and no keys for the natural order
+        BackgroundSortedList.SortKeys<Integer> byLastDigit = order -> order == Comparator.<Integer>reverseOrder()
+                ? Optional.of(source.stream().mapToLong(i -> i % 10).toArray())
+                : Optional.empty();
+        source.setAll(21, 12, 3, 11, 22);
+        BackgroundSortedList<Integer> sorted =
+                new BackgroundSortedList<>(source, Comparator.naturalOrder(), 5, background, publishing, byLastDigit);
+        assertEquals(Arrays.asList(3, 11, 12, 21, 22), sorted.asObservableList());
+
+        // elements with the same key are ordered by the comparator
+        sorted.setComparator(Comparator.reverseOrder());
+        backgroundTasks.remove().run();
+        publishingTasks.remove().run();
+        assertEquals(Arrays.asList(21, 11, 22, 12, 3), sorted.asObservableList());
+    }
+
+    @Test
+    public void asObservableList_modify_throwsUnsupportedOperationException() {
+        BackgroundSortedList<Integer> sorted =
+                new BackgroundSortedList<>(source, Comparator.naturalOrder(), 100, background, publishing);
+        assertThrows(UnsupportedOperationException.class, () -> sorted.asObservableList().remove(0));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.siasa.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.siasa.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CollationKeyTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CollationKey.of(null));
+    }
+
+    @Test
+    public void equals_differentCase_equal() {
+        assertEquals(CollationKey.of("Life Plan"), CollationKey.of("lIFE pLAN"));
+        assertEquals(CollationKey.of("Life Plan").hashCode(), CollationKey.of("lIFE pLAN").hashCode());
+        assertNotEquals(CollationKey.of("Life Plan"), CollationKey.of("Life Plans"));
+    }
+
+    @Test
+    public void compareTo_edgeCases_sameOrderAsCaseInsensitiveOrder() {
+        List<String> strings = Arrays.asList("", "a", "A", "ab", "aB", "abc", "abcd", "abcde", "ABCDE", "abcdf",
+                "abce", "b", "Z", "_", "a\u0000", "\u00e9t\u00e9", "\u00c9T\u00c9", "\uffff", "\uffffa");
+        for (String first : strings) {
+            for (String second : strings) {
+                assertSameOrder(first, second);
+            }
+        }
+    }
+
+    @Test
+    public void compareTo_randomStrings_sameOrderAsCaseInsensitiveOrder() {
+        Random random = new Random(17);
+        char[] alphabet = "aAbBzZ _-09\u00e9\u00c9".toCharArray();
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(8);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            strings.add(builder.toString());
+        }
+
+        for (String first : strings) {
+            for (String second : strings) {
+                assertSameOrder(first, second);
+            }
+        }
+    }
+
+    private static void assertSameOrder(String first, String second) {
+        assertEquals(Integer.signum(String.CASE_INSENSITIVE_ORDER.compare(first, second)),
+                Integer.signum(CollationKey.of(first).compareTo(CollationKey.of(second))),
+                "Comparing \"" + first + "\" and \"" + second + "\"");
+    }
+}
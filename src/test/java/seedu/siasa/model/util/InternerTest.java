@@ -0,0 +1,38 @@
+package seedu.siasa.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.siasa.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstInstance() {
+        String first = new String("friends");
+        String second = new String("friends");
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertSame(first, interner.intern(first));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_keepsBoth() {
+        String friends = new String("friends");
+        String colleagues = new String("colleagues");
+
+        assertSame(friends, interner.intern(friends));
+        assertSame(colleagues, interner.intern(colleagues));
+        assertEquals(2, interner.size());
+    }
+}
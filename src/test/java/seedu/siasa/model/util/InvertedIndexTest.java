@@ -0,0 +1,61 @@
+package seedu.siasa.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.siasa.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+public class InvertedIndexTest {
+
+    private final InvertedIndex<String, String> invertedIndex =
+            new InvertedIndex<>(sentence -> Arrays.asList(sentence.split(" ")));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InvertedIndex<String, String>(null));
+    }
+
+    @Test
+    public void getMatchingAny_keys_returnsUnionOfPostings() {
+        invertedIndex.add("alice pauline");
+        invertedIndex.add("benson meier");
+        invertedIndex.add("alice meier");
+
+        assertEquals(new HashSet<>(Arrays.asList("alice pauline", "alice meier", "benson meier")),
+                invertedIndex.getMatchingAny(Arrays.asList("alice", "benson")));
+        assertEquals(Collections.emptySet(), invertedIndex.getMatchingAny(Arrays.asList("carl")));
+        assertEquals(Collections.emptySet(), invertedIndex.getMatchingAny(Collections.emptyList()));
+    }
+
+    @Test
+    public void getMatchingAll_keys_returnsIntersectionOfPostings() {
+        invertedIndex.add("alice pauline");
+        invertedIndex.add("benson meier");
+        invertedIndex.add("alice meier");
+
+        assertEquals(Collections.singleton("alice meier"),
+                invertedIndex.getMatchingAll(Arrays.asList("meier", "alice", "meier")));
+        assertEquals(Collections.emptySet(), invertedIndex.getMatchingAll(Arrays.asList("alice", "carl")));
+        assertEquals(Collections.emptySet(), invertedIndex.getMatchingAll(Collections.emptyList()));
+    }
+
+    @Test
+    public void remove_equalButDistinctInstance_removesOnlyThatInstance() {
+        String first = new String("alice pauline");
+        String second = new String("alice pauline");
+        invertedIndex.add(first);
+        invertedIndex.add(second);
+
+        invertedIndex.remove(first);
+        assertEquals(1, invertedIndex.getMatchingAny(Collections.singletonList("alice")).size());
+        assertTrue(invertedIndex.getMatchingAny(Collections.singletonList("alice")).iterator().next() == second);
+
+        invertedIndex.remove(second);
+        assertEquals(Collections.emptySet(), invertedIndex.getMatchingAny(Collections.singletonList("pauline")));
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.siasa.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static seedu.siasa.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class KeyedSortTest {
+
+    private static final Comparator<String> BY_LENGTH_THEN_TEXT =
+            Comparator.comparing(String::length).thenComparing(Comparator.naturalOrder());
+
+    @Test
+    public void sort_keysOfDifferentLength_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                KeyedSort.sort(new String[] {"a", "b"}, new long[] {1}, BY_LENGTH_THEN_TEXT, false));
+    }
+
+    @Test
+    public void sort_equalKeys_orderedByTieBreak() {
+        String[] elements = {"ccc", "b", "aa", "d"};
+        KeyedSort.sort(elements, new long[] {1, 2, 1, 1}, BY_LENGTH_THEN_TEXT, false);
+        assertArrayEquals(new String[] {"d", "aa", "ccc", "b"}, elements);
+    }
+
+    @Test
+    public void sort_randomElements_sameAsSortingByComparator() {
+        Random random = new Random(9);
+        // large enough for the parallel sort to split the array
+        String[] elements = new String[40000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = Integer.toString(random.nextInt(100000), 36);
+        }
+        Comparator<String> byFirstCharacterThenLength = Comparator.comparing((String s) -> s.charAt(0))
+                .thenComparing(BY_LENGTH_THEN_TEXT);
+        String[] expected = elements.clone();
+        Arrays.sort(expected, byFirstCharacterThenLength);
+
+        for (boolean isParallel : new boolean[] {false, true}) {
+            String[] sorted = elements.clone();
+            long[] keys = Arrays.stream(sorted).mapToLong(s -> s.charAt(0)).toArray();
+            KeyedSort.sort(sorted, keys, byFirstCharacterThenLength, isParallel);
+            assertArrayEquals(expected, sorted);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.siasa.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.siasa.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void copyOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(null));
+    }
+
+    @Test
+    public void copyOf_elements_sameElementsInOrder() {
+        List<String> elements = Arrays.asList("a", "b", "c", "d", "e");
+        assertEquals(elements, PersistentList.copyOf(elements));
+        assertTrue(PersistentList.copyOf(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void plus_element_originalUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(Arrays.asList("a", "b"));
+        PersistentList<String> derived = original.plus("c");
+
+        assertEquals(Arrays.asList("a", "b"), original);
+        assertEquals(Arrays.asList("a", "b", "c"), derived);
+    }
+
+    @Test
+    public void with_element_originalUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(Arrays.asList("a", "b", "c"));
+        PersistentList<String> derived = original.with(1, "x");
+
+        assertEquals(Arrays.asList("a", "b", "c"), original);
+        assertEquals(Arrays.asList("a", "x", "c"), derived);
+    }
+
+    @Test
+    public void minus_index_originalUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(Arrays.asList("a", "b", "c"));
+        PersistentList<String> derived = original.minus(0);
+
+        assertEquals(Arrays.asList("a", "b", "c"), original);
+        assertEquals(Arrays.asList("b", "c"), derived);
+    }
+
+    @Test
+    public void indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(Arrays.asList("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().minus(0));
+    }
+
+    @Test
+    public void randomChanges_sameAsArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation <= 1) {
+                expected.add(i);
+                actual = actual.plus(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.with(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+            if (i % 500 == 0) {
+                versions.add(actual);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        // earlier versions are not affected by the changes made after them
+        assertEquals(expectedVersions, versions);
+    }
+}
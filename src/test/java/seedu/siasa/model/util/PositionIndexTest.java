@@ -0,0 +1,121 @@
+package seedu.siasa.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.siasa.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PositionIndexTest {
+
+    private final PositionIndex<String> positionIndex = new PositionIndex<>();
+
+    @Test
+    public void add_keys_positionsInOrderOfAdding() {
+        positionIndex.add("alice");
+        positionIndex.add("benson");
+        positionIndex.add("carl");
+
+        assertEquals(3, positionIndex.size());
+        assertEquals(0, positionIndex.positionOf("alice"));
+        assertEquals(2, positionIndex.positionOf("carl"));
+        assertEquals(-1, positionIndex.positionOf("daniel"));
+        assertTrue(positionIndex.contains("benson"));
+        assertFalse(positionIndex.contains("daniel"));
+    }
+
+    @Test
+    public void add_duplicateKey_throwsIllegalArgumentException() {
+        positionIndex.add("alice");
+        assertThrows(IllegalArgumentException.class, () -> positionIndex.add("alice"));
+        assertThrows(IllegalArgumentException.class, () -> positionIndex.add(0, "alice"));
+    }
+
+    @Test
+    public void add_positionOutOfBounds_throwsIndexOutOfBoundsException() {
+        positionIndex.add("alice");
+        assertThrows(IndexOutOfBoundsException.class, () -> positionIndex.add(2, "benson"));
+        assertThrows(IndexOutOfBoundsException.class, () -> positionIndex.add(-1, "benson"));
+    }
+
+    @Test
+    public void remove_key_shiftsOnlyLaterPositions() {
+        positionIndex.setAll(Arrays.asList("alice", "benson", "carl", "daniel"));
+
+        positionIndex.remove("benson");
+        assertEquals(0, positionIndex.positionOf("alice"));
+        assertEquals(1, positionIndex.positionOf("carl"));
+        assertEquals(2, positionIndex.positionOf("daniel"));
+        assertEquals(-1, positionIndex.positionOf("benson"));
+    }
+
+    @Test
+    public void remove_absentKey_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> positionIndex.remove("alice"));
+    }
+
+    @Test
+    public void add_atPositionOfRemovedKey_restoresPositions() {
+        positionIndex.setAll(Arrays.asList("alice", "benson", "carl", "daniel"));
+        positionIndex.remove("benson");
+
+        positionIndex.add(1, "benson");
+        assertEquals(Arrays.asList(0, 1, 2, 3), positionsOf("alice", "benson", "carl", "daniel"));
+
+        positionIndex.add(0, "elle");
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), positionsOf("elle", "alice", "benson", "carl", "daniel"));
+    }
+
+    @Test
+    public void replace_key_keepsPosition() {
+        positionIndex.setAll(Arrays.asList("alice", "benson", "carl"));
+
+        positionIndex.replace("benson", "bernice");
+        assertEquals(1, positionIndex.positionOf("bernice"));
+        assertFalse(positionIndex.contains("benson"));
+        assertThrows(IllegalArgumentException.class, () -> positionIndex.replace("alice", "carl"));
+    }
+
+    @Test
+    public void setAll_duplicateKeys_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> positionIndex.setAll(Arrays.asList("alice", "alice")));
+    }
+
+    @Test
+    public void mixedChanges_matchList() {
+        Random random = new Random(7);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int choice = random.nextInt(4);
+            if (keys.isEmpty() || choice == 0) {
+                keys.add("key" + i);
+                positionIndex.add("key" + i);
+            } else if (choice == 1) {
+                int position = random.nextInt(keys.size() + 1);
+                keys.add(position, "key" + i);
+                positionIndex.add(position, "key" + i);
+            } else {
+                positionIndex.remove(keys.remove(random.nextInt(keys.size())));
+            }
+        }
+
+        assertEquals(keys.size(), positionIndex.size());
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(i, positionIndex.positionOf(keys.get(i)));
+        }
+    }
+
+    private List<Integer> positionsOf(String... keys) {
+        List<Integer> positions = new ArrayList<>();
+        for (String key : keys) {
+            positions.add(positionIndex.positionOf(key));
+        }
+        return positions;
+    }
+}
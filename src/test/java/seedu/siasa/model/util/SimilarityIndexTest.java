@@ -0,0 +1,102 @@
+package seedu.siasa.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.siasa.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.siasa.commons.util.StringUtil;
+
+public class SimilarityIndexTest {
+
+    private final SimilarityIndex<String> similarityIndex = new SimilarityIndex<>(Function.identity());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SimilarityIndex<String>(null));
+    }
+
+    @Test
+    public void search_emptyIndex_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), similarityIndex.search("Alice", 1));
+    }
+
+    @Test
+    public void search_keysWithinOneEdit_returnsMatchesIgnoringCase() {
+        similarityIndex.add("Alice");
+        similarityIndex.add("ALICE");
+        similarityIndex.add("Alicia");
+        similarityIndex.add("Alic");
+        similarityIndex.add("Bob");
+        assertEquals(new HashSet<>(Arrays.asList("Alice", "ALICE", "Alic")),
+                new HashSet<>(similarityIndex.search("alice", 1)));
+    }
+
+    @Test
+    public void remove_elementInIndex_isNoLongerFound() {
+        String alice = "Alice";
+        similarityIndex.add(alice);
+        similarityIndex.add("Alicf");
+        similarityIndex.remove(alice);
+        assertEquals(Collections.singletonList("Alicf"), similarityIndex.search("Alice", 1));
+    }
+
+    @Test
+    public void remove_elementNotInIndex_doesNothing() {
+        similarityIndex.add("Alice");
+        similarityIndex.remove("Bob");
+        similarityIndex.remove(new String("Alice")); // same key, but a different instance
+        assertEquals(Collections.singletonList("Alice"), similarityIndex.search("Alice", 0));
+    }
+
+    @Test
+    public void clear_nonEmptyIndex_becomesEmpty() {
+        similarityIndex.add("Alice");
+        similarityIndex.clear();
+        assertTrue(similarityIndex.isEmpty());
+        assertEquals(Collections.emptyList(), similarityIndex.search("Alice", 1));
+    }
+
+    @Test
+    public void randomOperations_sameResultsAsLinearScan() {
+        Random random = new Random(2103);
+        List<String> present = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            String name = randomName(random);
+            if (present.isEmpty() || random.nextInt(3) > 0) {
+                present.add(name);
+                similarityIndex.add(name);
+            } else {
+                String removed = present.remove(random.nextInt(present.size()));
+                similarityIndex.remove(removed);
+            }
+
+            String query = randomName(random);
+            List<String> expected = present.stream()
+                    .filter(key -> StringUtil.getEditDistance(key.toUpperCase(), query.toUpperCase()) <= 1)
+                    .sorted()
+                    .collect(Collectors.toList());
+            List<String> actual = similarityIndex.search(query, 1);
+            Collections.sort(actual);
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static String randomName(Random random) {
+        char[] name = new char[2 + random.nextInt(3)];
+        for (int i = 0; i < name.length; i++) {
+            name[i] = "aAbBc".charAt(random.nextInt(5));
+        }
+        return new String(name);
+    }
+}
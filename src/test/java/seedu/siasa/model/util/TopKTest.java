@@ -0,0 +1,54 @@
+package seedu.siasa.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.siasa.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class TopKTest {
+
+    private static final Comparator<String> BY_LENGTH_THEN_TEXT =
+            Comparator.comparing(String::length).thenComparing(Comparator.naturalOrder());
+
+    @Test
+    public void select_nonPositiveK_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                TopK.select(List.of("a"), s -> true, BY_LENGTH_THEN_TEXT, 0));
+    }
+
+    @Test
+    public void select_fewerElementsThanK_returnsAllSorted() {
+        assertEquals(Arrays.asList("c", "bb", "aaa"),
+                TopK.select(Arrays.asList("aaa", "c", "bb"), s -> true, BY_LENGTH_THEN_TEXT, 5));
+    }
+
+    @Test
+    public void select_predicate_onlySelectsMatchingElements() {
+        assertEquals(Arrays.asList("bb", "aaa"),
+                TopK.select(Arrays.asList("aaa", "c", "bb", "dddd"), s -> s.length() > 1, BY_LENGTH_THEN_TEXT, 2));
+    }
+
+    @Test
+    public void select_randomElements_sameAsSortingAll() {
+        Random random = new Random(18);
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(Integer.toString(random.nextInt(100000), 36));
+        }
+        Predicate<String> predicate = s -> s.charAt(0) != '1';
+
+        for (int k : new int[] {1, 2, 10, 50, 999, 1000}) {
+            List<String> expected = elements.stream().filter(predicate).sorted(BY_LENGTH_THEN_TEXT)
+                    .limit(k).collect(Collectors.toList());
+            assertEquals(expected, TopK.select(elements, predicate, BY_LENGTH_THEN_TEXT, k));
+        }
+    }
+}
@@ -13,11 +13,13 @@ import org.junit.jupiter.api.Test;
 
 import seedu.siasa.commons.exceptions.IllegalValueException;
 import seedu.siasa.model.contact.Address;
+import seedu.siasa.model.contact.ContactId;
 import seedu.siasa.model.contact.Email;
 import seedu.siasa.model.contact.Name;
 import seedu.siasa.model.contact.Phone;
 
 public class JsonAdaptedContactTest {
+    private static final String INVALID_ID = "1";
     private static final String INVALID_NAME = "R@chel";
     private static final String INVALID_PHONE = "+651234";
     private static final String INVALID_ADDRESS = " ";
@@ -38,6 +40,19 @@ public class JsonAdaptedContactTest {
         assertEquals(BENSON, contact.toModelType());
     }
 
+    @Test
+    public void toModelType_validContactDetails_keepsId() throws Exception {
+        JsonAdaptedContact contact = new JsonAdaptedContact(BENSON);
+        assertEquals(BENSON.getId(), contact.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedContact contact =
+                new JsonAdaptedContact(INVALID_ID, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_TAGS);
+        assertThrows(IllegalValueException.class, ContactId.MESSAGE_CONSTRAINTS, contact::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedContact contact =
@@ -13,6 +13,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.siasa.commons.exceptions.IllegalValueException;
+import seedu.siasa.model.contact.ContactId;
 import seedu.siasa.model.policy.Commission;
 import seedu.siasa.model.policy.PaymentStructure;
 import seedu.siasa.model.policy.Policy;
@@ -40,6 +41,13 @@ public class JsonAdaptedPolicyTest {
         assertEquals(FULL_LIFE, policy.toModelType(FULL_LIFE.getOwner()));
     }
 
+    @Test
+    public void getOwnerId_invalidOwnerId_throwsIllegalValueException() {
+        JsonAdaptedPolicy policy = new JsonAdaptedPolicy(VALID_TITLE, VALID_PAYMENT_STRUCTURE, VALID_EXPIRY_DATE,
+                VALID_COMMISSION, "not-an-id", null, VALID_TAGS);
+        assertThrows(IllegalValueException.class, ContactId.MESSAGE_CONSTRAINTS, policy::getOwnerId);
+    }
+
     @Test
     public void toModelType_nullExpiryDate_returnsPolicy() throws Exception {
         Policy noExpiryDatePolicy = new PolicyBuilder(FULL_LIFE).withNoExpiryDate().build();
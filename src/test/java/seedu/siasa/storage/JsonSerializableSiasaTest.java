@@ -1,16 +1,21 @@
 package seedu.siasa.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.siasa.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import seedu.siasa.commons.exceptions.IllegalValueException;
 import seedu.siasa.commons.util.JsonUtil;
 import seedu.siasa.model.Siasa;
+import seedu.siasa.model.contact.Contact;
+import seedu.siasa.testutil.ContactBuilder;
+import seedu.siasa.testutil.PolicyBuilder;
 import seedu.siasa.testutil.TypicalSiasa;
 
 public class JsonSerializableSiasaTest {
@@ -21,6 +26,8 @@ public class JsonSerializableSiasaTest {
     private static final Path INVALID_POLICY_FILE = TEST_DATA_FOLDER.resolve("invalidPolicySiasa.json");
     private static final Path DUPLICATE_CONTACT_FILE = TEST_DATA_FOLDER.resolve("duplicateContactSiasa.json");
     private static final Path DUPLICATE_POLICY_FILE = TEST_DATA_FOLDER.resolve("duplicatePolicySiasa.json");
+    private static final int SCALE_TEST_SIZE = 1500;
+    private static final int SCALE_TEST_FACTOR = 8;
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -61,4 +68,46 @@ public class JsonSerializableSiasaTest {
             dataFromFile::toModelType);
     }
 
+    /**
+     * Times loading, so it depends on the machine and is run with {@code gradlew benchmark} rather than the tests.
+     */
+    @Test
+    @Tag("benchmark")
+    public void toModelType_largeSiasa_loadTimeGrowsLinearly() throws Exception {
+        JsonSerializableSiasa small = new JsonSerializableSiasa(getLargeSiasa(SCALE_TEST_SIZE));
+        JsonSerializableSiasa large = new JsonSerializableSiasa(getLargeSiasa(SCALE_TEST_SIZE * SCALE_TEST_FACTOR));
+
+        long smallTime = getBestLoadTime(small);
+        long largeTime = getBestLoadTime(large);
+
+        // Loading is linear, so the large SIASA should take about SCALE_TEST_FACTOR times as long as the small one,
+        // whereas a quadratic load takes over twice that long at these sizes. Allow some slack for noise.
+        assertTrue(largeTime < smallTime * SCALE_TEST_FACTOR * 3 / 2,
+                "Loading " + SCALE_TEST_FACTOR + "x the data took " + largeTime / (double) smallTime + "x as long");
+    }
+
+    /**
+     * Returns a SIASA with {@code size} contacts, each owning two policies.
+     */
+    private static Siasa getLargeSiasa(int size) {
+        Siasa siasa = new Siasa();
+        for (int i = 0; i < size; i++) {
+            Contact contact = new ContactBuilder().withName("Contact " + i).build();
+            siasa.addContact(contact);
+            siasa.addPolicy(new PolicyBuilder(contact).withTitle("Life").build());
+            siasa.addPolicy(new PolicyBuilder(contact).withTitle("Critical Illness").build());
+        }
+        return siasa;
+    }
+
+    private static long getBestLoadTime(JsonSerializableSiasa data) throws IllegalValueException {
+        long bestTime = Long.MAX_VALUE;
+        for (int run = 0; run < 3; run++) {
+            long start = System.nanoTime();
+            data.toModelType();
+            bestTime = Math.min(bestTime, System.nanoTime() - start);
+        }
+        return bestTime;
+    }
+
 }
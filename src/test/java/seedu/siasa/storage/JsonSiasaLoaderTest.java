@@ -0,0 +1,95 @@
+package seedu.siasa.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.siasa.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.siasa.commons.exceptions.IllegalValueException;
+import seedu.siasa.commons.util.JsonUtil;
+import seedu.siasa.testutil.TypicalSiasa;
+
+public class JsonSiasaLoaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSiasaLoaderTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableSiasaTest");
+    private static final Path TYPICAL_CONTACTS_FILE =
+            SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalContactsSiasa.json");
+    private static final Path DUPLICATE_CONTACT_FILE =
+            SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicateContactSiasa.json");
+    private static final Path DUPLICATE_POLICY_FILE =
+            SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicatePolicySiasa.json");
+    private static final Path POLICIES_BEFORE_CONTACTS_FILE =
+            TEST_DATA_FOLDER.resolve("policiesBeforeContactsSiasa.json");
+    private static final Path NEWER_FORMAT_FILE = TEST_DATA_FOLDER.resolve("newerFormatSiasa.json");
+    private static final Path UNKNOWN_OWNER_ID_FILE = TEST_DATA_FOLDER.resolve("unknownOwnerIdSiasa.json");
+    private static final Path TRUNCATED_FILE = TEST_DATA_FOLDER.resolve("truncatedSiasa.json");
+    private static final Path NOT_JSON_FILE = Paths.get("src", "test", "data", "JsonSiasaStorageTest",
+            "notJsonFormatSiasa.json");
+
+    @Test
+    public void load_typicalContactsFile_success() throws Exception {
+        JsonSiasaLoader loader = load(TYPICAL_CONTACTS_FILE);
+        assertEquals(TypicalSiasa.getTypicalSiasa(), loader.getSiasa());
+        assertEquals(0, loader.getGeneration());
+    }
+
+    @Test
+    public void load_policiesBeforeContacts_success() throws Exception {
+        JsonSiasaLoader loader = load(POLICIES_BEFORE_CONTACTS_FILE);
+        assertEquals(TypicalSiasa.getTypicalSiasa(), loader.getSiasa());
+        assertEquals(3, loader.getGeneration());
+    }
+
+    @Test
+    public void load_duplicateContacts_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableSiasa.MESSAGE_DUPLICATE_CONTACT, () ->
+                load(DUPLICATE_CONTACT_FILE));
+    }
+
+    @Test
+    public void load_duplicatePolicies_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableSiasa.MESSAGE_DUPLICATE_POLICY, () ->
+                load(DUPLICATE_POLICY_FILE));
+    }
+
+    @Test
+    public void load_legacyFormat_success() throws Exception {
+        JsonSiasaLoader loader = load(TYPICAL_CONTACTS_FILE);
+        assertEquals(JsonSerializableSiasa.LEGACY_FORMAT_VERSION, loader.getFormatVersion());
+    }
+
+    @Test
+    public void load_newerFormat_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> load(NEWER_FORMAT_FILE));
+    }
+
+    @Test
+    public void load_unknownOwnerId_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableSiasa.MESSAGE_POLICY_NO_OWNER_FOUND, () ->
+                load(UNKNOWN_OWNER_ID_FILE));
+    }
+
+    @Test
+    public void load_truncatedFile_throwsIoException() {
+        assertThrows(IOException.class, () -> load(TRUNCATED_FILE));
+    }
+
+    @Test
+    public void load_notJsonFormat_throwsIoException() {
+        assertThrows(IOException.class, () -> load(NOT_JSON_FILE));
+    }
+
+    private static JsonSiasaLoader load(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            return JsonSiasaLoader.load(parser);
+        }
+    }
+}
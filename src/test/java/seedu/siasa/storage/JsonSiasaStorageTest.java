@@ -1,27 +1,40 @@
 package seedu.siasa.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.siasa.testutil.Assert.assertThrows;
+import static seedu.siasa.testutil.TypicalContacts.ALICE;
 import static seedu.siasa.testutil.TypicalContacts.HOON;
 import static seedu.siasa.testutil.TypicalContacts.IDA;
 import static seedu.siasa.testutil.TypicalSiasa.getTypicalSiasa;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.siasa.commons.exceptions.DataConversionException;
+import seedu.siasa.commons.util.FileUtil;
+import seedu.siasa.model.ModelManager;
 import seedu.siasa.model.ReadOnlySiasa;
 import seedu.siasa.model.Siasa;
+import seedu.siasa.model.UserPrefs;
 import seedu.siasa.model.contact.Contact;
 import seedu.siasa.model.policy.Policy;
+import seedu.siasa.testutil.ContactBuilder;
 
 public class JsonSiasaStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSiasaStorageTest");
+    private static final Path LEGACY_FORMAT_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableSiasaTest", "typicalContactsSiasa.json");
 
     @TempDir
     public Path testFolder;
@@ -116,6 +129,153 @@ public class JsonSiasaStorageTest {
 
     }
 
+    @Test
+    public void saveChanges_journaled_replayedOnRead() throws Exception {
+        Path filePath = testFolder.resolve("siasa.json");
+        JsonSiasaStorage storage = new JsonSiasaStorage(filePath, Long.MAX_VALUE, Runnable::run);
+        ModelManager model = new ModelManager(getTypicalSiasa(), new UserPrefs());
+
+        // the first save is in full
+        storage.saveChanges(model.getSiasa(), Collections.emptyList());
+        model.addContact(HOON);
+        model.commitChanges();
+        model.deleteContact(ALICE);
+        model.commitChanges();
+        storage.saveChanges(model.getSiasa(), model.takeAppliedChanges());
+
+        assertTrue(Files.exists(SiasaJournal.getSegmentPath(filePath, 0)));
+        assertEquals(model.getSiasa(), new JsonSiasaStorage(filePath).readSiasa().get());
+    }
+
+    @Test
+    public void saveChanges_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("siasa.json");
+        JsonSiasaStorage storage = new JsonSiasaStorage(filePath, 1, Runnable::run);
+        ModelManager model = new ModelManager(getTypicalSiasa(), new UserPrefs());
+
+        storage.saveChanges(model.getSiasa(), Collections.emptyList());
+        model.addContact(HOON);
+        model.commitChanges();
+        storage.saveChanges(model.getSiasa(), model.takeAppliedChanges());
+
+        assertFalse(Files.exists(SiasaJournal.getSegmentPath(filePath, 0)));
+        assertTrue(SiasaJournal.readRecords(filePath, 1).isEmpty());
+        assertEquals(model.getSiasa(), new JsonSiasaStorage(filePath).readSiasa().get());
+    }
+
+    @Test
+    public void readSiasa_incompleteLastChange_ignored() throws Exception {
+        Path filePath = testFolder.resolve("siasa.json");
+        JsonSiasaStorage storage = new JsonSiasaStorage(filePath, Long.MAX_VALUE, Runnable::run);
+        ModelManager model = new ModelManager(getTypicalSiasa(), new UserPrefs());
+
+        storage.saveChanges(model.getSiasa(), Collections.emptyList());
+        model.addContact(HOON);
+        model.commitChanges();
+        storage.saveChanges(model.getSiasa(), model.takeAppliedChanges());
+        Files.writeString(SiasaJournal.getSegmentPath(filePath, 0), "[{\"type\":\"CONTACT_ADD",
+                StandardOpenOption.APPEND);
+
+        assertEquals(model.getSiasa(), new JsonSiasaStorage(filePath).readSiasa().get());
+    }
+
+    @Test
+    public void readSiasa_commandCutOffAfterSomeChanges_noneOfItsChangesMade() throws Exception {
+        Path filePath = testFolder.resolve("siasa.json");
+        JsonSiasaStorage storage = new JsonSiasaStorage(filePath, Long.MAX_VALUE, Runnable::run);
+        ModelManager model = new ModelManager(getTypicalSiasa(), new UserPrefs());
+
+        storage.saveChanges(model.getSiasa(), Collections.emptyList());
+        model.addContact(HOON);
+        model.commitChanges();
+        storage.saveChanges(model.getSiasa(), model.takeAppliedChanges());
+        Siasa expected = new Siasa(model.getSiasa());
+        // removes the policies of the contact and then the contact
+        model.deleteContact(ALICE);
+        model.commitChanges();
+        storage.saveChanges(model.getSiasa(), model.takeAppliedChanges());
+
+        // the app stopped after writing all but the last change of the command
+        Path segmentPath = SiasaJournal.getSegmentPath(filePath, 0);
+        String journal = Files.readString(segmentPath);
+        Files.writeString(segmentPath, journal.substring(0, journal.lastIndexOf("{\"type\"")));
+
+        assertEquals(expected, new JsonSiasaStorage(filePath).readSiasa().get());
+    }
+
+    @Test
+    public void readSiasa_lastChangeCutOffWithinCharacter_ignored() throws Exception {
+        Path filePath = testFolder.resolve("siasa.json");
+        JsonSiasaStorage storage = new JsonSiasaStorage(filePath, Long.MAX_VALUE, Runnable::run);
+        ModelManager model = new ModelManager(getTypicalSiasa(), new UserPrefs());
+
+        storage.saveChanges(model.getSiasa(), Collections.emptyList());
+        model.addContact(HOON);
+        model.commitChanges();
+        storage.saveChanges(model.getSiasa(), model.takeAppliedChanges());
+        Siasa expected = new Siasa(model.getSiasa());
+        model.addContact(new ContactBuilder(IDA).withAddress("Caf\u00e9 street").build());
+        model.commitChanges();
+        storage.saveChanges(model.getSiasa(), model.takeAppliedChanges());
+
+        // the app stopped after writing the first byte of the two-byte character
+        Path segmentPath = SiasaJournal.getSegmentPath(filePath, 0);
+        byte[] bytes = Files.readAllBytes(segmentPath);
+        int cutOff = new String(bytes, StandardCharsets.ISO_8859_1).lastIndexOf('\u00c3') + 1;
+        Files.write(segmentPath, Arrays.copyOf(bytes, cutOff));
+
+        assertEquals(expected, new JsonSiasaStorage(filePath).readSiasa().get());
+    }
+
+    @Test
+    public void saveChanges_siasaReset_savedInFull() throws Exception {
+        Path filePath = testFolder.resolve("siasa.json");
+        JsonSiasaStorage storage = new JsonSiasaStorage(filePath, Long.MAX_VALUE, Runnable::run);
+        ModelManager model = new ModelManager(getTypicalSiasa(), new UserPrefs());
+
+        storage.saveChanges(model.getSiasa(), Collections.emptyList());
+        model.setSiasa(new Siasa());
+        model.commitChanges();
+        storage.saveChanges(model.getSiasa(), model.takeAppliedChanges());
+
+        assertFalse(Files.exists(SiasaJournal.getSegmentPath(filePath, 0)));
+        assertTrue(SiasaJournal.readRecords(filePath, 1).isEmpty());
+        assertEquals(new Siasa(), new JsonSiasaStorage(filePath).readSiasa().get());
+    }
+
+    @Test
+    public void saveSiasa_policies_referToOwnersById() throws Exception {
+        Path filePath = testFolder.resolve("siasa.json");
+        new JsonSiasaStorage(filePath).saveSiasa(getTypicalSiasa());
+
+        String json = FileUtil.readFromFile(filePath);
+        assertTrue(json.contains("\"formatVersion\" : " + JsonSerializableSiasa.FORMAT_VERSION));
+        assertTrue(json.contains("\"ownerId\""));
+        assertFalse(json.contains("\"owner\""));
+        assertEquals(getTypicalSiasa(), new JsonSiasaStorage(filePath).readSiasa().get());
+    }
+
+    @Test
+    public void readSiasa_legacyFormat_migrated() throws Exception {
+        Path filePath = testFolder.resolve("siasa.json");
+        Files.copy(LEGACY_FORMAT_FILE, filePath);
+
+        assertEquals(getTypicalSiasa(), new JsonSiasaStorage(filePath).readSiasa().get());
+        assertTrue(FileUtil.readFromFile(filePath).contains("\"ownerId\""));
+        assertEquals(FileUtil.readFromFile(LEGACY_FORMAT_FILE),
+                FileUtil.readFromFile(testFolder.resolve("siasa.json.v1.bak")));
+        assertEquals(getTypicalSiasa(), new JsonSiasaStorage(filePath).readSiasa().get());
+    }
+
+    @Test
+    public void readSiasa_legacyFormatOfOtherFile_notMigrated() throws Exception {
+        Path filePath = testFolder.resolve("siasa.json");
+        Files.copy(LEGACY_FORMAT_FILE, filePath);
+
+        new JsonSiasaStorage(testFolder.resolve("other.json")).readSiasa(filePath);
+        assertEquals(FileUtil.readFromFile(LEGACY_FORMAT_FILE), FileUtil.readFromFile(filePath));
+    }
+
     @Test
     public void saveSiasa_nullSiasa_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveSiasa(null, "SomeFile.json"));
@@ -0,0 +1,124 @@
+package seedu.siasa.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.siasa.testutil.Assert.assertThrows;
+import static seedu.siasa.testutil.TypicalSiasa.getTypicalSiasa;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.siasa.model.ReadOnlySiasa;
+import seedu.siasa.model.Siasa;
+
+public class WriteBehindSiasaSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private final Queue<Runnable> saves = new ArrayDeque<>();
+    private final List<ReadOnlySiasa> saved = new ArrayList<>();
+
+    @Test
+    public void requestSave_duringSave_coalescesIntoOneSave() {
+        WriteBehindSiasaSaver saver = new WriteBehindSiasaSaver(new RecordingStorageStub(), saves::add);
+        Siasa first = new Siasa();
+        Siasa second = getTypicalSiasa();
+        Siasa third = new Siasa();
+
+        saver.requestSave(first);
+        saver.requestSave(second);
+        saver.requestSave(third);
+        assertEquals(1, saves.size());
+
+        saves.remove().run();
+        assertEquals(Arrays.asList(third), saved);
+        assertTrue(saves.isEmpty());
+
+        // a new save is handed to the executor once the previous one completes
+        saver.requestSave(second);
+        saves.remove().run();
+        assertEquals(Arrays.asList(third, second), saved);
+    }
+
+    @Test
+    public void flush_afterRequests_savesLatestSiasa() throws Exception {
+        JsonSiasaStorage storage = new JsonSiasaStorage(testFolder.resolve("siasa.json"));
+        WriteBehindSiasaSaver saver = new WriteBehindSiasaSaver(storage);
+
+        saver.requestSave(new Siasa());
+        saver.requestSave(getTypicalSiasa());
+        saver.flush();
+        assertEquals(getTypicalSiasa(), storage.readSiasa().get());
+    }
+
+    @Test
+    public void requestSave_storageThrowsIoException_reportsFailure() {
+        WriteBehindSiasaSaver saver = new WriteBehindSiasaSaver(new IoExceptionThrowingStorageStub(), Runnable::run);
+        List<IOException> failures = new ArrayList<>();
+        saver.setFailureHandler(failures::add);
+
+        saver.requestSave(new Siasa());
+        assertEquals(Arrays.asList(DUMMY_IO_EXCEPTION), failures);
+        assertThrows(IOException.class, saver::flush);
+    }
+
+    @Test
+    public void flush_afterFailedSaveSucceeds_doesNotThrow() throws Exception {
+        IoExceptionThrowingStorageStub storage = new IoExceptionThrowingStorageStub();
+        WriteBehindSiasaSaver saver = new WriteBehindSiasaSaver(storage, Runnable::run);
+
+        saver.requestSave(new Siasa());
+        storage.isFailing = false;
+        saver.requestSave(new Siasa());
+        saver.flush();
+    }
+
+    /**
+     * A default storage stub that has all of its methods failing.
+     */
+    private static class StorageStub extends JsonSiasaStorage {
+        private StorageStub() {
+            super(Path.of("unused.json"));
+        }
+
+        @Override
+        public void saveSiasa(ReadOnlySiasa siasa, Path filePath) throws IOException {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+
+    /**
+     * A storage stub that records the SIASAs saved.
+     */
+    private class RecordingStorageStub extends StorageStub {
+        @Override
+        public void saveSiasa(ReadOnlySiasa siasa) {
+            saved.add(siasa);
+        }
+    }
+
+    /**
+     * A storage stub that throws an {@code IOException} when saving, until told otherwise.
+     */
+    private static class IoExceptionThrowingStorageStub extends StorageStub {
+        private boolean isFailing = true;
+
+        @Override
+        public void saveSiasa(ReadOnlySiasa siasa) throws IOException {
+            if (isFailing) {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Set;
 
 import seedu.siasa.model.contact.Address;
 import seedu.siasa.model.contact.Contact;
+import seedu.siasa.model.contact.ContactId;
 import seedu.siasa.model.contact.Email;
 import seedu.siasa.model.contact.Name;
 import seedu.siasa.model.contact.Phone;
@@ -21,6 +22,7 @@ public class ContactBuilder {
     public static final String DEFAULT_EMAIL = "amy@gmail.com";
     public static final String DEFAULT_ADDRESS = "123, Jurong West Ave 6, #08-111";
 
+    private ContactId id;
     private Name name;
     private Phone phone;
     private Email email;
@@ -31,6 +33,7 @@ public class ContactBuilder {
      * Creates a {@code ContactBuilder} with the default details.
      */
     public ContactBuilder() {
+        id = ContactId.generate();
         name = new Name(DEFAULT_NAME);
         phone = new Phone(DEFAULT_PHONE);
         email = new Email(DEFAULT_EMAIL);
@@ -42,6 +45,7 @@ public class ContactBuilder {
      * Initializes the ContactBuilder with the data of {@code contactToCopy}.
      */
     public ContactBuilder(Contact contactToCopy) {
+        id = contactToCopy.getId();
         name = contactToCopy.getName();
         phone = contactToCopy.getPhone();
         email = contactToCopy.getEmail();
@@ -90,7 +94,7 @@ public class ContactBuilder {
     }
 
     public Contact build() {
-        return new Contact(name, phone, email, address, tags);
+        return new Contact(id, name, phone, email, address, tags);
     }
 
 }